@@ -4,11 +4,15 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
 
 import io.javaoperatorsdk.operator.api.monitoring.Metrics;
 import io.javaoperatorsdk.operator.api.reconciler.RetryInfo;
 import io.javaoperatorsdk.operator.processing.event.Event;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.processing.ratelimit.CircuitBreaker;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 
@@ -52,11 +56,31 @@ public class MicrometerMetrics implements Metrics {
         event.getClass().getSimpleName());
   }
 
+  @Override
+  public void coalescedEvent(Event event) {
+    incrementCounter(event.getRelatedCustomResourceID(), "events.coalesced", "event",
+        event.getClass().getSimpleName());
+  }
+
   @Override
   public void cleanupDoneFor(ResourceID customResourceUid) {
     incrementCounter(customResourceUid, "events.delete");
   }
 
+  @Override
+  public void rateLimiterWait(String controllerName, String verb, long waitNanos) {
+    Timer.builder(PREFIX + "client.ratelimiter.wait")
+        .tags("controller", controllerName, "verb", verb)
+        .register(registry)
+        .record(waitNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void circuitBreakerTransition(CircuitBreaker.State from, CircuitBreaker.State to) {
+    registry.counter(PREFIX + "circuitbreaker.transitions", "from", from.name(), "to", to.name())
+        .increment();
+  }
+
   public void reconcileCustomResource(ResourceID resourceID,
       RetryInfo retryInfo) {
     incrementCounter(resourceID, RECONCILIATIONS + "started",
@@ -84,6 +108,39 @@ public class MicrometerMetrics implements Metrics {
     return registry.gaugeMapSize(PREFIX + name + ".size", Collections.emptyList(), map);
   }
 
+  @Override
+  public void monitorReconciliations(String controllerName, int maxConcurrentReconciliations,
+      IntSupplier running, IntSupplier queued) {
+    final var name = PREFIX + "controllers." + RECONCILIATIONS;
+    Gauge.builder(name + "running", running, IntSupplier::getAsInt)
+        .tag("controller", controllerName)
+        .strongReference(true)
+        .register(registry);
+    Gauge.builder(name + "queued", queued, IntSupplier::getAsInt)
+        .tag("controller", controllerName)
+        .strongReference(true)
+        .register(registry);
+    if (maxConcurrentReconciliations > 0) {
+      Gauge.builder(name + "limit", () -> maxConcurrentReconciliations)
+          .tag("controller", controllerName)
+          .register(registry);
+    }
+  }
+
+  @Override
+  public void monitorReconciliationGroups(String controllerName, IntSupplier queuedGroups,
+      IntSupplier largestGroupQueue) {
+    final var name = PREFIX + "controllers." + RECONCILIATIONS + "groups.";
+    Gauge.builder(name + "queued", queuedGroups, IntSupplier::getAsInt)
+        .tag("controller", controllerName)
+        .strongReference(true)
+        .register(registry);
+    Gauge.builder(name + "largest.queued", largestGroupQueue, IntSupplier::getAsInt)
+        .tag("controller", controllerName)
+        .strongReference(true)
+        .register(registry);
+  }
+
   private void incrementCounter(ResourceID id, String counterName, String... additionalTags) {
     var tags = List.of(
         "name", id.getName(),
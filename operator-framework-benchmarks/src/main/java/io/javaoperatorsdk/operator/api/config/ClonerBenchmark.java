@@ -0,0 +1,125 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.model.annotation.Group;
+import io.fabric8.kubernetes.model.annotation.Version;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Measures the throughput of the {@link Cloner} implementations on custom resources of about 1 KB,
+ * 10 KB and 50 KB once serialized. Run with {@code -prof gc} to measure the allocations along with
+ * the throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClonerBenchmark {
+
+  private static final int ITEM_SIZE = 256;
+
+  @Param({"json", "tokenBuffer", "convertValue", "reflective"})
+  String cloner;
+
+  @Param({"1024", "10240", "51200"})
+  int resourceSize;
+
+  private Cloner resourceCloner;
+  private BenchmarkResource resource;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    switch (cloner) {
+      case "json":
+        resourceCloner = ConfigurationService.DEFAULT_CLONER;
+        break;
+      case "tokenBuffer":
+        resourceCloner = new JacksonTokenBufferCloner();
+        break;
+      case "convertValue":
+        resourceCloner = new JacksonConvertValueCloner();
+        break;
+      case "reflective":
+        resourceCloner = new ReflectiveCloner();
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown cloner: " + cloner);
+    }
+    resource = new BenchmarkResource();
+    resource.setMetadata(new ObjectMetaBuilder().withName("resource").withNamespace("namespace")
+        .withResourceVersion("1").withGeneration(1L)
+        .withLabels(Map.of("app", "benchmark")).build());
+    for (int i = 0; i < resourceSize / ITEM_SIZE; i++) {
+      final var item = new Item();
+      item.name = "item-" + i;
+      item.replicas = i;
+      for (int j = 0; j < 4; j++) {
+        item.labels.put("label-" + j, "value-" + i + "-" + j);
+        item.values.add("some-value-" + i + "-" + j);
+      }
+      resource.getSpec().items.add(item);
+    }
+    final var size = new ObjectMapper().writeValueAsBytes(resource).length;
+    if (size < resourceSize / 2 || size > resourceSize * 2) {
+      throw new IllegalStateException("Resource of " + size + " bytes instead of " + resourceSize);
+    }
+  }
+
+  @Benchmark
+  public BenchmarkResource cloneResource() {
+    return resourceCloner.clone(resource);
+  }
+
+  @Group("benchmark.javaoperatorsdk.io")
+  @Version("v1")
+  public static class BenchmarkResource extends CustomResource<Spec, Status> {
+
+    @Override
+    protected Spec initSpec() {
+      return new Spec();
+    }
+
+    @Override
+    protected Status initStatus() {
+      return new Status();
+    }
+  }
+
+  public static class Spec {
+    public List<Item> items = new ArrayList<>();
+  }
+
+  public static class Item {
+    public String name;
+    public int replicas;
+    public Map<String, String> labels = new HashMap<>();
+    public List<String> values = new ArrayList<>();
+  }
+
+  public static class Status {
+    public Long observedGeneration;
+  }
+}
@@ -0,0 +1,82 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time needed to execute a burst of I/O bound reconciliations, simulated by sleeping,
+ * on the default fixed thread pool vs. on virtual threads with a concurrency limit. The
+ * {@code virtual} executor requires a JVM supporting virtual threads (Java 21+), the benchmark
+ * fails for it otherwise.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReconciliationExecutorBenchmark {
+
+  @Param({"fixed", "virtual"})
+  String executor;
+
+  @Param({"1000"})
+  int reconciliations;
+
+  @Param({"20"})
+  int ioMillis;
+
+  @Param({"200"})
+  int concurrencyLimit;
+
+  private ExecutorService executorService;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    if ("virtual".equals(executor)) {
+      executorService = VirtualThreadExecutorService.create(concurrencyLimit)
+          .orElseThrow(() -> new IllegalStateException(
+              "Virtual threads not supported by JVM " + Runtime.version()));
+    } else {
+      executorService =
+          Executors.newFixedThreadPool(ConfigurationService.DEFAULT_RECONCILIATION_THREADS_NUMBER);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Benchmark
+  public void reconcileBurst() throws InterruptedException {
+    final var done = new CountDownLatch(reconciliations);
+    for (int i = 0; i < reconciliations; i++) {
+      executorService.execute(() -> {
+        try {
+          Thread.sleep(ioMillis);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        done.countDown();
+      });
+    }
+    done.await();
+  }
+}
@@ -0,0 +1,133 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+import io.javaoperatorsdk.operator.processing.event.source.ResourceCache;
+
+/**
+ * Stubs shared by the event processing benchmarks, so the {@link EventProcessor} can be driven
+ * without a cluster: resources are served from an array and reconciliations are executed inline on
+ * the calling thread by a no-op dispatcher. Also measures the heap for the footprint reports.
+ */
+public class BenchmarkSupport {
+
+  private BenchmarkSupport() {}
+
+  /**
+   * @return the heap used after a few garbage collections, the lowest measured
+   */
+  public static long usedHeapAfterGC() throws InterruptedException {
+    final var runtime = Runtime.getRuntime();
+    long used = Long.MAX_VALUE;
+    for (int i = 0; i < 5; i++) {
+      System.gc();
+      Thread.sleep(100);
+      used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+    }
+    return used;
+  }
+
+  static ConfigMap[] resources(int resourceNumber) {
+    final var resources = new ConfigMap[resourceNumber];
+    for (int i = 0; i < resourceNumber; i++) {
+      resources[i] = new ConfigMapBuilder().withNewMetadata()
+          .withName("resource-" + i).withNamespace("namespace-" + (i % 100))
+          .withResourceVersion("1").withGeneration(1L)
+          .endMetadata().build();
+    }
+    return resources;
+  }
+
+  static ResourceID[] resourceIDs(ConfigMap[] resources) {
+    final var resourceIDs = new ResourceID[resources.length];
+    for (int i = 0; i < resources.length; i++) {
+      resourceIDs[i] = ResourceID.fromResource(resources[i]);
+    }
+    return resourceIDs;
+  }
+
+  static EventProcessor<ConfigMap> inlineEventProcessor(ConfigMap[] resources, int lockStripes,
+      EventSourceManager<ConfigMap> eventSourceManager) {
+    return new EventProcessor<>(new ArrayResourceCache(resources),
+        new CallerRunsExecutorService(), "benchmark",
+        new NoOpReconciliationDispatcher(), null, Metrics.NOOP, eventSourceManager,
+        new EventProcessorOptions<ConfigMap>().withLockStripes(lockStripes));
+  }
+
+  static class CallerRunsExecutorService extends AbstractExecutorService {
+
+    @Override
+    public void execute(Runnable command) {
+      command.run();
+    }
+
+    @Override
+    public void shutdown() {}
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      return List.of();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return false;
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return false;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+      return true;
+    }
+  }
+
+  static class NoOpReconciliationDispatcher extends ReconciliationDispatcher<ConfigMap> {
+
+    NoOpReconciliationDispatcher() {
+      super(null, (CustomResourceFacade<ConfigMap>) null);
+    }
+
+    @Override
+    public PostExecutionControl<ConfigMap> handleExecution(
+        ExecutionScope<ConfigMap> executionScope) {
+      return PostExecutionControl.defaultDispatch();
+    }
+  }
+
+  static class ArrayResourceCache implements ResourceCache<ConfigMap> {
+
+    private final ConfigMap[] resources;
+
+    ArrayResourceCache(ConfigMap[] resources) {
+      this.resources = resources;
+    }
+
+    @Override
+    public Optional<ConfigMap> get(ResourceID resourceID) {
+      final var name = resourceID.getName();
+      return Optional.of(resources[Integer.parseInt(name.substring(name.indexOf('-') + 1))]);
+    }
+
+    @Override
+    public Stream<ConfigMap> list(Predicate<ConfigMap> predicate) {
+      return Stream.of(resources).filter(predicate);
+    }
+
+    @Override
+    public Stream<ConfigMap> list(String namespace, Predicate<ConfigMap> predicate) {
+      return list(predicate.and(r -> namespace.equals(r.getMetadata().getNamespace())));
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+
+/**
+ * Measures how the throughput of {@link EventProcessor#handleEvent(Event)} scales with the number
+ * of threads delivering events, comparing a single lock (one stripe) with the striped default.
+ * Reconciliations are executed inline on the calling thread with a no-op dispatcher, so the
+ * benchmark only exercises the event processing bookkeeping and its locking.
+ *
+ * <p>
+ * Run with an increasing number of threads to observe the scaling, e.g.
+ * {@code java -jar target/benchmarks.jar EventProcessorContentionBenchmark -t 8}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventProcessorContentionBenchmark {
+
+  @Param({"1", "64"})
+  int lockStripes;
+
+  @Param({"40000"})
+  int resourceNumber;
+
+  private ResourceID[] resourceIDs;
+  private EventProcessor<ConfigMap> eventProcessor;
+  private EventSourceManager<ConfigMap> eventSourceManager;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final var resources = BenchmarkSupport.resources(resourceNumber);
+    resourceIDs = BenchmarkSupport.resourceIDs(resources);
+    eventSourceManager = new EventSourceManager<>((EventProcessor<ConfigMap>) null);
+    eventProcessor =
+        BenchmarkSupport.inlineEventProcessor(resources, lockStripes, eventSourceManager);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    eventSourceManager.retryEventSource().stop();
+  }
+
+  @Benchmark
+  public void handleEvent() {
+    final var id = resourceIDs[ThreadLocalRandom.current().nextInt(resourceIDs.length)];
+    eventProcessor.handleEvent(new Event(id));
+  }
+}
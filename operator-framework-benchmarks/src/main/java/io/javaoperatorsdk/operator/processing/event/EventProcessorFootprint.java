@@ -0,0 +1,46 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+
+/**
+ * Reports the heap retained by the per-resource bookkeeping of an {@link EventProcessor} once a
+ * given number of resources received an event and got reconciled. This is a footprint measurement,
+ * not a JMH benchmark, run it with a serial collector for stable numbers:
+ * {@code java -XX:+UseSerialGC -cp target/benchmarks.jar io.javaoperatorsdk.operator.processing.event.EventProcessorFootprint [resourceNumber]}
+ */
+public class EventProcessorFootprint {
+
+  public static void main(String[] args) throws InterruptedException {
+    final int resourceNumber = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+    final var resources = BenchmarkSupport.resources(resourceNumber);
+    final var resourceIDs = BenchmarkSupport.resourceIDs(resources);
+    final var eventSourceManager = new EventSourceManager<>((EventProcessor<ConfigMap>) null);
+    // a first pass on a throwaway processor so class loading and JIT don't distort the result
+    handleEvents(processor(resources, eventSourceManager), resourceIDs);
+
+    final var eventProcessor = processor(resources, eventSourceManager);
+    final long before = BenchmarkSupport.usedHeapAfterGC();
+    handleEvents(eventProcessor, resourceIDs);
+    final long after = BenchmarkSupport.usedHeapAfterGC();
+    eventSourceManager.retryEventSource().stop();
+
+    System.out.printf("resources: %d, retained: %d KiB, per resource: %d bytes%n",
+        resourceNumber, (after - before) / 1024, (after - before) / resourceNumber);
+    // keep the processor reachable until the measurement is done
+    System.out.println(eventProcessor.getClass().getSimpleName() + " measured");
+  }
+
+  private static EventProcessor<ConfigMap> processor(ConfigMap[] resources,
+      EventSourceManager<ConfigMap> eventSourceManager) {
+    return BenchmarkSupport.inlineEventProcessor(resources,
+        ConfigurationService.DEFAULT_EVENT_PROCESSING_LOCK_STRIPES, eventSourceManager);
+  }
+
+  private static void handleEvents(EventProcessor<ConfigMap> eventProcessor,
+      ResourceID[] resourceIDs) {
+    for (ResourceID resourceID : resourceIDs) {
+      eventProcessor.handleEvent(new Event(resourceID));
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package io.javaoperatorsdk.operator.processing.event.source;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ResourceCacheConfiguration;
+import io.javaoperatorsdk.operator.processing.event.BenchmarkSupport;
+
+/**
+ * Reports the heap and direct memory retained by a {@link ControllerResourceCache} of resources as
+ * applied with kubectl, pruned with {@link ResourcePruners#metadata()}, with the resources kept as
+ * is, compact on the heap or compact out of it, along with the time a full garbage collection takes
+ * with the cache alive. This is a footprint measurement, not a JMH benchmark, run it with a serial
+ * collector for stable numbers:
+ * {@code java -XX:+UseSerialGC -Xmx4g -cp target/benchmarks.jar io.javaoperatorsdk.operator.processing.event.source.CompactResourceCacheFootprint [resourceNumber]}
+ */
+public class CompactResourceCacheFootprint {
+
+  public static void main(String[] args) throws InterruptedException {
+    final int resourceNumber = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+    // a first pass so class loading and JIT don't distort the result
+    fill(new Cache<>(), 1_000, ResourceCacheConfiguration.offHeap(0));
+
+    report("default", resourceNumber, ResourceCacheConfiguration.DEFAULT);
+    report("compact", resourceNumber, ResourceCacheConfiguration.compact(0));
+    report("offHeap", resourceNumber, ResourceCacheConfiguration.offHeap(0));
+  }
+
+  private static void report(String name, int resourceNumber,
+      ResourceCacheConfiguration configuration) throws InterruptedException {
+    final var store = new Cache<ConfigMap>();
+    final long before = BenchmarkSupport.usedHeapAfterGC();
+    final long directBefore = usedDirectMemory();
+    final var cache = fill(store, resourceNumber, configuration);
+    final long after = BenchmarkSupport.usedHeapAfterGC();
+    final long direct = usedDirectMemory() - directBefore;
+    final long gcMillis = fullGCMillis();
+    System.out.printf(
+        "%s resources: %d, heap: %d KiB (%d bytes per resource), direct: %d KiB, full GC: %d ms%n",
+        name, cache.list().count(), (after - before) / 1024, (after - before) / resourceNumber,
+        direct / 1024, gcMillis);
+  }
+
+  private static ControllerResourceCache<ConfigMap> fill(Cache<ConfigMap> store,
+      int resourceNumber, ResourceCacheConfiguration configuration) {
+    final Map<String, SharedIndexInformer<ConfigMap>> informers = new HashMap<>();
+    informers.put(ControllerResourceEventSource.ANY_NAMESPACE_MAP_KEY,
+        ResourceCacheReadBenchmark.informer(store));
+    final CompactResourceStore<ConfigMap> compactStore =
+        configuration.isCompact() ? new CompactResourceStore<>(configuration) : null;
+    final var cache = new ControllerResourceCache<>(informers,
+        ConfigurationService.DEFAULT_CLONER, compactStore);
+    final ResourcePruner<ConfigMap> pruner = ResourcePruners.metadata();
+    for (int i = 0; i < resourceNumber; i++) {
+      final ConfigMap resource =
+          Serialization.unmarshal(ResourcePruningFootprint.json(i), ConfigMap.class);
+      store.put(resource);
+      pruner.prune(resource);
+      cache.onInformerEvent(resource);
+    }
+    return cache;
+  }
+
+  private static long fullGCMillis() {
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < 3; i++) {
+      final long start = System.nanoTime();
+      System.gc();
+      best = Math.min(best, System.nanoTime() - start);
+    }
+    return TimeUnit.NANOSECONDS.toMillis(best);
+  }
+
+  private static long usedDirectMemory() {
+    return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+        .filter(pool -> "direct".equals(pool.getName()))
+        .mapToLong(BufferPoolMXBean::getMemoryUsed)
+        .sum();
+  }
+}
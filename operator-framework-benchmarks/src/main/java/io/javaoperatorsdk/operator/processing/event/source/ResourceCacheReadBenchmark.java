@@ -0,0 +1,98 @@
+package io.javaoperatorsdk.operator.processing.event.source;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ResourceCacheConfiguration;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+/**
+ * Measures the lookup of a resource in the {@link ControllerResourceCache} done before each
+ * reconciliation, cloning it with the default cloner or handing the cached instance as done for
+ * controllers configured with read only resources, with the resources kept as is or compact, with
+ * or without hot resources. Run with {@code -prof gc} to measure the allocations along with the
+ * time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResourceCacheReadBenchmark {
+
+  private static final int ENTRY_SIZE = 128;
+
+  @Param({"51200"})
+  int resourceSize;
+
+  @Param({"default", "compact", "compactHot"})
+  String storage;
+
+  private ControllerResourceCache<ConfigMap> cache;
+  private ResourceID resourceID;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final var data = new HashMap<String, String>();
+    for (int i = 0; i < resourceSize / ENTRY_SIZE; i++) {
+      data.put("key-" + i, "v".repeat(ENTRY_SIZE));
+    }
+    final var resource = new ConfigMapBuilder().withNewMetadata()
+        .withName("resource").withNamespace("namespace")
+        .withResourceVersion("1").withGeneration(1L)
+        .endMetadata().withData(data).build();
+    resourceID = ResourceID.fromResource(resource);
+    final var store = new Cache<ConfigMap>();
+    store.put(resource);
+    final var compactStore = "default".equals(storage) ? null
+        : new CompactResourceStore<ConfigMap>(
+            ResourceCacheConfiguration.compact("compactHot".equals(storage) ? 1 : 0));
+    cache = new ControllerResourceCache<>(
+        Map.of(ControllerResourceEventSource.ANY_NAMESPACE_MAP_KEY, informer(store)),
+        ConfigurationService.DEFAULT_CLONER, compactStore);
+    cache.onInformerEvent(resource);
+  }
+
+  @SuppressWarnings("unchecked")
+  static SharedIndexInformer<ConfigMap> informer(Cache<ConfigMap> store) {
+    return (SharedIndexInformer<ConfigMap>) Proxy.newProxyInstance(
+        SharedIndexInformer.class.getClassLoader(), new Class<?>[] {SharedIndexInformer.class},
+        (proxy, method, args) -> {
+          if ("getStore".equals(method.getName()) || "getIndexer".equals(method.getName())) {
+            return store;
+          }
+          throw new UnsupportedOperationException(method.getName());
+        });
+  }
+
+  @Benchmark
+  public ConfigMap cloned() {
+    return cache.get(resourceID).orElseThrow();
+  }
+
+  @Benchmark
+  public ConfigMap readOnly() {
+    return cache.getReadOnly(resourceID).orElseThrow();
+  }
+}
@@ -0,0 +1,79 @@
+package io.javaoperatorsdk.operator.processing.event.source;
+
+import java.util.UUID;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.javaoperatorsdk.operator.processing.event.BenchmarkSupport;
+
+/**
+ * Reports the heap retained by an informer cache of resources as applied with kubectl, i.e. with
+ * managed fields and a last applied configuration annotation, with and without
+ * {@link ResourcePruners#metadata()}. The resources are deserialized one by one as done by an
+ * informer, so that they don't share any string. This is a footprint measurement, not a JMH
+ * benchmark, run it with a serial collector for stable numbers:
+ * {@code java -XX:+UseSerialGC -Xmx4g -cp target/benchmarks.jar io.javaoperatorsdk.operator.processing.event.source.ResourcePruningFootprint [resourceNumber]}
+ */
+public class ResourcePruningFootprint {
+
+  private static final int DATA_ENTRIES = 8;
+
+  public static void main(String[] args) throws InterruptedException {
+    final int resourceNumber = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+    // a first pass so class loading and JIT don't distort the result
+    fill(new Cache<>(), 1_000, ResourcePruners.metadata());
+
+    report("unpruned", resourceNumber, ResourcePruners.none());
+    report("pruned", resourceNumber, ResourcePruners.metadata());
+  }
+
+  private static void report(String name, int resourceNumber, ResourcePruner<ConfigMap> pruner)
+      throws InterruptedException {
+    final var store = new Cache<ConfigMap>();
+    final long before = BenchmarkSupport.usedHeapAfterGC();
+    fill(store, resourceNumber, pruner);
+    final long after = BenchmarkSupport.usedHeapAfterGC();
+    System.out.printf("%s resources: %d, retained: %d KiB, per resource: %d bytes%n",
+        name, store.list().size(), (after - before) / 1024, (after - before) / resourceNumber);
+  }
+
+  private static void fill(Cache<ConfigMap> store, int resourceNumber,
+      ResourcePruner<ConfigMap> pruner) {
+    for (int i = 0; i < resourceNumber; i++) {
+      final ConfigMap resource = Serialization.unmarshal(json(i), ConfigMap.class);
+      store.put(resource);
+      pruner.prune(resource);
+    }
+  }
+
+  static String json(int index) {
+    final var name = "resource-" + index;
+    final var data = new StringBuilder();
+    final var dataFields = new StringBuilder();
+    for (int i = 0; i < DATA_ENTRIES; i++) {
+      data.append(i == 0 ? "" : ",").append("\"key-").append(i).append("\":\"value-")
+          .append(index).append('-').append(i).append('"');
+      dataFields.append(i == 0 ? "" : ",").append("\"f:key-").append(i).append("\":{}");
+    }
+    final var lastApplied = "{\"apiVersion\":\"v1\",\"data\":{" + data
+        + "},\"kind\":\"ConfigMap\",\"metadata\":{\"annotations\":{},\"labels\":{\"app\":\"sample\"},"
+        + "\"name\":\"" + name + "\",\"namespace\":\"default\"}}";
+    return "{\"apiVersion\":\"v1\",\"kind\":\"ConfigMap\",\"metadata\":{"
+        + "\"name\":\"" + name + "\",\"namespace\":\"default\","
+        + "\"uid\":\"" + new UUID(index, index) + "\","
+        + "\"resourceVersion\":\"" + (1_000_000 + index) + "\","
+        + "\"creationTimestamp\":\"2021-12-01T10:00:00Z\","
+        + "\"labels\":{\"app\":\"sample\"},"
+        + "\"annotations\":{\"" + ResourcePruners.LAST_APPLIED_CONFIGURATION_ANNOTATION + "\":"
+        + Serialization.asJson(lastApplied) + "},"
+        + "\"managedFields\":[{\"apiVersion\":\"v1\",\"fieldsType\":\"FieldsV1\",\"fieldsV1\":{"
+        + "\"f:data\":{\".\":{}," + dataFields + "},"
+        + "\"f:metadata\":{\"f:annotations\":{\".\":{},"
+        + "\"f:kubectl.kubernetes.io/last-applied-configuration\":{}},"
+        + "\"f:labels\":{\".\":{},\"f:app\":{}}}},"
+        + "\"manager\":\"kubectl-client-side-apply\",\"operation\":\"Update\","
+        + "\"time\":\"2021-12-01T10:00:00Z\"}]},"
+        + "\"data\":{" + data + "}}";
+  }
+}
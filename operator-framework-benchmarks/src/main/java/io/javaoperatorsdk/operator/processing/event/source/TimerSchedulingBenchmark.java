@@ -0,0 +1,95 @@
+package io.javaoperatorsdk.operator.processing.event.source;
+
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of scheduling then cancelling a task, as done when a retry or a reschedule
+ * replaces the pending one of a resource, with a given number of tasks already pending, comparing
+ * {@link HashedWheelTimer} with {@link java.util.Timer}. The cancelled tasks of
+ * {@link java.util.Timer} stay in its heap until they expire, so its heap keeps growing during the
+ * measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class TimerSchedulingBenchmark {
+
+  private static final long MIN_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+  private static final long MAX_DELAY_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+  @Param({"wheel", "timer"})
+  String timer;
+
+  @Param({"1000000"})
+  int pending;
+
+  private HashedWheelTimer wheelTimer;
+  private Timer javaTimer;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    if ("wheel".equals(timer)) {
+      wheelTimer = new HashedWheelTimer("benchmark", HashedWheelTimer.DEFAULT_TICK_MILLIS,
+          HashedWheelTimer.DEFAULT_WHEEL_SIZE);
+      for (int i = 0; i < pending; i++) {
+        wheelTimer.schedule(TimerSchedulingBenchmark::noop, randomDelay());
+      }
+    } else {
+      javaTimer = new Timer(true);
+      for (int i = 0; i < pending; i++) {
+        javaTimer.schedule(new NoopTask(), randomDelay());
+      }
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (wheelTimer != null) {
+      wheelTimer.stop();
+    }
+    if (javaTimer != null) {
+      javaTimer.cancel();
+    }
+  }
+
+  @Benchmark
+  public boolean scheduleAndCancel() {
+    if (wheelTimer != null) {
+      return wheelTimer.schedule(TimerSchedulingBenchmark::noop, randomDelay()).cancel();
+    }
+    final var task = new NoopTask();
+    javaTimer.schedule(task, randomDelay());
+    return task.cancel();
+  }
+
+  private static long randomDelay() {
+    return ThreadLocalRandom.current().nextLong(MIN_DELAY_MILLIS, MAX_DELAY_MILLIS);
+  }
+
+  private static void noop() {}
+
+  private static class NoopTask extends TimerTask {
+    @Override
+    public void run() {}
+  }
+}
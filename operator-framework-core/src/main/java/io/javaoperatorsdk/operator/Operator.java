@@ -19,6 +19,7 @@ import io.javaoperatorsdk.operator.api.config.ExecutorServiceManager;
 import io.javaoperatorsdk.operator.api.reconciler.Reconciler;
 import io.javaoperatorsdk.operator.processing.Controller;
 import io.javaoperatorsdk.operator.processing.LifecycleAware;
+import io.javaoperatorsdk.operator.processing.ratelimit.CircuitBreaker;
 
 @SuppressWarnings("rawtypes")
 public class Operator implements AutoCloseable, LifecycleAware {
@@ -26,6 +27,7 @@ public class Operator implements AutoCloseable, LifecycleAware {
   private final KubernetesClient kubernetesClient;
   private final ConfigurationService configurationService;
   private final ControllerManager controllers = new ControllerManager();
+  private final CircuitBreaker.TransitionListener circuitBreakerMetrics;
 
   public Operator(ConfigurationService configurationService) {
     this(new DefaultKubernetesClient(), configurationService);
@@ -34,6 +36,8 @@ public class Operator implements AutoCloseable, LifecycleAware {
   public Operator(KubernetesClient kubernetesClient, ConfigurationService configurationService) {
     this.kubernetesClient = kubernetesClient;
     this.configurationService = configurationService;
+    this.circuitBreakerMetrics =
+        (from, to) -> configurationService.getMetrics().circuitBreakerTransition(from, to);
   }
 
   /** Adds a shutdown hook that automatically calls {@link #close()} when the app shuts down. */
@@ -86,6 +90,8 @@ public class Operator implements AutoCloseable, LifecycleAware {
     }
 
     ExecutorServiceManager.init(configurationService);
+    // removed on stop, so restarting the operator doesn't report the transitions twice
+    configurationService.getCircuitBreaker().addTransitionListener(circuitBreakerMetrics);
     controllers.start();
   }
 
@@ -95,6 +101,7 @@ public class Operator implements AutoCloseable, LifecycleAware {
         "Operator SDK {} is shutting down...", configurationService.getVersion().getSdkVersion());
 
     controllers.stop();
+    configurationService.getCircuitBreaker().removeTransitionListener(circuitBreakerMetrics);
 
     ExecutorServiceManager.stop();
     kubernetesClient.close();
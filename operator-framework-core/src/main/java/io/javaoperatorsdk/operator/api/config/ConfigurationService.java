@@ -1,5 +1,6 @@
 package io.javaoperatorsdk.operator.api.config;
 
+import java.nio.file.Path;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -9,6 +10,9 @@ import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.javaoperatorsdk.operator.api.monitoring.Metrics;
 import io.javaoperatorsdk.operator.api.reconciler.Reconciler;
+import io.javaoperatorsdk.operator.processing.ratelimit.CircuitBreaker;
+import io.javaoperatorsdk.operator.processing.ratelimit.ConcurrencyLimiter;
+import io.javaoperatorsdk.operator.processing.ratelimit.RateLimiter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -116,6 +120,99 @@ public interface ConfigurationService {
     return Metrics.NOOP;
   }
 
+  /**
+   * Retrieves the rate limiter applied to the requests the framework sends to the API server on
+   * behalf of all the controllers of the operator, such as resource and status updates. The same
+   * instance must be returned on each call, so that the budget is shared.
+   *
+   * @return the rate limiter, {@link RateLimiter#UNLIMITED} by default
+   */
+  default RateLimiter getRateLimiter() {
+    return RateLimiter.UNLIMITED;
+  }
+
+  /**
+   * Retrieves the limiter of the number of reconciliations running at the same time across all the
+   * controllers of the operator, on top of the limit of each controller. Using an
+   * {@link io.javaoperatorsdk.operator.processing.ratelimit.AdaptiveConcurrencyLimiter}, the whole
+   * operator backs off when the API server throttles its requests. The same instance must be
+   * returned on each call.
+   *
+   * @return the concurrency limiter, {@link ConcurrencyLimiter#UNLIMITED} by default
+   */
+  default ConcurrencyLimiter getConcurrencyLimiter() {
+    return ConcurrencyLimiter.UNLIMITED;
+  }
+
+  /**
+   * Retrieves the circuit breaker pausing the reconciliations of all the controllers of the
+   * operator while the API server fails most of the requests, see
+   * {@link io.javaoperatorsdk.operator.processing.ratelimit.FailureRateCircuitBreaker}. The same
+   * instance must be returned on each call.
+   *
+   * @return the circuit breaker, {@link CircuitBreaker#DISABLED} by default
+   */
+  default CircuitBreaker getCircuitBreaker() {
+    return CircuitBreaker.DISABLED;
+  }
+
+  /**
+   * Retrieves the directory where each controller keeps a snapshot of the fingerprints of the
+   * resources it reconciled, see
+   * {@link io.javaoperatorsdk.operator.processing.event.source.ReconciledFingerprints}. When the
+   * operator restarts, the resources listed by the informers which didn't change since their last
+   * successful reconciliation are then not reconciled again.
+   *
+   * @return the directory of the snapshots, or {@code null} (default) to reconcile all the
+   *         resources on start
+   */
+  default Path getReconciliationSnapshotDirectory() {
+    return null;
+  }
+
+  int DEFAULT_EVENT_PROCESSING_LOCK_STRIPES = 64;
+
+  /**
+   * Retrieves the number of locks used by each controller to guard the processing state of its
+   * resources. Events for resources which map to different locks are handled concurrently, so
+   * informer and timer threads don't wait on each other. Setting this value to {@code 1} serializes
+   * the event processing of a controller on a single lock.
+   *
+   * @return the number of lock stripes per controller
+   */
+  default int eventProcessingLockStripes() {
+    return DEFAULT_EVENT_PROCESSING_LOCK_STRIPES;
+  }
+
+  /**
+   * Whether reconciliations should each be executed on their own virtual thread instead of on the
+   * pool returned by {@link #getExecutorService()}. This suits reconcilers that mostly block on
+   * I/O, e.g. calls to the API server, since a blocked virtual thread doesn't hold a platform
+   * thread. Requires a JVM supporting virtual threads, the operator falls back to
+   * {@link #getExecutorService()} otherwise.
+   *
+   * @return {@code true} if reconciliations should run on virtual threads, {@code false} (default)
+   *         otherwise
+   */
+  default boolean useVirtualThreads() {
+    return false;
+  }
+
+  int NO_CONCURRENT_RECONCILIATION_LIMIT = -1;
+
+  /**
+   * Retrieves the maximum number of reconciliations running at the same time when
+   * {@link #useVirtualThreads()} is enabled. Since virtual threads are not pooled, this limit is
+   * what protects the API server from an unbounded number of concurrent requests. It is ignored
+   * when reconciliations run on {@link #getExecutorService()}, whose size already is the limit.
+   *
+   * @return the maximum number of concurrent reconciliations, or
+   *         {@link #NO_CONCURRENT_RECONCILIATION_LIMIT} (default) to not limit them
+   */
+  default int concurrentReconciliationLimit() {
+    return NO_CONCURRENT_RECONCILIATION_LIMIT;
+  }
+
   default ExecutorService getExecutorService() {
     return Executors.newFixedThreadPool(concurrentReconciliationThreads());
   }
@@ -1,11 +1,15 @@
 package io.javaoperatorsdk.operator.api.config;
 
+import java.nio.file.Path;
 import java.util.Set;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.Config;
 import io.javaoperatorsdk.operator.api.monitoring.Metrics;
 import io.javaoperatorsdk.operator.api.reconciler.Reconciler;
+import io.javaoperatorsdk.operator.processing.ratelimit.CircuitBreaker;
+import io.javaoperatorsdk.operator.processing.ratelimit.ConcurrencyLimiter;
+import io.javaoperatorsdk.operator.processing.ratelimit.RateLimiter;
 
 public class ConfigurationServiceOverrider {
   private final ConfigurationService original;
@@ -15,6 +19,13 @@ public class ConfigurationServiceOverrider {
   private int threadNumber;
   private Cloner cloner;
   private int timeoutSeconds;
+  private int lockStripes;
+  private boolean virtualThreads;
+  private int reconciliationLimit;
+  private RateLimiter rateLimiter;
+  private ConcurrencyLimiter concurrencyLimiter;
+  private CircuitBreaker circuitBreaker;
+  private Path reconciliationSnapshotDirectory;
 
   public ConfigurationServiceOverrider(
       ConfigurationService original) {
@@ -25,6 +36,13 @@ public class ConfigurationServiceOverrider {
     this.cloner = original.getResourceCloner();
     this.timeoutSeconds = original.getTerminationTimeoutSeconds();
     this.metrics = original.getMetrics();
+    this.lockStripes = original.eventProcessingLockStripes();
+    this.virtualThreads = original.useVirtualThreads();
+    this.reconciliationLimit = original.concurrentReconciliationLimit();
+    this.rateLimiter = original.getRateLimiter();
+    this.concurrencyLimiter = original.getConcurrencyLimiter();
+    this.circuitBreaker = original.getCircuitBreaker();
+    this.reconciliationSnapshotDirectory = original.getReconciliationSnapshotDirectory();
   }
 
 
@@ -58,6 +76,42 @@ public class ConfigurationServiceOverrider {
     return this;
   }
 
+  public ConfigurationServiceOverrider withEventProcessingLockStripes(int lockStripes) {
+    this.lockStripes = lockStripes;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withVirtualThreads(boolean useVirtualThreads) {
+    this.virtualThreads = useVirtualThreads;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withConcurrentReconciliationLimit(int limit) {
+    this.reconciliationLimit = limit;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withRateLimiter(RateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withConcurrencyLimiter(
+      ConcurrencyLimiter concurrencyLimiter) {
+    this.concurrencyLimiter = concurrencyLimiter;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withCircuitBreaker(CircuitBreaker circuitBreaker) {
+    this.circuitBreaker = circuitBreaker;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withReconciliationSnapshotDirectory(Path directory) {
+    this.reconciliationSnapshotDirectory = directory;
+    return this;
+  }
+
   public ConfigurationService build() {
     return new ConfigurationService() {
       @Override
@@ -105,6 +159,41 @@ public class ConfigurationServiceOverrider {
       public Metrics getMetrics() {
         return metrics;
       }
+
+      @Override
+      public int eventProcessingLockStripes() {
+        return lockStripes;
+      }
+
+      @Override
+      public boolean useVirtualThreads() {
+        return virtualThreads;
+      }
+
+      @Override
+      public int concurrentReconciliationLimit() {
+        return reconciliationLimit;
+      }
+
+      @Override
+      public RateLimiter getRateLimiter() {
+        return rateLimiter;
+      }
+
+      @Override
+      public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+      }
+
+      @Override
+      public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+      }
+
+      @Override
+      public Path getReconciliationSnapshotDirectory() {
+        return reconciliationSnapshotDirectory;
+      }
     };
   }
 
@@ -9,6 +9,8 @@ import io.fabric8.kubernetes.client.CustomResource;
 import io.javaoperatorsdk.operator.ControllerUtils;
 import io.javaoperatorsdk.operator.processing.event.source.ResourceEventFilter;
 import io.javaoperatorsdk.operator.processing.event.source.ResourceEventFilters;
+import io.javaoperatorsdk.operator.processing.event.source.ResourcePruner;
+import io.javaoperatorsdk.operator.processing.event.source.ResourcePruners;
 
 public interface ControllerConfiguration<R extends HasMetadata> {
 
@@ -94,6 +96,90 @@ public interface ControllerConfiguration<R extends HasMetadata> {
     return RetryConfiguration.DEFAULT;
   }
 
+  /**
+   * Retrieves the maximum number of reconciliations of the associated controller that can run at
+   * the same time on the operator's executor. Reconciliations over this limit are queued until a
+   * running one finishes, in the order defined by
+   * {@link #getReconciliationPriorityConfiguration()}. If no limit is set, the number of
+   * reconciliation threads of the operator is used, or
+   * {@link ConfigurationService#concurrentReconciliationLimit()} when reconciliations run on
+   * virtual threads, so that pending reconciliations are queued by the controller rather than by
+   * the executor.
+   *
+   * @return the maximum number of concurrent reconciliations, or
+   *         {@link ConfigurationService#NO_CONCURRENT_RECONCILIATION_LIMIT} (default) to use the
+   *         limit of the operator
+   */
+  default int getMaxConcurrentReconciliations() {
+    return ConfigurationService.NO_CONCURRENT_RECONCILIATION_LIMIT;
+  }
+
+  default ReconciliationPriorityConfiguration getReconciliationPriorityConfiguration() {
+    return ReconciliationPriorityConfiguration.DEFAULT;
+  }
+
+  default ReconciliationFairnessConfiguration getReconciliationFairnessConfiguration() {
+    return ReconciliationFairnessConfiguration.DEFAULT;
+  }
+
+  default ReschedulingConfiguration getReschedulingConfiguration() {
+    return ReschedulingConfiguration.DEFAULT;
+  }
+
+  /**
+   * Whether the resources handed to the reconciler are the instances of the cache of the controller
+   * instead of clones, which avoids cloning the resource on each reconciliation. The reconciler
+   * must then not modify the resource it receives, but the copy returned by
+   * {@link io.javaoperatorsdk.operator.api.reconciler.Context#getResourceForUpdate(HasMetadata)},
+   * so the resource is only cloned when it's actually updated.
+   *
+   * @return {@code true} if the reconciled resources are read only, {@code false} (default)
+   *         otherwise
+   */
+  default boolean isReadOnlyResources() {
+    return false;
+  }
+
+  /**
+   * Retrieves the pruner applied to the resources received by the informers of the controller
+   * before they are cached, to reduce the memory retained by the cache. The pruned fields are not
+   * visible to the reconciler either, see {@link ResourcePruner}.
+   *
+   * @return the pruner of the cached resources, {@link ResourcePruners#none()} by default
+   */
+  default ResourcePruner<R> getResourcePruner() {
+    return ResourcePruners.none();
+  }
+
+  default ResourceCacheConfiguration getResourceCacheConfiguration() {
+    return ResourceCacheConfiguration.DEFAULT;
+  }
+
+  /**
+   * Retrieves the debounce window of the associated controller: the reconciliation triggered by an
+   * event is delayed until no other event is received for the related resource during the window,
+   * all the events received meanwhile being collapsed into a single reconciliation. Deletions and
+   * timer events are not delayed.
+   *
+   * @return the debounce window in milliseconds, or
+   *         {@link io.javaoperatorsdk.operator.api.reconciler.ControllerConfiguration#NO_DEBOUNCE}
+   *         to reconcile as soon as possible
+   */
+  default long getDebounceWindowMillis() {
+    return io.javaoperatorsdk.operator.api.reconciler.ControllerConfiguration.NO_DEBOUNCE;
+  }
+
+  /**
+   * Retrieves the maximum time the debounce window can delay a reconciliation, counted from the
+   * first event of a burst. If lesser than the window, the window is not extended by subsequent
+   * events.
+   *
+   * @return the maximum debounce delay in milliseconds
+   */
+  default long getDebounceMaxWaitMillis() {
+    return io.javaoperatorsdk.operator.api.reconciler.ControllerConfiguration.NO_DEBOUNCE;
+  }
+
   ConfigurationService getConfigurationService();
 
   default void setConfigurationService(ConfigurationService service) {}
@@ -6,6 +6,7 @@ import java.util.Set;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.processing.event.source.ResourceEventFilter;
+import io.javaoperatorsdk.operator.processing.event.source.ResourcePruner;
 
 public class ControllerConfigurationOverrider<R extends HasMetadata> {
 
@@ -15,6 +16,15 @@ public class ControllerConfigurationOverrider<R extends HasMetadata> {
   private RetryConfiguration retry;
   private String labelSelector;
   private ResourceEventFilter<R> customResourcePredicate;
+  private int maxConcurrentReconciliations;
+  private ReconciliationPriorityConfiguration reconciliationPriority;
+  private ReconciliationFairnessConfiguration reconciliationFairness;
+  private long debounceWindowMillis;
+  private long debounceMaxWaitMillis;
+  private ReschedulingConfiguration rescheduling;
+  private boolean readOnlyResources;
+  private ResourcePruner<R> resourcePruner;
+  private ResourceCacheConfiguration resourceCache;
   private final ControllerConfiguration<R> original;
 
   private ControllerConfigurationOverrider(ControllerConfiguration<R> original) {
@@ -24,6 +34,15 @@ public class ControllerConfigurationOverrider<R extends HasMetadata> {
     retry = original.getRetryConfiguration();
     labelSelector = original.getLabelSelector();
     customResourcePredicate = original.getEventFilter();
+    maxConcurrentReconciliations = original.getMaxConcurrentReconciliations();
+    reconciliationPriority = original.getReconciliationPriorityConfiguration();
+    reconciliationFairness = original.getReconciliationFairnessConfiguration();
+    debounceWindowMillis = original.getDebounceWindowMillis();
+    debounceMaxWaitMillis = original.getDebounceMaxWaitMillis();
+    rescheduling = original.getReschedulingConfiguration();
+    readOnlyResources = original.isReadOnlyResources();
+    resourcePruner = original.getResourcePruner();
+    resourceCache = original.getResourceCacheConfiguration();
     this.original = original;
   }
 
@@ -74,6 +93,52 @@ public class ControllerConfigurationOverrider<R extends HasMetadata> {
     return this;
   }
 
+  public ControllerConfigurationOverrider<R> withMaxConcurrentReconciliations(
+      int maxConcurrentReconciliations) {
+    this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withReconciliationPriority(
+      ReconciliationPriorityConfiguration reconciliationPriority) {
+    this.reconciliationPriority = reconciliationPriority;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withReconciliationFairness(
+      ReconciliationFairnessConfiguration reconciliationFairness) {
+    this.reconciliationFairness = reconciliationFairness;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withDebounce(long windowMillis, long maxWaitMillis) {
+    this.debounceWindowMillis = windowMillis;
+    this.debounceMaxWaitMillis = maxWaitMillis;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withRescheduling(
+      ReschedulingConfiguration rescheduling) {
+    this.rescheduling = rescheduling;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withReadOnlyResources(boolean readOnlyResources) {
+    this.readOnlyResources = readOnlyResources;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withResourcePruner(ResourcePruner<R> resourcePruner) {
+    this.resourcePruner = resourcePruner;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withResourceCache(
+      ResourceCacheConfiguration resourceCache) {
+    this.resourceCache = resourceCache;
+    return this;
+  }
+
   public ControllerConfiguration<R> build() {
     return new DefaultControllerConfiguration<>(
         original.getAssociatedReconcilerClassName(),
@@ -86,6 +151,15 @@ public class ControllerConfigurationOverrider<R extends HasMetadata> {
         labelSelector,
         customResourcePredicate,
         original.getResourceClass(),
+        maxConcurrentReconciliations,
+        reconciliationPriority,
+        reconciliationFairness,
+        debounceWindowMillis,
+        debounceMaxWaitMillis,
+        rescheduling,
+        readOnlyResources,
+        resourcePruner,
+        resourceCache,
         original.getConfigurationService());
   }
 
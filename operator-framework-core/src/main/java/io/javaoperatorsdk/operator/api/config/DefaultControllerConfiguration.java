@@ -5,6 +5,7 @@ import java.util.Set;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.processing.event.source.ResourceEventFilter;
+import io.javaoperatorsdk.operator.processing.event.source.ResourcePruner;
 
 public class DefaultControllerConfiguration<R extends HasMetadata>
     implements ControllerConfiguration<R> {
@@ -20,6 +21,15 @@ public class DefaultControllerConfiguration<R extends HasMetadata>
   private final String labelSelector;
   private final ResourceEventFilter<R> resourceEventFilter;
   private final Class<R> resourceClass;
+  private final int maxConcurrentReconciliations;
+  private final ReconciliationPriorityConfiguration reconciliationPriorityConfiguration;
+  private final ReconciliationFairnessConfiguration reconciliationFairnessConfiguration;
+  private final long debounceWindowMillis;
+  private final long debounceMaxWaitMillis;
+  private final ReschedulingConfiguration reschedulingConfiguration;
+  private final boolean readOnlyResources;
+  private final ResourcePruner<R> resourcePruner;
+  private final ResourceCacheConfiguration resourceCacheConfiguration;
   private ConfigurationService service;
 
   public DefaultControllerConfiguration(
@@ -34,6 +44,35 @@ public class DefaultControllerConfiguration<R extends HasMetadata>
       ResourceEventFilter<R> resourceEventFilter,
       Class<R> resourceClass,
       ConfigurationService service) {
+    this(associatedControllerClassName, name, crdName, finalizer, generationAware, namespaces,
+        retryConfiguration, labelSelector, resourceEventFilter, resourceClass,
+        ConfigurationService.NO_CONCURRENT_RECONCILIATION_LIMIT, null, null,
+        io.javaoperatorsdk.operator.api.reconciler.ControllerConfiguration.NO_DEBOUNCE,
+        io.javaoperatorsdk.operator.api.reconciler.ControllerConfiguration.NO_DEBOUNCE, null,
+        false, null, null, service);
+  }
+
+  public DefaultControllerConfiguration(
+      String associatedControllerClassName,
+      String name,
+      String crdName,
+      String finalizer,
+      boolean generationAware,
+      Set<String> namespaces,
+      RetryConfiguration retryConfiguration,
+      String labelSelector,
+      ResourceEventFilter<R> resourceEventFilter,
+      Class<R> resourceClass,
+      int maxConcurrentReconciliations,
+      ReconciliationPriorityConfiguration reconciliationPriorityConfiguration,
+      ReconciliationFairnessConfiguration reconciliationFairnessConfiguration,
+      long debounceWindowMillis,
+      long debounceMaxWaitMillis,
+      ReschedulingConfiguration reschedulingConfiguration,
+      boolean readOnlyResources,
+      ResourcePruner<R> resourcePruner,
+      ResourceCacheConfiguration resourceCacheConfiguration,
+      ConfigurationService service) {
     this.associatedControllerClassName = associatedControllerClassName;
     this.name = name;
     this.crdName = crdName;
@@ -51,6 +90,29 @@ public class DefaultControllerConfiguration<R extends HasMetadata>
     this.resourceClass =
         resourceClass == null ? ControllerConfiguration.super.getResourceClass()
             : resourceClass;
+    this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+    this.reconciliationPriorityConfiguration =
+        reconciliationPriorityConfiguration == null
+            ? ControllerConfiguration.super.getReconciliationPriorityConfiguration()
+            : reconciliationPriorityConfiguration;
+    this.reconciliationFairnessConfiguration =
+        reconciliationFairnessConfiguration == null
+            ? ControllerConfiguration.super.getReconciliationFairnessConfiguration()
+            : reconciliationFairnessConfiguration;
+    this.debounceWindowMillis = debounceWindowMillis;
+    this.debounceMaxWaitMillis = debounceMaxWaitMillis;
+    this.reschedulingConfiguration =
+        reschedulingConfiguration == null
+            ? ControllerConfiguration.super.getReschedulingConfiguration()
+            : reschedulingConfiguration;
+    this.readOnlyResources = readOnlyResources;
+    this.resourcePruner =
+        resourcePruner == null ? ControllerConfiguration.super.getResourcePruner()
+            : resourcePruner;
+    this.resourceCacheConfiguration =
+        resourceCacheConfiguration == null
+            ? ControllerConfiguration.super.getResourceCacheConfiguration()
+            : resourceCacheConfiguration;
     setConfigurationService(service);
   }
 
@@ -122,4 +184,49 @@ public class DefaultControllerConfiguration<R extends HasMetadata>
   public ResourceEventFilter<R> getEventFilter() {
     return resourceEventFilter;
   }
+
+  @Override
+  public int getMaxConcurrentReconciliations() {
+    return maxConcurrentReconciliations;
+  }
+
+  @Override
+  public ReconciliationPriorityConfiguration getReconciliationPriorityConfiguration() {
+    return reconciliationPriorityConfiguration;
+  }
+
+  @Override
+  public ReconciliationFairnessConfiguration getReconciliationFairnessConfiguration() {
+    return reconciliationFairnessConfiguration;
+  }
+
+  @Override
+  public ReschedulingConfiguration getReschedulingConfiguration() {
+    return reschedulingConfiguration;
+  }
+
+  @Override
+  public boolean isReadOnlyResources() {
+    return readOnlyResources;
+  }
+
+  @Override
+  public ResourcePruner<R> getResourcePruner() {
+    return resourcePruner;
+  }
+
+  @Override
+  public ResourceCacheConfiguration getResourceCacheConfiguration() {
+    return resourceCacheConfiguration;
+  }
+
+  @Override
+  public long getDebounceWindowMillis() {
+    return debounceWindowMillis;
+  }
+
+  @Override
+  public long getDebounceMaxWaitMillis() {
+    return debounceMaxWaitMillis;
+  }
 }
@@ -4,8 +4,10 @@ import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -27,13 +29,28 @@ public class ExecutorServiceManager {
   public static void init(ConfigurationService configuration) {
     if (instance == null) {
       instance = new ExecutorServiceManager(
-          new InstrumentedExecutorService(configuration.getExecutorService()),
+          new InstrumentedExecutorService(createExecutorService(configuration)),
           configuration.getTerminationTimeoutSeconds());
     } else {
       log.debug("Already started, reusing already setup instance!");
     }
   }
 
+  private static ExecutorService createExecutorService(ConfigurationService configuration) {
+    if (configuration.useVirtualThreads()) {
+      final var virtualThreadExecutor =
+          VirtualThreadExecutorService.create(configuration.concurrentReconciliationLimit());
+      if (virtualThreadExecutor.isPresent()) {
+        log.debug("Using virtual threads for reconciliations, concurrency limit: {}",
+            configuration.concurrentReconciliationLimit());
+        return virtualThreadExecutor.get();
+      }
+      log.warn("Virtual threads are not supported by the running JVM ({}), "
+          + "falling back to the configured executor service", Runtime.version());
+    }
+    return configuration.getExecutorService();
+  }
+
   public static void stop() {
     if (instance != null) {
       instance.doStop();
@@ -51,6 +68,24 @@ public class ExecutorServiceManager {
     return instance;
   }
 
+  /**
+   * The executor running the tasks on the reconciliation executor service of the operator, resolved
+   * when each task is submitted, so it can be created before the operator is started. The tasks
+   * submitted while the operator is not started are rejected, as by a shut down executor service.
+   *
+   * @return the executor handing the tasks off to the reconciliation executor service
+   */
+  public static Executor reconciliationExecutor() {
+    return command -> {
+      final var current = instance;
+      if (current == null) {
+        throw new RejectedExecutionException(
+            "ExecutorServiceManager is not started, rejecting task " + command);
+      }
+      current.executorService().execute(command);
+    };
+  }
+
   public ExecutorService executorService() {
     return executor;
   }
@@ -0,0 +1,33 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link Cloner} converting the resource to its own type with
+ * {@link ObjectMapper#convertValue(Object, Class)}, which goes through a buffer of JSON tokens like
+ * {@link JacksonTokenBufferCloner}.
+ */
+public class JacksonConvertValueCloner implements Cloner {
+
+  private final ObjectMapper objectMapper;
+
+  public JacksonConvertValueCloner() {
+    this(new ObjectMapper());
+  }
+
+  public JacksonConvertValueCloner(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <R extends HasMetadata> R clone(R object) {
+    try {
+      return (R) objectMapper.convertValue(object, object.getClass());
+    } catch (IllegalArgumentException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.io.IOException;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * {@link Cloner} serializing the resource to a buffer of JSON tokens then deserializing it, so
+ * unlike {@link ConfigurationService#DEFAULT_CLONER}, no JSON text is generated then parsed.
+ */
+public class JacksonTokenBufferCloner implements Cloner {
+
+  private final ObjectMapper objectMapper;
+
+  public JacksonTokenBufferCloner() {
+    this(new ObjectMapper());
+  }
+
+  public JacksonTokenBufferCloner(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <R extends HasMetadata> R clone(R object) {
+    try (var buffer = new TokenBuffer(objectMapper, false)) {
+      objectMapper.writeValue(buffer, object);
+      try (var parser = buffer.asParser()) {
+        return (R) objectMapper.readValue(parser, object.getClass());
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
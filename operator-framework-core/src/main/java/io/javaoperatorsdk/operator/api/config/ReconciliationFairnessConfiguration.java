@@ -0,0 +1,46 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+/**
+ * Configures how the pending reconciliations of a controller are shared between groups of
+ * resources, by default the namespaces. Each group gets its own queue and the queues are served
+ * using deficit round-robin: per round, a group dispatches as many reconciliations as its weight.
+ * This way, a tenant creating a large number of resources doesn't delay the reconciliations of the
+ * resources of other tenants.
+ */
+public interface ReconciliationFairnessConfiguration {
+
+  ReconciliationFairnessConfiguration DEFAULT = new ReconciliationFairnessConfiguration() {};
+
+  int DEFAULT_WEIGHT = 1;
+
+  /**
+   * Retrieves the key of the group a resource belongs to.
+   *
+   * @param resourceID the resource
+   * @return the key of the group, the namespace of the resource by default, cluster scoped
+   *         resources using the empty string
+   */
+  default String keyOf(ResourceID resourceID) {
+    return resourceID.getNamespace().orElse("");
+  }
+
+  /**
+   * @param key the key of a group
+   * @return the number of reconciliations of the group dispatched per round
+   */
+  default int weightOf(String key) {
+    return DEFAULT_WEIGHT;
+  }
+
+  /**
+   * @param key the key of a group
+   * @return the maximum number of reconciliations of the group running at the same time, or
+   *         {@link ConfigurationService#NO_CONCURRENT_RECONCILIATION_LIMIT} (default) to only apply
+   *         the limit of the controller
+   */
+  default int maxConcurrentReconciliations(String key) {
+    return ConfigurationService.NO_CONCURRENT_RECONCILIATION_LIMIT;
+  }
+}
@@ -0,0 +1,40 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import io.javaoperatorsdk.operator.processing.event.ReconciliationPriority;
+
+/**
+ * Configures the order in which the pending reconciliations of a controller are dispatched. A
+ * reconciliation is dispatched before the ones with a higher rank. Waiting reconciliations age: for
+ * every aging interval spent waiting, a reconciliation competes as if it had one rank less, so low
+ * priority reconciliations are not starved by a steady flow of higher priority ones.
+ */
+public interface ReconciliationPriorityConfiguration {
+
+  ReconciliationPriorityConfiguration DEFAULT = new ReconciliationPriorityConfiguration() {};
+
+  /**
+   * A minute, so a resync only goes before a deletion after waiting for five minutes with the
+   * default ranks: a short interval would let any backlog of a few seconds outrank the fresh
+   * deletions and spec changes.
+   */
+  long DEFAULT_AGING_INTERVAL_MILLIS = 60_000L;
+
+  /**
+   * Retrieves the rank of the specified class of reconciliations, lower ranks are dispatched first.
+   * Defaults to the declaration order of {@link ReconciliationPriority}, returning the same rank
+   * for all the classes dispatches reconciliations in the order they were triggered.
+   *
+   * @param priority the class of reconciliations
+   * @return the rank of the class
+   */
+  default int rankOf(ReconciliationPriority priority) {
+    return priority.ordinal();
+  }
+
+  /**
+   * @return the time a reconciliation needs to wait to be dispatched as if it had one rank less
+   */
+  default long getAgingIntervalMillis() {
+    return DEFAULT_AGING_INTERVAL_MILLIS;
+  }
+}
@@ -0,0 +1,188 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * {@link Cloner} copying the resource field by field, without going through JSON. It supports the
+ * classes of the fabric8 model and custom resources built alike: classes with a no-arg constructor
+ * whose fields hold immutable values, such as strings, boxed primitives, enums and
+ * {@code java.time} values, lists, sets, maps, arrays, {@link JsonNode}s or other such classes. The
+ * collections are copied into instances of their own class if it's public and has a public no-arg
+ * constructor, sorted ones keeping their comparator, so they still fit the fields they're set to.
+ * The fields of each class are looked up once. Unlike the Jackson based cloners, all the fields are
+ * copied, including the ones ignored when serializing.
+ */
+public class ReflectiveCloner implements Cloner {
+
+  private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Boolean.class,
+      Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class,
+      Double.class, BigInteger.class, BigDecimal.class, UUID.class);
+
+  private final Map<Class<?>, ClassCopier> copiers = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Optional<Constructor<?>>> collectionConstructors =
+      new ConcurrentHashMap<>();
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <R extends HasMetadata> R clone(R object) {
+    return (R) copy(object);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object copy(Object value) {
+    if (value == null) {
+      return null;
+    }
+    final var type = value.getClass();
+    if (IMMUTABLE_TYPES.contains(type) || type.isEnum()
+        || type.getName().startsWith("java.time.")) {
+      return value;
+    }
+    if (value instanceof EnumSet) {
+      return ((EnumSet<?>) value).clone();
+    }
+    if (value instanceof List || value instanceof Set) {
+      final var collection = (Collection<?>) value;
+      final Collection<Object> copy = value instanceof List
+          ? newCollection(value, () -> new ArrayList<>(collection.size()))
+          : newCollection(value, () -> new LinkedHashSet<>(collection.size() * 4 / 3 + 1));
+      for (var element : collection) {
+        copy.add(copy(element));
+      }
+      return copy;
+    }
+    if (value instanceof Map) {
+      final var map = (Map<?, ?>) value;
+      final Map<Object, Object> copy = value instanceof EnumMap
+          ? (Map<Object, Object>) ((EnumMap<?, ?>) value).clone()
+          : newCollection(value, () -> new LinkedHashMap<>(map.size() * 4 / 3 + 1));
+      for (var entry : map.entrySet()) {
+        copy.put(copy(entry.getKey()), copy(entry.getValue()));
+      }
+      return copy;
+    }
+    if (value instanceof JsonNode) {
+      return ((JsonNode) value).deepCopy();
+    }
+    if (type.isArray()) {
+      return copyArray(value);
+    }
+    if (type.getName().startsWith("java.")) {
+      throw new IllegalStateException("Can't clone value of type " + type.getName());
+    }
+    return copiers.computeIfAbsent(type, ClassCopier::new).copy(value);
+  }
+
+  /**
+   * @return an empty collection or map of the class of the specified one, or the default one if it
+   *         can't be instantiated, such as the unmodifiable ones
+   */
+  @SuppressWarnings("unchecked")
+  private <T> T newCollection(Object collection, Supplier<T> defaultCollection) {
+    if (collection instanceof SortedMap) {
+      return (T) new TreeMap<>(((SortedMap<Object, ?>) collection).comparator());
+    }
+    if (collection instanceof SortedSet) {
+      return (T) new TreeSet<>(((SortedSet<Object>) collection).comparator());
+    }
+    final var constructor = collectionConstructors
+        .computeIfAbsent(collection.getClass(), ReflectiveCloner::publicNoArgConstructor);
+    if (constructor.isEmpty()) {
+      return defaultCollection.get();
+    }
+    try {
+      return (T) constructor.get().newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Optional<Constructor<?>> publicNoArgConstructor(Class<?> type) {
+    if (!Modifier.isPublic(type.getModifiers()) || Modifier.isAbstract(type.getModifiers())) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(type.getConstructor());
+    } catch (NoSuchMethodException e) {
+      return Optional.empty();
+    }
+  }
+
+  private Object copyArray(Object array) {
+    final var componentType = array.getClass().getComponentType();
+    final var length = Array.getLength(array);
+    final var copy = Array.newInstance(componentType, length);
+    if (componentType.isPrimitive()) {
+      System.arraycopy(array, 0, copy, 0, length);
+    } else {
+      for (int i = 0; i < length; i++) {
+        Array.set(copy, i, copy(Array.get(array, i)));
+      }
+    }
+    return copy;
+  }
+
+  private class ClassCopier {
+    private final Constructor<?> constructor;
+    private final Field[] fields;
+
+    private ClassCopier(Class<?> type) {
+      try {
+        constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+      } catch (NoSuchMethodException | RuntimeException e) {
+        throw new IllegalStateException("Can't clone value of type " + type.getName()
+            + ", a no-arg constructor is required", e);
+      }
+      final var instanceFields = new ArrayList<Field>();
+      for (Class<?> current = type; current != Object.class; current =
+          current.getSuperclass()) {
+        for (var field : current.getDeclaredFields()) {
+          if (!Modifier.isStatic(field.getModifiers())) {
+            field.setAccessible(true);
+            instanceFields.add(field);
+          }
+        }
+      }
+      fields = instanceFields.toArray(new Field[0]);
+    }
+
+    private Object copy(Object value) {
+      try {
+        final var copy = constructor.newInstance();
+        for (var field : fields) {
+          field.set(copy, ReflectiveCloner.this.copy(field.get(value)));
+        }
+        return copy;
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+/**
+ * Configures how the delays requested with
+ * {@link io.javaoperatorsdk.operator.api.reconciler.BaseControl#rescheduleAfter(long)} are adjusted
+ * before being scheduled. Resources reconciled at the same time, typically when the operator
+ * starts, are otherwise rescheduled at the same time forever. By default, the delays are used as
+ * is.
+ */
+public interface ReschedulingConfiguration {
+
+  ReschedulingConfiguration DEFAULT = new ReschedulingConfiguration() {};
+
+  int NO_JITTER = 0;
+
+  /**
+   * @return the maximum percentage of the delay randomly added or removed, or {@link #NO_JITTER}
+   *         (default). Combined with {@link #isPhaseSpread()}, the jitter is a fixed offset of the
+   *         phase of each resource instead, so that a resource is still reconciled once per period.
+   */
+  default int getJitterPercentage() {
+    return NO_JITTER;
+  }
+
+  /**
+   * Spreads the reschedules of the resources across the period: each resource is rescheduled at the
+   * times which, modulo the delay, equal a phase derived from its {@link ResourceID}. The delay is
+   * adjusted to the next of these times at least half a delay away, so that a timer firing slightly
+   * before the phase, the wall clock and the timer drifting apart, doesn't trigger another
+   * reconciliation right away. A resource is thus reconciled at most half a delay later than
+   * requested, and the phase being deterministic, it is kept across restarts of the operator.
+   *
+   * @return {@code true} to spread the reschedules, {@code false} (default) otherwise
+   */
+  default boolean isPhaseSpread() {
+    return false;
+  }
+
+  /**
+   * @param resourceID the rescheduled resource
+   * @param delayMillis the delay requested by the reconciler
+   * @param nowMillis the current wall clock time
+   * @return the delay to schedule the reconciliation with
+   */
+  default long rescheduleDelay(ResourceID resourceID, long delayMillis, long nowMillis) {
+    if (delayMillis <= 0) {
+      return delayMillis;
+    }
+    if (isPhaseSpread()) {
+      return phaseDelay(resourceID, delayMillis, nowMillis);
+    }
+    var delay = delayMillis;
+    final var maxJitter = delay * getJitterPercentage() / 100;
+    if (maxJitter > 0) {
+      delay += ThreadLocalRandom.current().nextLong(-Math.min(maxJitter, delay - 1),
+          maxJitter + 1);
+    }
+    return delay;
+  }
+
+  private long phaseDelay(ResourceID resourceID, long delayMillis, long nowMillis) {
+    final var hash = mix(resourceID.hashCode());
+    var phase = hash;
+    final var maxJitter = delayMillis * getJitterPercentage() / 100;
+    if (maxJitter > 0) {
+      // a random jitter would move the phase on every reschedule
+      phase += Math.floorMod(mix(hash), 2 * maxJitter + 1) - maxJitter;
+    }
+    var delay = Math.floorMod(Math.floorMod(phase, delayMillis) - nowMillis, delayMillis);
+    if (delay == 0 || delay < delayMillis / 2) {
+      delay += delayMillis;
+    }
+    return delay;
+  }
+
+  /**
+   * Scrambles the bits of the hash code, as resources named alike have close hash codes.
+   */
+  private static long mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+  static ReschedulingConfiguration of(int jitterPercentage, boolean phaseSpread) {
+    if (jitterPercentage < 0 || jitterPercentage > 100) {
+      throw new IllegalArgumentException(
+          "Jitter percentage must be between 0 and 100, got: " + jitterPercentage);
+    }
+    return new ReschedulingConfiguration() {
+      @Override
+      public int getJitterPercentage() {
+        return jitterPercentage;
+      }
+
+      @Override
+      public boolean isPhaseSpread() {
+        return phaseSpread;
+      }
+    };
+  }
+}
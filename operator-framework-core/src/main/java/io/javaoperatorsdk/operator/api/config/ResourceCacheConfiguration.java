@@ -0,0 +1,80 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.util.function.Supplier;
+
+import io.javaoperatorsdk.operator.processing.event.source.HeapSerializedResourceStore;
+import io.javaoperatorsdk.operator.processing.event.source.OffHeapSerializedResourceStore;
+import io.javaoperatorsdk.operator.processing.event.source.SerializedResourceStore;
+
+/**
+ * Configures how the cache of a controller keeps its resources. By default, the informers keep the
+ * resources as they are deserialized. With a compact cache, the informers only keep their metadata
+ * while the resources are kept as compressed JSON, deserialized when read: this trades CPU for
+ * memory when the controller handles many resources. Deserialized resources are kept in a small
+ * cache of hot resources, so that resources read repeatedly are not deserialized each time. The
+ * compressed resources are kept on the heap by default, or out of it with {@link #offHeap(int)} so
+ * that they don't add to the work of the garbage collector.
+ *
+ * <p>
+ * With a compact cache, the stores of the informers of the controller only hold the metadata of the
+ * resources, and so do the previous resources the event filters receive, the resources read with
+ * {@link io.javaoperatorsdk.operator.processing.event.source.ControllerResourceCache} are complete.
+ */
+public interface ResourceCacheConfiguration {
+
+  ResourceCacheConfiguration DEFAULT = new ResourceCacheConfiguration() {};
+
+  /**
+   * @return {@code true} if the cache keeps the resources as compressed JSON, {@code false}
+   *         (default) otherwise
+   */
+  default boolean isCompact() {
+    return false;
+  }
+
+  /**
+   * @return the number of deserialized resources kept by a compact cache, {@code 0} by default
+   */
+  default int getHotResources() {
+    return 0;
+  }
+
+  /**
+   * @return a new store for the compressed resources of a compact cache, on the heap by default
+   */
+  default SerializedResourceStore newSerializedResourceStore() {
+    return new HeapSerializedResourceStore();
+  }
+
+  static ResourceCacheConfiguration compact(int hotResources) {
+    return compact(hotResources, HeapSerializedResourceStore::new);
+  }
+
+  static ResourceCacheConfiguration offHeap(int hotResources) {
+    return compact(hotResources, OffHeapSerializedResourceStore::new);
+  }
+
+  static ResourceCacheConfiguration compact(int hotResources,
+      Supplier<SerializedResourceStore> serializedResourceStore) {
+    if (hotResources < 0) {
+      throw new IllegalArgumentException(
+          "Hot resources must be positive or zero, got: " + hotResources);
+    }
+    return new ResourceCacheConfiguration() {
+      @Override
+      public boolean isCompact() {
+        return true;
+      }
+
+      @Override
+      public int getHotResources() {
+        return hotResources;
+      }
+
+      @Override
+      public SerializedResourceStore newSerializedResourceStore() {
+        return serializedResourceStore.get();
+      }
+    };
+  }
+}
@@ -1,7 +1,25 @@
 package io.javaoperatorsdk.operator.api.config;
 
+import io.javaoperatorsdk.operator.processing.retry.RetryClassifier;
+
 public interface RetryConfiguration {
 
+  /**
+   * Randomization of the backoff delays, so that resources which failed together, for example
+   * during an outage of the API server, are not retried together.
+   */
+  enum Jitter {
+    /** The delays grow exponentially, without randomization. */
+    NONE,
+    /** Each delay is picked randomly between zero and the exponentially growing delay. */
+    FULL,
+    /**
+     * Each delay is picked randomly between the initial interval and three times the previous
+     * delay, so the delays of the resources drift apart from each other.
+     */
+    DECORRELATED
+  }
+
   RetryConfiguration DEFAULT = new DefaultRetryConfiguration();
 
   int DEFAULT_MAX_ATTEMPTS = 5;
@@ -23,4 +41,12 @@ public interface RetryConfiguration {
   default long getMaxInterval() {
     return (long) (DEFAULT_INITIAL_INTERVAL * Math.pow(DEFAULT_MULTIPLIER, DEFAULT_MAX_ATTEMPTS));
   }
+
+  default Jitter getJitter() {
+    return Jitter.NONE;
+  }
+
+  default RetryClassifier getRetryClassifier() {
+    return RetryClassifier.DEFAULT;
+  }
 }
@@ -0,0 +1,111 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes each submitted task on its own virtual thread, optionally limiting the number of tasks
+ * running at the same time. The limit is enforced with a semaphore acquired on the virtual thread
+ * itself, so submitting never blocks the caller: tasks over the limit are parked, which is cheap
+ * for virtual threads, until a permit is released.
+ * <p>
+ * Virtual threads are looked up reflectively, since the SDK still targets Java 11. Use
+ * {@link #create(int)} which returns an empty optional if the running JVM doesn't support them.
+ */
+class VirtualThreadExecutorService extends AbstractExecutorService {
+
+  private static final Logger log = LoggerFactory.getLogger(VirtualThreadExecutorService.class);
+
+  private final ExecutorService executor;
+  private final Semaphore semaphore;
+
+  VirtualThreadExecutorService(ExecutorService executor, int concurrencyLimit) {
+    this.executor = executor;
+    this.semaphore = concurrencyLimit > 0 ? new Semaphore(concurrencyLimit) : null;
+  }
+
+  /**
+   * Creates a new executor running each task on a new virtual thread.
+   *
+   * @param concurrencyLimit the maximum number of tasks running at the same time, a value lesser or
+   *        equal to zero meaning no limit
+   * @return the executor or an empty optional if virtual threads are not available in the running
+   *         JVM
+   */
+  static Optional<ExecutorService> create(int concurrencyLimit) {
+    return newVirtualThreadPerTaskExecutor()
+        .map(executor -> new VirtualThreadExecutorService(executor, concurrencyLimit));
+  }
+
+  private static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+    try {
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return Optional.of((ExecutorService) factory.invoke(null));
+    } catch (NoSuchMethodException e) {
+      return Optional.empty();
+    } catch (InvocationTargetException e) {
+      // preview feature not enabled on JVMs where virtual threads are not final yet
+      log.debug("Virtual threads not available", e.getCause());
+      return Optional.empty();
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    if (semaphore == null) {
+      executor.execute(command);
+    } else {
+      executor.execute(() -> {
+        try {
+          semaphore.acquire();
+        } catch (InterruptedException e) {
+          // interrupted by a shutdownNow while waiting for a permit, so don't execute
+          Thread.currentThread().interrupt();
+          return;
+        }
+        try {
+          command.run();
+        } finally {
+          semaphore.release();
+        }
+      });
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    return executor.shutdownNow();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return executor.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return executor.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return executor.awaitTermination(timeout, unit);
+  }
+}
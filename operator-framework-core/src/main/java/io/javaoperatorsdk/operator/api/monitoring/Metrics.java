@@ -1,16 +1,26 @@
 package io.javaoperatorsdk.operator.api.monitoring;
 
 import java.util.Map;
+import java.util.function.IntSupplier;
 
 import io.javaoperatorsdk.operator.api.reconciler.RetryInfo;
 import io.javaoperatorsdk.operator.processing.event.Event;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.processing.ratelimit.CircuitBreaker;
 
 public interface Metrics {
   Metrics NOOP = new Metrics() {};
 
   default void receivedEvent(Event event) {}
 
+  /**
+   * Called when an event is received for a resource which already has a pending reconciliation, so
+   * that the event doesn't trigger a reconciliation of its own.
+   *
+   * @param event the coalesced event
+   */
+  default void coalescedEvent(Event event) {}
+
   default void reconcileCustomResource(ResourceID resourceID,
       RetryInfo retryInfo) {}
 
@@ -19,6 +29,25 @@ public interface Metrics {
 
   default void cleanupDoneFor(ResourceID customResourceUid) {}
 
+  /**
+   * Records the time a request to the API server waited for the
+   * {@link io.javaoperatorsdk.operator.processing.ratelimit.RateLimiter}.
+   *
+   * @param controllerName the name of the controller issuing the request
+   * @param verb the kind of request
+   * @param waitNanos the time waited in nanoseconds
+   */
+  default void rateLimiterWait(String controllerName, String verb, long waitNanos) {}
+
+  /**
+   * Called when the {@link io.javaoperatorsdk.operator.processing.ratelimit.CircuitBreaker} of the
+   * operator changes state.
+   *
+   * @param from the previous state
+   * @param to the new state
+   */
+  default void circuitBreakerTransition(CircuitBreaker.State from, CircuitBreaker.State to) {}
+
   default void finishedReconciliation(ResourceID resourceID) {}
 
 
@@ -39,4 +68,31 @@ public interface Metrics {
   default <T extends Map<?, ?>> T monitorSizeOf(T map, String name) {
     return map;
   }
+
+  /**
+   * Registers the saturation of the reconciliations of a controller: the number of reconciliations
+   * currently running and the number of reconciliations waiting for one of them to finish.
+   *
+   * @param controllerName the name of the monitored controller
+   * @param maxConcurrentReconciliations the concurrency limit of the controller, a value lesser or
+   *        equal to zero meaning no limit
+   * @param running supplies the number of running reconciliations
+   * @param queued supplies the number of queued reconciliations
+   */
+  default void monitorReconciliations(String controllerName, int maxConcurrentReconciliations,
+      IntSupplier running, IntSupplier queued) {}
+
+  /**
+   * Registers the state of the groups of resources pending reconciliations of a controller are
+   * queued in, see
+   * {@link io.javaoperatorsdk.operator.api.config.ReconciliationFairnessConfiguration}. Groups are
+   * reported as aggregates rather than one by one, since their keys are not bounded.
+   *
+   * @param controllerName the name of the monitored controller
+   * @param queuedGroups supplies the number of groups with queued reconciliations
+   * @param largestGroupQueue supplies the number of queued reconciliations of the group with the
+   *        most of them
+   */
+  default void monitorReconciliationGroups(String controllerName, IntSupplier queuedGroups,
+      IntSupplier largestGroupQueue) {}
 }
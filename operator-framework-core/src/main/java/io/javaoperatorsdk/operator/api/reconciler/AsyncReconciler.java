@@ -0,0 +1,47 @@
+package io.javaoperatorsdk.operator.api.reconciler;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+/**
+ * Reconciler which doesn't block a thread of the operator while waiting on external systems: the
+ * framework calls {@link #reconcileAsync(HasMetadata, Context)} and processes the returned
+ * {@link UpdateControl} once the stage completes, so a few threads can drive many concurrent
+ * reconciliations.
+ * <p>
+ * The guarantees of the synchronous processing are kept: a resource is not reconciled again until
+ * its stage completed and the resulting updates are done. Resources marked for deletion are handed
+ * to {@link #cleanup(HasMetadata, Context)} synchronously.
+ */
+public interface AsyncReconciler<R extends HasMetadata> extends Reconciler<R> {
+
+  /**
+   * The same rules as for {@link Reconciler#reconcile(HasMetadata, Context)} apply. The resource
+   * and status updates requested by the returned {@link UpdateControl} are done on a thread of the
+   * operator, not on the thread completing the stage. A stage completed exceptionally is handled as
+   * an exception thrown by {@link Reconciler#reconcile(HasMetadata, Context)}.
+   *
+   * @param resource the resource that has been created or updated
+   * @param context the context with which the operation is executed
+   * @return a stage completed with the {@link UpdateControl} of the reconciliation
+   */
+  CompletionStage<UpdateControl<R>> reconcileAsync(R resource, Context context);
+
+  /**
+   * Waits for the completion of {@link #reconcileAsync(HasMetadata, Context)}, the framework
+   * doesn't call this method.
+   */
+  @Override
+  default UpdateControl<R> reconcile(R resource, Context context) {
+    try {
+      return reconcileAsync(resource, context).toCompletableFuture().join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package io.javaoperatorsdk.operator.api.reconciler;
+
+import java.util.List;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+/**
+ * Reconciler handling several resources in a single call, for example to push their state to an
+ * external system with a bulk API. Resources ready to be reconciled are accumulated until the batch
+ * holds {@link #getMaxBatchSize()} resources or {@link #getBatchLingerMillis()} elapsed since the
+ * first one was added, then handed to {@link #reconcileBatch(List, List)}.
+ * <p>
+ * The guarantees of the per resource processing are kept: a resource is part of at most one batch
+ * at a time, and events received for a resource of a pending or running batch trigger a new
+ * reconciliation once the batch is finished. Resources marked for deletion are not batched, they
+ * are handed to {@link #cleanup(HasMetadata, Context)} one by one, nor are resources to which the
+ * finalizer still needs to be added.
+ */
+public interface BatchReconciler<R extends HasMetadata> extends Reconciler<R> {
+
+  int DEFAULT_MAX_BATCH_SIZE = 50;
+  long DEFAULT_BATCH_LINGER_MILLIS = 100L;
+
+  /**
+   * Reconciles the specified resources. The same rules as for
+   * {@link Reconciler#reconcile(HasMetadata, Context)} apply to each resource. If this method
+   * throws, the reconciliation of all the resources of the batch is considered failed and retried
+   * according to the retry configuration of the controller.
+   *
+   * @param resources the resources to reconcile
+   * @param contexts the context of each resource, in the same order
+   * @return the {@link UpdateControl} of each resource, in the same order
+   */
+  List<UpdateControl<R>> reconcileBatch(List<R> resources, List<Context> contexts);
+
+  @Override
+  default UpdateControl<R> reconcile(R resource, Context context) {
+    return reconcileBatch(List.of(resource), List.of(context)).get(0);
+  }
+
+  /**
+   * @return the maximum number of resources reconciled in a single call
+   */
+  default int getMaxBatchSize() {
+    return DEFAULT_MAX_BATCH_SIZE;
+  }
+
+  /**
+   * @return the maximum time a resource waits for the batch to fill up before being reconciled
+   */
+  default long getBatchLingerMillis() {
+    return DEFAULT_BATCH_LINGER_MILLIS;
+  }
+}
@@ -2,8 +2,25 @@ package io.javaoperatorsdk.operator.api.reconciler;
 
 import java.util.Optional;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
 public interface Context {
 
   Optional<RetryInfo> getRetryInfo();
 
+  /**
+   * Returns the resource to modify in order to request its update. When the controller is
+   * configured with
+   * {@link io.javaoperatorsdk.operator.api.config.ControllerConfiguration#isReadOnlyResources()},
+   * the reconciled resource is shared with the cache of the controller, so a clone of it is
+   * returned, otherwise the resource itself is.
+   *
+   * @param resource the reconciled resource
+   * @param <R> the type of the resource
+   * @return the resource which can be modified
+   */
+  default <R extends HasMetadata> R getResourceForUpdate(R resource) {
+    return resource;
+  }
+
 }
@@ -5,6 +5,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ReschedulingConfiguration;
 import io.javaoperatorsdk.operator.processing.event.source.ResourceEventFilter;
 
 @Retention(RetentionPolicy.RUNTIME)
@@ -14,6 +16,7 @@ public @interface ControllerConfiguration {
   String EMPTY_STRING = "";
   String WATCH_CURRENT_NAMESPACE = "JOSDK_WATCH_CURRENT";
   String NO_FINALIZER = "JOSDK_NO_FINALIZER";
+  long NO_DEBOUNCE = 0L;
 
   String name() default EMPTY_STRING;
 
@@ -60,4 +63,105 @@ public @interface ControllerConfiguration {
    */
   @SuppressWarnings("rawtypes")
   Class<ResourceEventFilter>[] eventFilters() default {};
+
+  /**
+   * Optional maximum number of reconciliations of this controller running at the same time. This
+   * acts as a bulkhead: a slow controller can't use more than its share of the operator's executor,
+   * so it doesn't starve the other controllers. Reconciliations over the limit are queued. By
+   * default, the limit is the number of reconciliation threads of the operator, or its
+   * {@link ConfigurationService#concurrentReconciliationLimit()} when reconciliations run on
+   * virtual threads.
+   *
+   * @return the maximum number of concurrent reconciliations for this controller
+   */
+  int maxConcurrentReconciliations() default ConfigurationService.NO_CONCURRENT_RECONCILIATION_LIMIT;
+
+  /**
+   * Optional debounce window. If set, the reconciliation triggered by an event is delayed until no
+   * other event is received for the related resource during the window, so that a burst of updates
+   * results in a single reconciliation. Deletions and timer events are not delayed. By default,
+   * events are not debounced.
+   *
+   * @return the debounce window in milliseconds
+   */
+  long debounceWindowMillis() default NO_DEBOUNCE;
+
+  /**
+   * Optional maximum time a reconciliation can be delayed by the debounce window, counted from the
+   * first event of the burst, so that a resource updated continuously still gets reconciled. By
+   * default, or if lesser than the window, the window is not extended by subsequent events.
+   *
+   * @return the maximum debounce delay in milliseconds
+   */
+  long debounceMaxWaitMillis() default NO_DEBOUNCE;
+
+  /**
+   * Optional jitter applied to the delays requested with {@link BaseControl#rescheduleAfter(long)},
+   * so that resources reconciled at the same time are not rescheduled at the same time forever. By
+   * default, the delays are used as is.
+   *
+   * @return the maximum percentage of the delay randomly added or removed
+   */
+  int rescheduleJitterPercentage() default ReschedulingConfiguration.NO_JITTER;
+
+  /**
+   * Optionally spreads the reschedules of the resources across the requested delay, using a phase
+   * derived from the identifier of each resource, see
+   * {@link ReschedulingConfiguration#isPhaseSpread()}.
+   *
+   * @return {@code true} to spread the reschedules
+   */
+  boolean reschedulePhaseSpread() default false;
+
+  /**
+   * Optionally hands the reconciler the resources of the cache of the controller instead of clones,
+   * see
+   * {@link io.javaoperatorsdk.operator.api.config.ControllerConfiguration#isReadOnlyResources()}.
+   *
+   * @return {@code true} if the reconciler doesn't modify the resources it receives
+   */
+  boolean readOnlyResources() default false;
+
+  /**
+   * Optionally removes the managed fields of the resources before they are cached by the informers
+   * of the controller, see
+   * {@link io.javaoperatorsdk.operator.api.config.ControllerConfiguration#getResourcePruner()}.
+   *
+   * @return {@code true} to prune the managed fields
+   */
+  boolean pruneManagedFields() default false;
+
+  /**
+   * Optional annotations removed from the resources before they are cached by the informers of the
+   * controller, typically
+   * {@link io.javaoperatorsdk.operator.processing.event.source.ResourcePruners#LAST_APPLIED_CONFIGURATION_ANNOTATION}.
+   * The pruned annotations are removed from the cluster if the reconciler updates the resource.
+   *
+   * @return the annotations to prune
+   */
+  String[] prunedAnnotations() default {};
+
+  /**
+   * Optionally keeps the resources of the cache of the controller as compressed JSON, see
+   * {@link io.javaoperatorsdk.operator.api.config.ResourceCacheConfiguration}.
+   *
+   * @return {@code true} to keep the cached resources compact
+   */
+  boolean compactResourceCache() default false;
+
+  /**
+   * Number of deserialized resources kept by a compact cache, ignored if the cache is not compact.
+   *
+   * @return the number of hot resources
+   */
+  int compactResourceCacheHotResources() default 0;
+
+  /**
+   * Optionally keeps the compressed resources of a compact cache out of the heap, ignored if the
+   * cache is not compact, see
+   * {@link io.javaoperatorsdk.operator.api.config.ResourceCacheConfiguration#offHeap(int)}.
+   *
+   * @return {@code true} to keep the compressed resources out of the heap
+   */
+  boolean compactResourceCacheOffHeap() default false;
 }
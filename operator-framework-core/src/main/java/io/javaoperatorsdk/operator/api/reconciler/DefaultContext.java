@@ -2,16 +2,31 @@ package io.javaoperatorsdk.operator.api.reconciler;
 
 import java.util.Optional;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.Cloner;
+
 public class DefaultContext implements Context {
 
   private final RetryInfo retryInfo;
+  // null when the reconciled resource is not shared with the cache
+  private final Cloner cloner;
 
   public DefaultContext(RetryInfo retryInfo) {
+    this(retryInfo, null);
+  }
+
+  public DefaultContext(RetryInfo retryInfo, Cloner cloner) {
     this.retryInfo = retryInfo;
+    this.cloner = cloner;
   }
 
   @Override
   public Optional<RetryInfo> getRetryInfo() {
     return Optional.ofNullable(retryInfo);
   }
+
+  @Override
+  public <R extends HasMetadata> R getResourceForUpdate(R resource) {
+    return cloner != null ? cloner.clone(resource) : resource;
+  }
 }
@@ -1,6 +1,8 @@
 package io.javaoperatorsdk.operator.processing;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletionStage;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
@@ -13,6 +15,8 @@ import io.javaoperatorsdk.operator.MissingCRDException;
 import io.javaoperatorsdk.operator.OperatorException;
 import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
 import io.javaoperatorsdk.operator.api.monitoring.Metrics.ControllerExecution;
+import io.javaoperatorsdk.operator.api.reconciler.AsyncReconciler;
+import io.javaoperatorsdk.operator.api.reconciler.BatchReconciler;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.api.reconciler.DeleteControl;
 import io.javaoperatorsdk.operator.api.reconciler.EventSourceInitializer;
@@ -95,6 +99,57 @@ public class Controller<R extends HasMetadata> implements Reconciler<R>,
         });
   }
 
+  public CompletionStage<UpdateControl<R>> reconcileAsync(R resource, Context context) {
+    // only the start of the reconciliation is timed, the stage completes later
+    return configuration.getConfigurationService().getMetrics().timeControllerExecution(
+        new ControllerExecution<>() {
+          @Override
+          public String name() {
+            return "createOrUpdateAsync";
+          }
+
+          @Override
+          public String controllerName() {
+            return configuration.getName();
+          }
+
+          @Override
+          public String successTypeName(CompletionStage<UpdateControl<R>> result) {
+            return "async";
+          }
+
+          @Override
+          public CompletionStage<UpdateControl<R>> execute() {
+            return ((AsyncReconciler<R>) reconciler).reconcileAsync(resource, context);
+          }
+        });
+  }
+
+  public List<UpdateControl<R>> reconcileBatch(List<R> resources, List<Context> contexts) {
+    return configuration.getConfigurationService().getMetrics().timeControllerExecution(
+        new ControllerExecution<>() {
+          @Override
+          public String name() {
+            return "createOrUpdateBatch";
+          }
+
+          @Override
+          public String controllerName() {
+            return configuration.getName();
+          }
+
+          @Override
+          public String successTypeName(List<UpdateControl<R>> result) {
+            return "batch";
+          }
+
+          @Override
+          public List<UpdateControl<R>> execute() {
+            return ((BatchReconciler<R>) reconciler).reconcileBatch(resources, contexts);
+          }
+        });
+  }
+
   @Override
   public void prepareEventSources(EventSourceRegistry<R> eventSourceRegistry) {
     throw new UnsupportedOperationException("This method should never be called directly");
@@ -3,15 +3,29 @@ package io.javaoperatorsdk.operator.processing.event;
 public class Event {
 
   private final ResourceID relatedCustomResource;
+  private final ReconciliationPriority priority;
 
   public Event(ResourceID targetCustomResource) {
+    this(targetCustomResource, ReconciliationPriority.SECONDARY_RESOURCE);
+  }
+
+  public Event(ResourceID targetCustomResource, ReconciliationPriority priority) {
     this.relatedCustomResource = targetCustomResource;
+    this.priority = priority;
   }
 
   public ResourceID getRelatedCustomResourceID() {
     return relatedCustomResource;
   }
 
+  /**
+   * @return the class of the reconciliation triggered by this event, used to dispatch pending
+   *         reconciliations
+   */
+  public ReconciliationPriority getPriority() {
+    return priority;
+  }
+
   @Override
   public String toString() {
     return "DefaultEvent{" +
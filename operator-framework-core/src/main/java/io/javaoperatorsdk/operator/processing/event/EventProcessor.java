@@ -1,13 +1,16 @@
 package io.javaoperatorsdk.operator.processing.event;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,15 +18,23 @@ import org.slf4j.LoggerFactory;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.OperatorException;
 import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
 import io.javaoperatorsdk.operator.api.config.ExecutorServiceManager;
+import io.javaoperatorsdk.operator.api.config.ReconciliationPriorityConfiguration;
+import io.javaoperatorsdk.operator.api.config.ReschedulingConfiguration;
 import io.javaoperatorsdk.operator.api.monitoring.Metrics;
-import io.javaoperatorsdk.operator.api.reconciler.RetryInfo;
+import io.javaoperatorsdk.operator.api.reconciler.AsyncReconciler;
+import io.javaoperatorsdk.operator.api.reconciler.BatchReconciler;
 import io.javaoperatorsdk.operator.processing.LifecycleAware;
 import io.javaoperatorsdk.operator.processing.MDCUtils;
+import io.javaoperatorsdk.operator.processing.event.source.HashedWheelTimer;
+import io.javaoperatorsdk.operator.processing.event.source.ReconciledFingerprints;
 import io.javaoperatorsdk.operator.processing.event.source.ResourceAction;
 import io.javaoperatorsdk.operator.processing.event.source.ResourceCache;
 import io.javaoperatorsdk.operator.processing.event.source.ResourceEvent;
 import io.javaoperatorsdk.operator.processing.event.source.TimerEventSource;
+import io.javaoperatorsdk.operator.processing.ratelimit.ConcurrencyLimiter;
+import io.javaoperatorsdk.operator.processing.ratelimit.ThrottlingUtils;
 import io.javaoperatorsdk.operator.processing.retry.GenericRetry;
 import io.javaoperatorsdk.operator.processing.retry.Retry;
 import io.javaoperatorsdk.operator.processing.retry.RetryExecution;
@@ -33,36 +44,54 @@ import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.get
 
 /**
  * Event handler that makes sure that events are processed in a "single threaded" way per resource
- * UID, while buffering events which are received during an execution.
+ * UID, while buffering events which are received during an execution. The per-resource state is
+ * guarded by a {@link StripedLock}, so events related to different resources don't contend on a
+ * single lock.
+ * <p>
+ * If a debounce window is configured, the submission of a reconciliation triggered by an event is
+ * delayed until no other event is received for the resource during the window, capped by the
+ * configured maximum wait, so that a burst of events is collapsed into a single reconciliation.
  */
 class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAware {
 
   private static final Logger log = LoggerFactory.getLogger(EventProcessor.class);
 
-  private final Set<ResourceID> underProcessing = new HashSet<>();
   private final ReconciliationDispatcher<R> reconciliationDispatcher;
   private final Retry retry;
-  private final Map<ResourceID, RetryExecution> retryState = new HashMap<>();
   private final ExecutorService executor;
+  private final ReconciliationScheduler scheduler;
+  private final ConcurrencyLimiter concurrencyLimiter;
+  private final ReconciliationPriorityConfiguration priorityConfiguration;
   private final String controllerName;
-  private final ReentrantLock lock = new ReentrantLock();
+  private final StripedLock lock;
   private final Metrics metrics;
   private volatile boolean running;
   private final ResourceCache<R> resourceCache;
   private final EventSourceManager<R> eventSourceManager;
-  private final EventMarker eventMarker = new EventMarker();
+  private final ResourceStateManager resourceStateManager = new ResourceStateManager();
+  private final long debounceWindowNanos;
+  private final long debounceMaxWaitNanos;
+  private final HashedWheelTimer timer = HashedWheelTimer.shared();
+  private final ReconciliationBatcher<BatchedExecution> batcher;
+  private final boolean asynchronous;
+  private final ReschedulingConfiguration reschedulingConfiguration;
+  private final boolean readOnlyResources;
+  private final ReconciledFingerprints<R> reconciledFingerprints;
+
 
   EventProcessor(EventSourceManager<R> eventSourceManager) {
     this(
         eventSourceManager.getControllerResourceEventSource().getResourceCache(),
         ExecutorServiceManager.instance().executorService(),
         eventSourceManager.getController().getConfiguration().getName(),
-        new ReconciliationDispatcher<>(eventSourceManager.getController()),
+        new ReconciliationDispatcher<>(eventSourceManager.getController(),
+            eventSourceManager.getControllerResourceEventSource().getResourceCache()),
         GenericRetry.fromConfiguration(
             eventSourceManager.getController().getConfiguration().getRetryConfiguration()),
         eventSourceManager.getController().getConfiguration().getConfigurationService()
             .getMetrics(),
-        eventSourceManager);
+        eventSourceManager,
+        options(eventSourceManager));
   }
 
   EventProcessor(ReconciliationDispatcher<R> reconciliationDispatcher,
@@ -70,70 +99,238 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
       String relatedControllerName,
       Retry retry) {
     this(eventSourceManager.getControllerResourceEventSource().getResourceCache(), null,
-        relatedControllerName,
-        reconciliationDispatcher, retry, null, eventSourceManager);
+        relatedControllerName, reconciliationDispatcher, retry, null, eventSourceManager,
+        new EventProcessorOptions<>());
   }
 
-  private EventProcessor(ResourceCache<R> resourceCache, ExecutorService executor,
+  EventProcessor(ResourceCache<R> resourceCache, ExecutorService executor,
       String relatedControllerName,
       ReconciliationDispatcher<R> reconciliationDispatcher, Retry retry, Metrics metrics,
-      EventSourceManager<R> eventSourceManager) {
+      EventSourceManager<R> eventSourceManager, EventProcessorOptions<R> options) {
     this.running = true;
-    this.executor =
-        executor == null
-            ? new ScheduledThreadPoolExecutor(
-                ConfigurationService.DEFAULT_RECONCILIATION_THREADS_NUMBER)
-            : executor;
+    this.lock = new StripedLock(options.getLockStripes());
+    this.metrics = metrics != null ? metrics : Metrics.NOOP;
+    this.executor = executor == null
+        ? new ScheduledThreadPoolExecutor(
+            ConfigurationService.DEFAULT_RECONCILIATION_THREADS_NUMBER)
+        : executor;
+    this.scheduler = new ReconciliationScheduler(this.executor,
+        options.getMaxConcurrentReconciliations(), options.getPriorityConfiguration(),
+        options.getFairnessConfiguration(), relatedControllerName, this.metrics,
+        options.getConcurrencyLimiter());
+    this.concurrencyLimiter = options.getConcurrencyLimiter();
+    this.priorityConfiguration = options.getPriorityConfiguration();
     this.controllerName = relatedControllerName;
     this.reconciliationDispatcher = reconciliationDispatcher;
     this.retry = retry;
     this.resourceCache = resourceCache;
-    this.metrics = metrics != null ? metrics : Metrics.NOOP;
+    this.metrics.monitorReconciliations(relatedControllerName,
+        options.getMaxConcurrentReconciliations(), scheduler::running, scheduler::queued);
     this.eventSourceManager = eventSourceManager;
+    final var debounceWindowMillis = options.getDebounceWindowMillis();
+    this.debounceWindowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, debounceWindowMillis));
+    this.debounceMaxWaitNanos = TimeUnit.MILLISECONDS.toNanos(
+        Math.max(debounceWindowMillis, options.getDebounceMaxWaitMillis()));
+    this.batcher = options.isBatching()
+        ? new ReconciliationBatcher<>(options.getMaxBatchSize(), options.getBatchLingerMillis(),
+            this::submitBatch, this.executor)
+        : null;
+    this.asynchronous = options.isAsynchronous();
+    this.reschedulingConfiguration = options.getReschedulingConfiguration();
+    this.readOnlyResources = options.isReadOnlyResources();
+    this.reconciledFingerprints = options.getReconciledFingerprints();
+  }
+
+  private static <R extends HasMetadata> EventProcessorOptions<R> options(
+      EventSourceManager<R> eventSourceManager) {
+    final var configuration = eventSourceManager.getController().getConfiguration();
+    final var configurationService = configuration.getConfigurationService();
+    final var options = new EventProcessorOptions<R>()
+        .withLockStripes(configurationService.eventProcessingLockStripes())
+        .withMaxConcurrentReconciliations(maxConcurrentReconciliations(configuration))
+        .withPriorityConfiguration(configuration.getReconciliationPriorityConfiguration())
+        .withFairnessConfiguration(configuration.getReconciliationFairnessConfiguration())
+        .withDebounce(configuration.getDebounceWindowMillis(),
+            configuration.getDebounceMaxWaitMillis())
+        .withConcurrencyLimiter(configurationService.getCircuitBreaker()
+            .guard(configurationService.getConcurrencyLimiter()))
+        .withReschedulingConfiguration(configuration.getReschedulingConfiguration())
+        .withReadOnlyResources(configuration.isReadOnlyResources())
+        .withReconciledFingerprints(
+            eventSourceManager.getControllerResourceEventSource().getReconciledFingerprints());
+    final var reconciler = eventSourceManager.getController().getReconciler();
+    if (reconciler instanceof BatchReconciler) {
+      final var batchReconciler = (BatchReconciler<R>) reconciler;
+      options.withBatching(batchReconciler.getMaxBatchSize(),
+          batchReconciler.getBatchLingerMillis());
+    } else if (reconciler instanceof AsyncReconciler) {
+      options.withAsyncReconciliation();
+    }
+    return options;
+  }
+
+  private Optional<R> cachedResource(ResourceID resourceID) {
+    return readOnlyResources ? resourceCache.getReadOnly(resourceID)
+        : resourceCache.get(resourceID);
   }
 
-  EventMarker getEventMarker() {
-    return eventMarker;
+  private static int maxConcurrentReconciliations(ControllerConfiguration<?> configuration) {
+    final var maxConcurrentReconciliations = configuration.getMaxConcurrentReconciliations();
+    if (maxConcurrentReconciliations > 0) {
+      return maxConcurrentReconciliations;
+    }
+    // by default, don't submit more reconciliations than the executor can run, so the pending ones
+    // are queued by priority in the scheduler instead of in FIFO order in the executor
+    final var configurationService = configuration.getConfigurationService();
+    return configurationService.useVirtualThreads()
+        ? configurationService.concurrentReconciliationLimit()
+        : configurationService.concurrentReconciliationThreads();
+  }
+
+  ResourceStateManager getResourceStateManager() {
+    return resourceStateManager;
+  }
+
+  /**
+   * @return the executor running the reconciliations of the controller, also running the tasks
+   *         scheduled on the shared timer
+   */
+  Executor executor() {
+    return executor;
   }
 
   @Override
   public void handleEvent(Event event) {
-    lock.lock();
+    final var resourceID = event.getRelatedCustomResourceID();
+    final var resourceLock = lock.lockFor(resourceID);
+    resourceLock.lock();
     try {
       log.debug("Received event: {}", event);
       if (!this.running) {
         log.debug("Skipping event: {} because the event handler is shutting down", event);
         return;
       }
-      final var resourceID = event.getRelatedCustomResourceID();
       MDCUtils.addResourceIDInfo(resourceID);
       metrics.receivedEvent(event);
 
-      handleEventMarking(event);
-      if (!eventMarker.deleteEventPresent(resourceID)) {
-        submitReconciliationExecution(resourceID);
-      } else {
-        cleanupForDeletedEvent(resourceID);
+      final var state = resourceStateManager.getOrCreate(resourceID);
+      try {
+        handleEventMarking(event, state);
+        if (!state.deleteEventPresent()) {
+          if (!debounce(event, state)) {
+            submitReconciliationExecution(state);
+          }
+        } else if (isDeleteEvent(event)) {
+          cleanupForDeletedEvent(state);
+        }
+      } finally {
+        resourceStateManager.removeIfEmpty(state);
       }
     } finally {
-      lock.unlock();
+      resourceLock.unlock();
       MDCUtils.removeResourceIDInfo();
     }
   }
 
-  private void submitReconciliationExecution(ResourceID resourceID) {
+  /**
+   * Delays the submission of the reconciliation if a debounce window is configured.
+   *
+   * @return {@code true} if the submission is delayed, {@code false} if the reconciliation needs to
+   *         be submitted right away
+   */
+  private boolean debounce(Event event, ResourceState state) {
+    if (debounceWindowNanos <= 0 || state.isUnderProcessing()) {
+      // events received during a reconciliation are already coalesced until it finishes
+      return false;
+    }
+    final var priority = event.getPriority();
+    final var bypass =
+        priority == ReconciliationPriority.DELETION || priority == ReconciliationPriority.TIMER;
+    if (state.isDebouncing()) {
+      if (bypass) {
+        state.stopDebounce();
+        return false;
+      }
+      final var now = System.nanoTime();
+      state.setDebounceDeadline(Math.min(now + debounceWindowNanos,
+          state.getDebounceStartedAt() + debounceMaxWaitNanos));
+      return true;
+    }
+    if (bypass) {
+      return false;
+    }
+    final var now = System.nanoTime();
+    state.startDebounce(now, now + debounceWindowNanos);
+    scheduleDebounceCheck(state.getId(), debounceWindowNanos);
+    return true;
+  }
+
+  private void scheduleDebounceCheck(ResourceID resourceID, long delayNanos) {
+    // checks left pending on stop find the processor stopped, and are dropped
+    timer.schedule(() -> debounceElapsed(resourceID),
+        TimeUnit.NANOSECONDS.toMillis(delayNanos + TimeUnit.MILLISECONDS.toNanos(1) - 1),
+        executor);
+  }
+
+  private void debounceElapsed(ResourceID resourceID) {
+    final var resourceLock = lock.lockFor(resourceID);
+    resourceLock.lock();
     try {
-      boolean controllerUnderExecution = isControllerUnderExecution(resourceID);
-      Optional<R> latest = resourceCache.get(resourceID);
+      if (!running) {
+        return;
+      }
+      MDCUtils.addResourceIDInfo(resourceID);
+      final var optionalState =
+          resourceStateManager.get(resourceID).filter(ResourceState::isDebouncing);
+      if (optionalState.isEmpty()) {
+        return;
+      }
+      final var state = optionalState.get();
+      // the deadline is extended by events received meanwhile, rather than rescheduling the check
+      // on each event
+      final var remaining = state.getDebounceDeadline() - System.nanoTime();
+      if (remaining > 0) {
+        scheduleDebounceCheck(resourceID, remaining);
+        return;
+      }
+      state.stopDebounce();
+      try {
+        submitReconciliationExecution(state);
+      } finally {
+        resourceStateManager.removeIfEmpty(state);
+      }
+    } finally {
+      resourceLock.unlock();
+      MDCUtils.removeResourceIDInfo();
+    }
+  }
+
+  private void submitReconciliationExecution(ResourceState state) {
+    try {
+      final var resourceID = state.getId();
+      boolean controllerUnderExecution = state.isUnderProcessing();
+      Optional<R> latest = cachedResource(resourceID);
       latest.ifPresent(MDCUtils::addResourceInfo);
       if (!controllerUnderExecution && latest.isPresent()) {
-        setUnderExecutionProcessing(resourceID);
-        final var retryInfo = retryInfo(resourceID);
+        state.markProcessing();
+        final var retryInfo = state.getRetry();
         ExecutionScope<R> executionScope = new ExecutionScope<>(latest.get(), retryInfo);
-        eventMarker.unMarkEventReceived(resourceID);
+        final var priority = latest.get().isMarkedForDeletion()
+            ? ReconciliationPriority.DELETION
+            : Objects.requireNonNullElse(state.getPendingPriority(),
+                ReconciliationPriority.SECONDARY_RESOURCE);
+        state.unMarkEventReceived();
         metrics.reconcileCustomResource(resourceID, retryInfo);
-        log.debug("Executing events for custom resource. Scope: {}", executionScope);
-        executor.execute(new ControllerExecution(executionScope));
+        log.debug("Executing events for custom resource. Scope: {}, priority: {}", executionScope,
+            priority);
+        if (batcher != null && !latest.get().isMarkedForDeletion()) {
+          batcher.add(new BatchedExecution(executionScope, priority));
+        } else if (asynchronous) {
+          scheduler.executeAsync(new AsyncControllerExecution(executionScope), resourceID,
+              priority);
+        } else {
+          scheduler.execute(new ControllerExecution(executionScope), resourceID, priority);
+        }
       } else {
         log.debug(
             "Skipping executing controller for resource id: {}. Controller in execution: {}. Latest Resource present: {}",
@@ -149,60 +346,135 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
     }
   }
 
-  private void handleEventMarking(Event event) {
-    if (event instanceof ResourceEvent &&
-        ((ResourceEvent) event).getAction() == ResourceAction.DELETED) {
-      eventMarker.markDeleteEventReceived(event);
-    } else if (!eventMarker.deleteEventPresent(event.getRelatedCustomResourceID())) {
-      eventMarker.markEventReceived(event);
+  private void submitBatch(List<BatchedExecution> batch) {
+    var priority = batch.get(0).priority;
+    for (var batchedExecution : batch) {
+      if (priorityConfiguration.rankOf(batchedExecution.priority) < priorityConfiguration
+          .rankOf(priority)) {
+        priority = batchedExecution.priority;
+      }
+    }
+    // the batch is queued with the first resource, so with the group of its namespace
+    scheduler.execute(new BatchControllerExecution(batch),
+        batch.get(0).executionScope.getCustomResourceID(), priority);
+  }
+
+  /**
+   * Keeps the event of a reconciliation discarded with the pending batch on stop, so that the
+   * resource is reconciled again once an event is received after restarting.
+   */
+  private void discardBatched(BatchedExecution batchedExecution) {
+    final var resourceID = batchedExecution.executionScope.getCustomResourceID();
+    final var resourceLock = lock.lockFor(resourceID);
+    resourceLock.lock();
+    try {
+      resourceStateManager.get(resourceID).ifPresent(state -> {
+        state.unMarkProcessing();
+        state.markEventReceived();
+      });
+    } finally {
+      resourceLock.unlock();
     }
   }
 
-  private RetryInfo retryInfo(ResourceID customResourceUid) {
-    return retryState.get(customResourceUid);
+  private static boolean isDeleteEvent(Event event) {
+    return event instanceof ResourceEvent
+        && ((ResourceEvent) event).getAction() == ResourceAction.DELETED;
+  }
+
+  private void handleEventMarking(Event event, ResourceState state) {
+    if (isDeleteEvent(event)) {
+      state.markDeleteEventReceived();
+    } else if (state.deleteEventPresent()) {
+      // the state of a deleted resource is only kept while it's under processing
+      if (event instanceof ResourceEvent) {
+        state.markRecreated(event.getPriority());
+      }
+    } else {
+      if (state.eventPresent() && (state.isUnderProcessing() || state.isDebouncing())) {
+        metrics.coalescedEvent(event);
+      }
+      state.markEventReceived();
+      final var pendingPriority = state.getPendingPriority();
+      if (pendingPriority == null || priorityConfiguration
+          .rankOf(event.getPriority()) < priorityConfiguration.rankOf(pendingPriority)) {
+        state.setPendingPriority(event.getPriority());
+      }
+    }
   }
 
   void eventProcessingFinished(
       ExecutionScope<R> executionScope, PostExecutionControl<R> postExecutionControl) {
-    lock.lock();
+    ResourceID resourceID = executionScope.getCustomResourceID();
+    final var resourceLock = lock.lockFor(resourceID);
+    resourceLock.lock();
     try {
       if (!running) {
         return;
       }
-      ResourceID resourceID = executionScope.getCustomResourceID();
       log.debug(
           "Event processing finished. Scope: {}, PostExecutionControl: {}",
           executionScope,
           postExecutionControl);
-      unsetUnderExecution(resourceID);
-
-      // If a delete event present at this phase, it was received during reconciliation.
-      // So we either removed the finalizer during reconciliation or we don't use finalizers.
-      // Either way we don't want to retry.
-      if (isRetryConfigured() && postExecutionControl.exceptionDuringExecution() &&
-          !eventMarker.deleteEventPresent(resourceID)) {
-        handleRetryOnException(executionScope,
-            postExecutionControl.getRuntimeException().orElseThrow());
-        return;
+      final var state = resourceStateManager.getOrCreate(resourceID);
+      try {
+        handleProcessingFinished(state, executionScope, postExecutionControl);
+      } finally {
+        resourceStateManager.removeIfEmpty(state);
       }
-      cleanupOnSuccessfulExecution(executionScope);
-      metrics.finishedReconciliation(resourceID);
-      if (eventMarker.deleteEventPresent(resourceID)) {
-        cleanupForDeletedEvent(executionScope.getCustomResourceID());
-      } else {
-        if (eventMarker.eventPresent(resourceID)) {
-          if (isCacheReadyForInstantReconciliation(executionScope, postExecutionControl)) {
-            submitReconciliationExecution(resourceID);
-          } else {
-            postponeReconciliationAndHandleCacheSyncEvent(resourceID);
-          }
+    } finally {
+      resourceLock.unlock();
+    }
+  }
+
+  private void handleProcessingFinished(ResourceState state, ExecutionScope<R> executionScope,
+      PostExecutionControl<R> postExecutionControl) {
+    final var resourceID = state.getId();
+    state.unMarkProcessing();
+    recordFingerprint(executionScope, postExecutionControl);
+
+    // If a delete event present at this phase, it was received during reconciliation.
+    // So we either removed the finalizer during reconciliation or we don't use finalizers.
+    // Either way we don't want to retry.
+    if (isRetryConfigured() && postExecutionControl.exceptionDuringExecution() &&
+        !state.deleteEventPresent()) {
+      handleRetryOnException(state, executionScope,
+          postExecutionControl.getRuntimeException().orElseThrow());
+      return;
+    }
+    cleanupOnSuccessfulExecution(state, executionScope);
+    metrics.finishedReconciliation(resourceID);
+    if (state.deleteEventPresent()) {
+      cleanupForDeletedEvent(state);
+    } else {
+      if (state.eventPresent()) {
+        if (isCacheReadyForInstantReconciliation(executionScope, postExecutionControl)) {
+          submitReconciliationExecution(state);
         } else {
-          reScheduleExecutionIfInstructed(postExecutionControl,
-              executionScope.getResource());
+          postponeReconciliationAndHandleCacheSyncEvent(resourceID);
         }
+      } else {
+        reScheduleExecutionIfInstructed(postExecutionControl,
+            executionScope.getResource());
       }
-    } finally {
-      lock.unlock();
+    }
+  }
+
+  private void recordFingerprint(ExecutionScope<R> executionScope,
+      PostExecutionControl<R> postExecutionControl) {
+    if (reconciledFingerprints == null) {
+      return;
+    }
+    final var resource =
+        postExecutionControl.getUpdatedCustomResource().orElse(executionScope.getResource());
+    // the resource must be reconciled again after a restart unless it's done with
+    if (postExecutionControl.exceptionDuringExecution()
+        || postExecutionControl.isOnlyFinalizerHandled()
+        || postExecutionControl.getReScheduleDelay().isPresent()
+        || resource.isMarkedForDeletion()) {
+      reconciledFingerprints.forget(executionScope.getCustomResourceID());
+    } else {
+      reconciledFingerprints.reconciled(resource);
     }
   }
 
@@ -220,10 +492,10 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
         .getUpdatedCustomResource()
         .orElseThrow(() -> new IllegalStateException(
             "Updated custom resource must be present at this point of time")));
-    String cachedCustomResourceVersion = getVersion(resourceCache
-        .get(executionScope.getCustomResourceID())
-        .orElseThrow(() -> new IllegalStateException(
-            "Cached custom resource must be present at this point")));
+    String cachedCustomResourceVersion = getVersion(
+        cachedResource(executionScope.getCustomResourceID())
+            .orElseThrow(() -> new IllegalStateException(
+                "Cached custom resource must be present at this point")));
 
     if (cachedCustomResourceVersion.equals(customResourceVersionAfterExecution)) {
       return true;
@@ -238,7 +510,9 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
   private void reScheduleExecutionIfInstructed(PostExecutionControl<R> postExecutionControl,
       R customResource) {
     postExecutionControl.getReScheduleDelay()
-        .ifPresent(delay -> retryEventSource().scheduleOnce(customResource, delay));
+        .ifPresent(delay -> retryEventSource().scheduleOnce(customResource,
+            reschedulingConfiguration.rescheduleDelay(ResourceID.fromResource(customResource),
+                delay, System.currentTimeMillis())));
   }
 
   TimerEventSource<R> retryEventSource() {
@@ -250,20 +524,28 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
    * events (received meanwhile retry is in place or already in buffer) instantly or always wait
    * according to the retry timing if there was an exception.
    */
-  private void handleRetryOnException(ExecutionScope<R> executionScope,
+  private void handleRetryOnException(ResourceState state, ExecutionScope<R> executionScope,
       RuntimeException exception) {
-    RetryExecution execution = getOrInitRetryExecution(executionScope);
-    var customResourceID = executionScope.getCustomResourceID();
-    boolean eventPresent = eventMarker.eventPresent(customResourceID);
-    eventMarker.markEventReceived(customResourceID);
+    RetryExecution execution = getOrInitRetryExecution(state);
+    var customResourceID = state.getId();
+    boolean eventPresent = state.eventPresent();
+    state.markEventReceived();
 
     if (eventPresent) {
       log.debug("New events exists for for resource id: {}",
           customResourceID);
-      submitReconciliationExecution(customResourceID);
+      submitReconciliationExecution(state);
       return;
     }
-    Optional<Long> nextDelay = execution.nextDelay();
+    if (ThrottlingUtils.isCircuitBreakerOpen(exception)) {
+      // not an attempt, the reconciliation is dispatched again once the circuit breaker permits it
+      log.debug("Circuit breaker open, postponing the reconciliation of resource: {}",
+          customResourceID);
+      submitReconciliationExecution(state);
+      return;
+    }
+    Optional<Long> nextDelay = execution.nextDelay(exception);
+    metrics.failedReconciliation(customResourceID, exception);
 
     nextDelay.ifPresentOrElse(
         delay -> {
@@ -271,47 +553,53 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
               "Scheduling timer event for retry with delay:{} for resource: {}",
               delay,
               customResourceID);
-          metrics.failedReconciliation(customResourceID, exception);
           retryEventSource().scheduleOnce(executionScope.getResource(), delay);
         },
-        () -> log.error("Exhausted retries for {}", executionScope));
+        () -> {
+          if (execution.isAbandoned()) {
+            log.error("Not retrying {}, the failure is permanent", executionScope);
+          } else {
+            log.error("Exhausted retries for {}", executionScope);
+          }
+        });
   }
 
-  private void cleanupOnSuccessfulExecution(ExecutionScope<R> executionScope) {
+  private void cleanupOnSuccessfulExecution(ResourceState state,
+      ExecutionScope<R> executionScope) {
     log.debug(
         "Cleanup for successful execution for resource: {}",
         getName(executionScope.getResource()));
-    if (isRetryConfigured()) {
-      retryState.remove(executionScope.getCustomResourceID());
-    }
-    retryEventSource().cancelOnceSchedule(executionScope.getCustomResourceID());
+    state.setRetry(null);
+    retryEventSource().cancelOnceSchedule(state.getId());
   }
 
-  private RetryExecution getOrInitRetryExecution(ExecutionScope<R> executionScope) {
-    RetryExecution retryExecution = retryState.get(executionScope.getCustomResourceID());
+  private RetryExecution getOrInitRetryExecution(ResourceState state) {
+    RetryExecution retryExecution = state.getRetry();
     if (retryExecution == null) {
       retryExecution = retry.initExecution();
-      retryState.put(executionScope.getCustomResourceID(), retryExecution);
+      state.setRetry(retryExecution);
     }
     return retryExecution;
   }
 
-  private void cleanupForDeletedEvent(ResourceID customResourceUid) {
+  private void cleanupForDeletedEvent(ResourceState state) {
+    if (state.isUnderProcessing()) {
+      // kept marked deleted until the reconciliation finishes, so a resource created again with the
+      // same name meanwhile isn't reconciled concurrently
+      return;
+    }
+    final var customResourceUid = state.getId();
     eventSourceManager.cleanupForCustomResource(customResourceUid);
-    eventMarker.cleanup(customResourceUid);
-    metrics.cleanupDoneFor(customResourceUid);
-  }
-
-  private boolean isControllerUnderExecution(ResourceID customResourceUid) {
-    return underProcessing.contains(customResourceUid);
-  }
-
-  private void setUnderExecutionProcessing(ResourceID customResourceUid) {
-    underProcessing.add(customResourceUid);
-  }
+    if (reconciledFingerprints != null) {
+      reconciledFingerprints.forget(customResourceUid);
+    }
+    // the retry state is cleaned up too, the state is removed once empty by the caller
+    state.forgetDeletedResource();
 
-  private void unsetUnderExecution(ResourceID customResourceUid) {
-    underProcessing.remove(customResourceUid);
+    metrics.cleanupDoneFor(customResourceUid);
+    if (state.eventPresent()) {
+      submitReconciliationExecution(state);
+    }
   }
 
   private boolean isRetryConfigured() {
@@ -320,21 +608,19 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
 
   @Override
   public void stop() {
-    lock.lock();
-    try {
-      this.running = false;
-    } finally {
-      lock.unlock();
+    this.running = false;
+    scheduler.stop();
+    if (batcher != null) {
+      batcher.stop().forEach(this::discardBatched);
     }
   }
 
   @Override
   public void start() throws OperatorException {
-    lock.lock();
-    try {
-      this.running = true;
-    } finally {
-      lock.unlock();
+    this.running = true;
+    scheduler.start();
+    if (batcher != null) {
+      batcher.start();
     }
   }
 
@@ -355,6 +641,7 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
         thread.setName("EventHandler-" + controllerName);
         PostExecutionControl<R> postExecutionControl =
             reconciliationDispatcher.handleExecution(executionScope);
+        concurrencyLimiter.onResult(postExecutionControl.getRuntimeException().orElse(null));
         eventProcessingFinished(executionScope, postExecutionControl);
       } finally {
         // restore original name
@@ -368,4 +655,117 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
       return controllerName + " -> " + executionScope;
     }
   }
+
+  /**
+   * Starts an asynchronous reconciliation, the thread is given back as soon as it's started. The
+   * step finishing it is run by the scheduler once the stage completed, so that the reconciliation
+   * holds its slot until then.
+   */
+  private class AsyncControllerExecution implements Supplier<CompletionStage<Runnable>> {
+    private final ExecutionScope<R> executionScope;
+
+    private AsyncControllerExecution(ExecutionScope<R> executionScope) {
+      this.executionScope = executionScope;
+    }
+
+    @Override
+    public CompletionStage<Runnable> get() {
+      final var thread = Thread.currentThread();
+      final var name = thread.getName();
+      try {
+        MDCUtils.addResourceInfo(executionScope.getResource());
+        thread.setName("EventHandler-" + controllerName);
+        return reconciliationDispatcher.handleExecutionAsync(executionScope)
+            .handle((finish, failure) -> () -> finish(failure == null ? finish : () -> {
+              throw asRuntimeException(failure);
+            }));
+      } catch (RuntimeException e) {
+        // the resource would stay under processing forever if its processing wasn't finished
+        finish(() -> {
+          throw e;
+        });
+        return null;
+      } finally {
+        thread.setName(name);
+        MDCUtils.removeResourceInfo();
+      }
+    }
+
+    private void finish(Supplier<PostExecutionControl<R>> finish) {
+      final var thread = Thread.currentThread();
+      final var name = thread.getName();
+      try {
+        MDCUtils.addResourceInfo(executionScope.getResource());
+        thread.setName("EventHandler-" + controllerName);
+        PostExecutionControl<R> postExecutionControl;
+        try {
+          postExecutionControl = finish.get();
+        } catch (RuntimeException e) {
+          log.error("Error during event processing {} failed.", executionScope, e);
+          postExecutionControl = PostExecutionControl.exceptionDuringExecution(e);
+        }
+        concurrencyLimiter.onResult(postExecutionControl.getRuntimeException().orElse(null));
+        eventProcessingFinished(executionScope, postExecutionControl);
+      } finally {
+        thread.setName(name);
+        MDCUtils.removeResourceInfo();
+      }
+    }
+
+    private RuntimeException asRuntimeException(Throwable failure) {
+      if (failure instanceof CompletionException && failure.getCause() != null) {
+        failure = failure.getCause();
+      }
+      return failure instanceof RuntimeException ? (RuntimeException) failure
+          : new OperatorException("Asynchronous reconciliation failed", failure);
+    }
+
+    @Override
+    public String toString() {
+      return controllerName + " -> " + executionScope;
+    }
+  }
+
+  private class BatchedExecution {
+    private final ExecutionScope<R> executionScope;
+    private final ReconciliationPriority priority;
+
+    private BatchedExecution(ExecutionScope<R> executionScope, ReconciliationPriority priority) {
+      this.executionScope = executionScope;
+      this.priority = priority;
+    }
+  }
+
+  private class BatchControllerExecution implements Runnable {
+    private final List<ExecutionScope<R>> executionScopes;
+
+    private BatchControllerExecution(List<BatchedExecution> batch) {
+      this.executionScopes = new ArrayList<>(batch.size());
+      batch.forEach(batchedExecution -> executionScopes.add(batchedExecution.executionScope));
+    }
+
+    @Override
+    public void run() {
+      final var thread = Thread.currentThread();
+      final var name = thread.getName();
+      try {
+        thread.setName("EventHandler-" + controllerName);
+        final var postExecutionControls =
+            reconciliationDispatcher.handleBatchExecution(executionScopes);
+        concurrencyLimiter.onResult(postExecutionControls.stream()
+            .flatMap(control -> control.getRuntimeException().stream())
+            .findFirst().orElse(null));
+        for (int i = 0; i < executionScopes.size(); i++) {
+          eventProcessingFinished(executionScopes.get(i), postExecutionControls.get(i));
+        }
+      } finally {
+        thread.setName(name);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return controllerName + " -> batch of " + executionScopes.size();
+    }
+  }
 }
@@ -0,0 +1,170 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ReconciliationFairnessConfiguration;
+import io.javaoperatorsdk.operator.api.config.ReconciliationPriorityConfiguration;
+import io.javaoperatorsdk.operator.api.config.ReschedulingConfiguration;
+import io.javaoperatorsdk.operator.processing.event.source.ReconciledFingerprints;
+import io.javaoperatorsdk.operator.processing.ratelimit.ConcurrencyLimiter;
+
+import static io.javaoperatorsdk.operator.api.reconciler.ControllerConfiguration.NO_DEBOUNCE;
+
+/**
+ * The settings of an {@link EventProcessor}, read once when it's created. The defaults process the
+ * events without debouncing, batching or limits on the concurrent reconciliations.
+ */
+class EventProcessorOptions<R extends HasMetadata> {
+
+  private int lockStripes = ConfigurationService.DEFAULT_EVENT_PROCESSING_LOCK_STRIPES;
+  private int maxConcurrentReconciliations =
+      ConfigurationService.NO_CONCURRENT_RECONCILIATION_LIMIT;
+  private ReconciliationPriorityConfiguration priorityConfiguration =
+      ReconciliationPriorityConfiguration.DEFAULT;
+  private ReconciliationFairnessConfiguration fairnessConfiguration =
+      ReconciliationFairnessConfiguration.DEFAULT;
+  private long debounceWindowMillis = NO_DEBOUNCE;
+  private long debounceMaxWaitMillis = NO_DEBOUNCE;
+  private ConcurrencyLimiter concurrencyLimiter = ConcurrencyLimiter.UNLIMITED;
+  private ReschedulingConfiguration reschedulingConfiguration = ReschedulingConfiguration.DEFAULT;
+  private boolean readOnlyResources;
+  private ReconciledFingerprints<R> reconciledFingerprints;
+  private int maxBatchSize;
+  private long batchLingerMillis;
+  private boolean asynchronous;
+
+  EventProcessorOptions<R> withLockStripes(int lockStripes) {
+    this.lockStripes = lockStripes;
+    return this;
+  }
+
+  EventProcessorOptions<R> withMaxConcurrentReconciliations(
+      int maxConcurrentReconciliations) {
+    this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+    return this;
+  }
+
+  EventProcessorOptions<R> withPriorityConfiguration(
+      ReconciliationPriorityConfiguration priorityConfiguration) {
+    this.priorityConfiguration = priorityConfiguration;
+    return this;
+  }
+
+  EventProcessorOptions<R> withFairnessConfiguration(
+      ReconciliationFairnessConfiguration fairnessConfiguration) {
+    this.fairnessConfiguration = fairnessConfiguration;
+    return this;
+  }
+
+  EventProcessorOptions<R> withDebounce(long windowMillis, long maxWaitMillis) {
+    this.debounceWindowMillis = windowMillis;
+    this.debounceMaxWaitMillis = maxWaitMillis;
+    return this;
+  }
+
+  EventProcessorOptions<R> withConcurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+    this.concurrencyLimiter = concurrencyLimiter;
+    return this;
+  }
+
+  EventProcessorOptions<R> withReschedulingConfiguration(
+      ReschedulingConfiguration reschedulingConfiguration) {
+    this.reschedulingConfiguration = reschedulingConfiguration;
+    return this;
+  }
+
+  /**
+   * @param readOnlyResources {@code true} to hand the reconciler the resources of the cache instead
+   *        of clones
+   */
+  EventProcessorOptions<R> withReadOnlyResources(boolean readOnlyResources) {
+    this.readOnlyResources = readOnlyResources;
+    return this;
+  }
+
+  /**
+   * @param reconciledFingerprints records the resources successfully reconciled, or {@code null}
+   */
+  EventProcessorOptions<R> withReconciledFingerprints(
+      ReconciledFingerprints<R> reconciledFingerprints) {
+    this.reconciledFingerprints = reconciledFingerprints;
+    return this;
+  }
+
+  /**
+   * Accumulates the reconciliations of the resources which are not marked for deletion in batches,
+   * handed to the {@link io.javaoperatorsdk.operator.api.reconciler.BatchReconciler} in a single
+   * call.
+   */
+  EventProcessorOptions<R> withBatching(int maxBatchSize, long lingerMillis) {
+    this.maxBatchSize = maxBatchSize;
+    this.batchLingerMillis = lingerMillis;
+    return this;
+  }
+
+  /**
+   * Reconciles the resources with
+   * {@link io.javaoperatorsdk.operator.api.reconciler.AsyncReconciler#reconcileAsync}, the
+   * reconciliation of a resource is finished once the returned stage completed.
+   */
+  EventProcessorOptions<R> withAsyncReconciliation() {
+    this.asynchronous = true;
+    return this;
+  }
+
+  int getLockStripes() {
+    return lockStripes;
+  }
+
+  int getMaxConcurrentReconciliations() {
+    return maxConcurrentReconciliations;
+  }
+
+  ReconciliationPriorityConfiguration getPriorityConfiguration() {
+    return priorityConfiguration;
+  }
+
+  ReconciliationFairnessConfiguration getFairnessConfiguration() {
+    return fairnessConfiguration;
+  }
+
+  long getDebounceWindowMillis() {
+    return debounceWindowMillis;
+  }
+
+  long getDebounceMaxWaitMillis() {
+    return debounceMaxWaitMillis;
+  }
+
+  ConcurrencyLimiter getConcurrencyLimiter() {
+    return concurrencyLimiter;
+  }
+
+  ReschedulingConfiguration getReschedulingConfiguration() {
+    return reschedulingConfiguration;
+  }
+
+  boolean isReadOnlyResources() {
+    return readOnlyResources;
+  }
+
+  ReconciledFingerprints<R> getReconciledFingerprints() {
+    return reconciledFingerprints;
+  }
+
+  boolean isBatching() {
+    return maxBatchSize > 0;
+  }
+
+  int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  long getBatchLingerMillis() {
+    return batchLingerMillis;
+  }
+
+  boolean isAsynchronous() {
+    return asynchronous;
+  }
+}
@@ -34,7 +34,7 @@ public class EventSourceManager<R extends HasMetadata>
   EventSourceManager(EventProcessor<R> eventProcessor) {
     this.eventProcessor = eventProcessor;
     controller = null;
-    initRetryEventSource();
+    initRetryEventSource(new TimerEventSource<>());
   }
 
   public EventSourceManager(Controller<R> controller) {
@@ -42,11 +42,11 @@ public class EventSourceManager<R extends HasMetadata>
     controllerResourceEventSource = new ControllerResourceEventSource<>(controller);
     this.eventProcessor = new EventProcessor<>(this);
     registerEventSource(controllerResourceEventSource);
-    initRetryEventSource();
+    initRetryEventSource(new TimerEventSource<>(eventProcessor.executor()));
   }
 
-  private void initRetryEventSource() {
-    retryAndRescheduleTimerEventSource = new TimerEventSource<>();
+  private void initRetryEventSource(TimerEventSource<R> timerEventSource) {
+    retryAndRescheduleTimerEventSource = timerEventSource;
     registerEventSource(retryAndRescheduleTimerEventSource);
   }
 
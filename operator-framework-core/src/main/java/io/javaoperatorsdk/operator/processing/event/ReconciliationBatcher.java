@@ -0,0 +1,111 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import io.javaoperatorsdk.operator.processing.event.source.HashedWheelTimer;
+
+/**
+ * Accumulates the reconciliations of a
+ * {@link io.javaoperatorsdk.operator.api.reconciler.BatchReconciler} until the batch is full or the
+ * linger time elapsed since the first reconciliation was added, then hands the batch to the flush
+ * callback. The callback is called without holding the lock of the batcher, on the thread adding
+ * the last reconciliation of a full batch or on the given executor once the linger time elapsed,
+ * the shared {@link HashedWheelTimer} only handing the flush off to it.
+ */
+class ReconciliationBatcher<T> {
+
+  private final int maxBatchSize;
+  private final long lingerMillis;
+  private final Consumer<List<T>> flush;
+  private final Executor executor;
+  private final HashedWheelTimer timer = HashedWheelTimer.shared();
+  private List<T> batch;
+  // identifies the current batch, so a linger timeout doesn't flush a later batch
+  private long generation;
+  private HashedWheelTimer.Timeout lingerTimeout;
+  private boolean stopped;
+
+  ReconciliationBatcher(int maxBatchSize, long lingerMillis, Consumer<List<T>> flush,
+      Executor executor) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("Max batch size must be positive, got: " + maxBatchSize);
+    }
+    this.maxBatchSize = maxBatchSize;
+    this.lingerMillis = lingerMillis;
+    this.flush = flush;
+    this.executor = executor;
+  }
+
+  void add(T reconciliation) {
+    final List<T> full;
+    synchronized (this) {
+      if (batch == null) {
+        batch = new ArrayList<>(maxBatchSize);
+        scheduleLinger();
+      }
+      batch.add(reconciliation);
+      full = batch.size() >= maxBatchSize ? takeBatch() : null;
+    }
+    if (full != null) {
+      flush.accept(full);
+    }
+  }
+
+  private void scheduleLinger() {
+    if (stopped) {
+      return;
+    }
+    final var batchGeneration = generation;
+    lingerTimeout =
+        timer.schedule(() -> lingerElapsed(batchGeneration), lingerMillis, executor);
+  }
+
+  private void lingerElapsed(long batchGeneration) {
+    final List<T> lingering;
+    synchronized (this) {
+      lingering = generation == batchGeneration && batch != null ? takeBatch() : null;
+    }
+    if (lingering != null) {
+      flush.accept(lingering);
+    }
+  }
+
+  private List<T> takeBatch() {
+    final var taken = batch;
+    batch = null;
+    generation++;
+    if (lingerTimeout != null) {
+      lingerTimeout.cancel();
+      lingerTimeout = null;
+    }
+    return taken;
+  }
+
+  synchronized int pending() {
+    return batch == null ? 0 : batch.size();
+  }
+
+  /**
+   * Lingers again the batch started after {@link #stop()}, if any.
+   */
+  synchronized void start() {
+    stopped = false;
+    if (batch != null && lingerTimeout == null) {
+      scheduleLinger();
+    }
+  }
+
+  /**
+   * Stops lingering, the reconciliations added later are only flushed once the batch is full or
+   * after {@link #start()}.
+   *
+   * @return the reconciliations of the pending batch, which is discarded
+   */
+  synchronized List<T> stop() {
+    stopped = true;
+    return batch == null ? List.of() : takeBatch();
+  }
+}
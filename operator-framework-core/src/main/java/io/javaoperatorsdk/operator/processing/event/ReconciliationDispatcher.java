@@ -1,5 +1,13 @@
 package io.javaoperatorsdk.operator.processing.event;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -9,8 +17,10 @@ import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.javaoperatorsdk.operator.OperatorException;
 import io.javaoperatorsdk.operator.api.ObservedGenerationAware;
 import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
 import io.javaoperatorsdk.operator.api.reconciler.BaseControl;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.api.reconciler.DefaultContext;
@@ -19,6 +29,10 @@ import io.javaoperatorsdk.operator.api.reconciler.ErrorStatusHandler;
 import io.javaoperatorsdk.operator.api.reconciler.Reconciler;
 import io.javaoperatorsdk.operator.api.reconciler.UpdateControl;
 import io.javaoperatorsdk.operator.processing.Controller;
+import io.javaoperatorsdk.operator.processing.event.source.ControllerResourceCache;
+import io.javaoperatorsdk.operator.processing.ratelimit.CircuitBreaker;
+import io.javaoperatorsdk.operator.processing.ratelimit.RateLimiter;
+import io.javaoperatorsdk.operator.processing.retry.RetryDecision;
 
 import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.getName;
 import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.getUID;
@@ -41,22 +55,165 @@ class ReconciliationDispatcher<R extends HasMetadata> {
   }
 
   public ReconciliationDispatcher(Controller<R> controller) {
-    this(controller, new CustomResourceFacade<>(controller.getCRClient()));
+    this(controller, (ControllerResourceCache<R>) null);
+  }
+
+  ReconciliationDispatcher(Controller<R> controller, ControllerResourceCache<R> resourceCache) {
+    this(controller, new CustomResourceFacade<>(controller.getCRClient(),
+        controller.getConfiguration().getConfigurationService().getRateLimiter(),
+        controller.getConfiguration().getConfigurationService().getCircuitBreaker(),
+        controller.getConfiguration().getName(),
+        controller.getConfiguration().getConfigurationService().getMetrics(), resourceCache));
   }
 
   public PostExecutionControl<R> handleExecution(ExecutionScope<R> executionScope) {
     try {
       return handleDispatch(executionScope);
-    } catch (KubernetesClientException e) {
+    } catch (RuntimeException e) {
+      return failedExecution(executionScope, e);
+    }
+  }
+
+  private PostExecutionControl<R> failedExecution(ExecutionScope<R> executionScope,
+      RuntimeException e) {
+    if (e instanceof KubernetesClientException) {
       log.info(
           "Kubernetes exception {} {} during event processing, {} failed",
-          e.getCode(),
+          ((KubernetesClientException) e).getCode(),
           e.getMessage(),
           executionScope);
-      return PostExecutionControl.exceptionDuringExecution(e);
-    } catch (RuntimeException e) {
+    } else {
       log.error("Error during event processing {} failed.", executionScope, e);
-      return PostExecutionControl.exceptionDuringExecution(e);
+    }
+    return PostExecutionControl.exceptionDuringExecution(e);
+  }
+
+  /**
+   * Starts the execution of a resource of an
+   * {@link io.javaoperatorsdk.operator.api.reconciler.AsyncReconciler}. Resources marked for
+   * deletion or which still need the finalizer to be added are handled synchronously.
+   *
+   * @param executionScope the scope of the resource
+   * @return a stage completed, never exceptionally, once the reconciliation completed, with the
+   *         step updating the resource accordingly. The step makes blocking calls, so it's left to
+   *         the caller to run it on an appropriate thread rather than on the one completing the
+   *         stage.
+   */
+  public CompletionStage<Supplier<PostExecutionControl<R>>> handleExecutionAsync(
+      ExecutionScope<R> executionScope) {
+    final var originalResource = executionScope.getResource();
+    if (originalResource.isMarkedForDeletion() || (configuration().useFinalizer()
+        && !originalResource.hasFinalizer(configuration().getFinalizer()))) {
+      final var postExecutionControl = handleExecution(executionScope);
+      return CompletableFuture.completedFuture(() -> postExecutionControl);
+    }
+    final Context context = createContext(executionScope);
+    try {
+      final var resourceForExecution =
+          cloneResourceForErrorStatusHandlerIfNeeded(originalResource, context);
+      log.debug(
+          "Executing asynchronous createOrUpdate for resource {} with version: {} with execution scope: {}",
+          getName(resourceForExecution),
+          getVersion(resourceForExecution),
+          executionScope);
+      final var reconciliation = controller.reconcileAsync(resourceForExecution, context);
+      if (reconciliation == null) {
+        throw new IllegalStateException("Asynchronous reconciler returned no stage");
+      }
+      return reconciliation.handle((updateControl, failure) -> () -> {
+        try {
+          if (failure != null) {
+            throw unwrap(failure);
+          }
+          return handleUpdateControl(updateControl, resourceForExecution, originalResource);
+        } catch (RuntimeException e) {
+          handleLastAttemptErrorStatusHandler(originalResource, context, e);
+          return failedExecution(executionScope, e);
+        }
+      });
+    } catch (RuntimeException e) {
+      handleLastAttemptErrorStatusHandler(originalResource, context, e);
+      final var postExecutionControl = failedExecution(executionScope, e);
+      return CompletableFuture.completedFuture(() -> postExecutionControl);
+    }
+  }
+
+  private static RuntimeException unwrap(Throwable failure) {
+    if (failure instanceof CompletionException && failure.getCause() != null) {
+      failure = failure.getCause();
+    }
+    return failure instanceof RuntimeException ? (RuntimeException) failure
+        : new OperatorException("Asynchronous reconciliation failed", failure);
+  }
+
+  /**
+   * Handles the execution of several resources of a
+   * {@link io.javaoperatorsdk.operator.api.reconciler.BatchReconciler}. The resources which are
+   * marked for deletion or which still need the finalizer to be added are handled one by one, the
+   * other ones are reconciled in a single call.
+   *
+   * @param executionScopes the scopes of the resources
+   * @return the post execution control of each resource, in the same order
+   */
+  public List<PostExecutionControl<R>> handleBatchExecution(
+      List<ExecutionScope<R>> executionScopes) {
+    @SuppressWarnings("unchecked")
+    final PostExecutionControl<R>[] results = new PostExecutionControl[executionScopes.size()];
+    final var batched = new ArrayList<Integer>(executionScopes.size());
+    final var originalResources = new ArrayList<R>(executionScopes.size());
+    final var resourcesForExecution = new ArrayList<R>(executionScopes.size());
+    final var contexts = new ArrayList<Context>(executionScopes.size());
+    for (int i = 0; i < executionScopes.size(); i++) {
+      final var executionScope = executionScopes.get(i);
+      final var resource = executionScope.getResource();
+      if (resource.isMarkedForDeletion() || (configuration().useFinalizer()
+          && !resource.hasFinalizer(configuration().getFinalizer()))) {
+        results[i] = handleExecution(executionScope);
+      } else {
+        final Context context = createContext(executionScope);
+        batched.add(i);
+        originalResources.add(resource);
+        resourcesForExecution.add(cloneResourceForErrorStatusHandlerIfNeeded(resource, context));
+        contexts.add(context);
+      }
+    }
+    if (!batched.isEmpty()) {
+      handleBatchReconcile(executionScopes, batched, originalResources, resourcesForExecution,
+          contexts, results);
+    }
+    return Arrays.asList(results);
+  }
+
+  private void handleBatchReconcile(List<ExecutionScope<R>> executionScopes,
+      List<Integer> batched, List<R> originalResources, List<R> resourcesForExecution,
+      List<Context> contexts, PostExecutionControl<R>[] results) {
+    log.debug("Executing batch reconciliation of {} resources", batched.size());
+    final List<UpdateControl<R>> updateControls;
+    try {
+      updateControls = controller.reconcileBatch(resourcesForExecution, contexts);
+      if (updateControls == null || updateControls.size() != batched.size()) {
+        throw new IllegalStateException("Batch reconciler returned "
+            + (updateControls == null ? "no" : updateControls.size())
+            + " update controls for " + batched.size() + " resources");
+      }
+    } catch (RuntimeException e) {
+      log.error("Error during batch reconciliation of {} resources", batched.size(), e);
+      for (int j = 0; j < batched.size(); j++) {
+        handleLastAttemptErrorStatusHandler(originalResources.get(j), contexts.get(j), e);
+        results[batched.get(j)] = PostExecutionControl.exceptionDuringExecution(e);
+      }
+      return;
+    }
+    for (int j = 0; j < batched.size(); j++) {
+      final var executionScope = executionScopes.get(batched.get(j));
+      try {
+        results[batched.get(j)] = handleUpdateControl(updateControls.get(j),
+            resourcesForExecution.get(j), originalResources.get(j));
+      } catch (RuntimeException e) {
+        log.error("Error during event processing {} failed.", executionScope, e);
+        handleLastAttemptErrorStatusHandler(originalResources.get(j), contexts.get(j), e);
+        results[batched.get(j)] = PostExecutionControl.exceptionDuringExecution(e);
+      }
     }
   }
 
@@ -73,8 +230,7 @@ class ReconciliationDispatcher<R extends HasMetadata> {
       return PostExecutionControl.defaultDispatch();
     }
 
-    Context context =
-        new DefaultContext(executionScope.getRetryInfo());
+    Context context = createContext(executionScope);
     if (markedForDeletion) {
       return handleCleanup(resource, context);
     } else {
@@ -82,6 +238,23 @@ class ReconciliationDispatcher<R extends HasMetadata> {
     }
   }
 
+  private Context createContext(ExecutionScope<R> executionScope) {
+    return configuration().isReadOnlyResources()
+        ? new DefaultContext(executionScope.getRetryInfo(),
+            configuration().getConfigurationService().getResourceCloner())
+        : new DefaultContext(executionScope.getRetryInfo());
+  }
+
+  /**
+   * The resources of read only controllers are the instances of the cache, so they're cloned before
+   * the framework modifies them.
+   */
+  private R writable(R resource, R originalResource) {
+    return configuration().isReadOnlyResources() && resource == originalResource
+        ? configuration().getConfigurationService().getResourceCloner().clone(resource)
+        : resource;
+  }
+
   /**
    * Determines whether the given resource should be dispatched to the controller's
    * {@link Reconciler#cleanup(HasMetadata, Context)} method
@@ -106,7 +279,7 @@ class ReconciliationDispatcher<R extends HasMetadata> {
        * finalizer add. This will make sure that the resources are not created before there is a
        * finalizer.
        */
-      updateCustomResourceWithFinalizer(originalResource);
+      updateCustomResourceWithFinalizer(writable(originalResource, originalResource));
       return PostExecutionControl.onlyFinalizerAdded();
     } else {
       try {
@@ -128,6 +301,10 @@ class ReconciliationDispatcher<R extends HasMetadata> {
    * place for status update.
    */
   private R cloneResourceForErrorStatusHandlerIfNeeded(R resource, Context context) {
+    if (configuration().isReadOnlyResources()) {
+      // the reconciler doesn't modify the resource, the framework clones it before modifying it
+      return resource;
+    }
     if (isLastAttemptOfRetryAndErrorStatusHandlerPresent(context) ||
         shouldUpdateObservedGenerationAutomatically(resource)) {
       return configuration().getConfigurationService().getResourceCloner().clone(resource);
@@ -145,31 +322,44 @@ class ReconciliationDispatcher<R extends HasMetadata> {
         executionScope);
 
     UpdateControl<R> updateControl = controller.reconcile(resourceForExecution, context);
+    return handleUpdateControl(updateControl, resourceForExecution, originalResource);
+  }
+
+  private PostExecutionControl<R> handleUpdateControl(UpdateControl<R> updateControl,
+      R resourceForExecution, R originalResource) {
     R updatedCustomResource = null;
     if (updateControl.isUpdateResourceAndStatus()) {
-      updatedCustomResource = updateCustomResource(updateControl.getResource());
-      updateControl
-          .getResource()
-          .getMetadata()
+      final var resource = writable(updateControl.getResource(), originalResource);
+      updatedCustomResource = updateCustomResource(resource);
+      resource.getMetadata()
           .setResourceVersion(updatedCustomResource.getMetadata().getResourceVersion());
-      updatedCustomResource = updateStatusGenerationAware(updateControl.getResource());
+      updatedCustomResource = updateStatusGenerationAware(resource);
     } else if (updateControl.isUpdateStatus()) {
-      updatedCustomResource = updateStatusGenerationAware(updateControl.getResource());
+      updatedCustomResource =
+          updateStatusGenerationAware(writable(updateControl.getResource(), originalResource));
     } else if (updateControl.isUpdateResource()) {
-      updatedCustomResource = updateCustomResource(updateControl.getResource());
+      updatedCustomResource =
+          updateCustomResource(writable(updateControl.getResource(), originalResource));
     } else if (updateControl.isNoUpdate()
         && shouldUpdateObservedGenerationAutomatically(resourceForExecution)) {
-      updatedCustomResource = updateStatusGenerationAware(originalResource);
+      updatedCustomResource =
+          updateStatusGenerationAware(writable(originalResource, originalResource));
     }
     return createPostExecutionControl(updatedCustomResource, updateControl);
   }
 
+  /**
+   * Also handles the failures which won't be retried, see {@link RetryDecision#never()}, whatever
+   * the attempt. The resource isn't cloned beforehand in that case, so the error status handler
+   * gets it as modified by the reconciler.
+   */
   private void handleLastAttemptErrorStatusHandler(R resource, Context context,
       RuntimeException e) {
-    if (isLastAttemptOfRetryAndErrorStatusHandlerPresent(context)) {
+    if (isLastAttemptOfRetryAndErrorStatusHandlerPresent(context)
+        || controller.getReconciler() instanceof ErrorStatusHandler && isPermanent(e)) {
       try {
         var updatedResource = ((ErrorStatusHandler<R>) controller.getReconciler())
-            .updateErrorStatus(resource, e);
+            .updateErrorStatus(writable(resource, resource), e);
         customResourceFacade.updateStatus(updatedResource);
       } catch (RuntimeException ex) {
         log.error("Error during error status handling.", ex);
@@ -186,6 +376,10 @@ class ReconciliationDispatcher<R extends HasMetadata> {
     }
   }
 
+  private boolean isPermanent(RuntimeException e) {
+    return configuration().getRetryConfiguration().getRetryClassifier().classify(e).isNever();
+  }
+
   private R updateStatusGenerationAware(R resource) {
     updateStatusObservedGenerationIfRequired(resource);
     return customResourceFacade.updateStatus(resource);
@@ -248,7 +442,7 @@ class ReconciliationDispatcher<R extends HasMetadata> {
       // cleanup is finished, nothing left to done
       if (deleteControl.isRemoveFinalizer()
           && resource.hasFinalizer(configuration().getFinalizer())) {
-        R customResource = removeFinalizer(resource);
+        R customResource = removeFinalizer(writable(resource, resource));
         return PostExecutionControl.customResourceUpdated(customResource);
       }
     }
@@ -300,27 +494,81 @@ class ReconciliationDispatcher<R extends HasMetadata> {
   // created to support unit testing
   static class CustomResourceFacade<R extends HasMetadata> {
 
+    private static final String UPDATE_STATUS = "updateStatus";
+    private static final String REPLACE = "replace";
+
     private final MixedOperation<R, KubernetesResourceList<R>, Resource<R>> resourceOperation;
+    private final RateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final String controllerName;
+    private final Metrics metrics;
+    // null when the resources written are not cached until the informers receive them
+    private final ControllerResourceCache<R> resourceCache;
 
     public CustomResourceFacade(
         MixedOperation<R, KubernetesResourceList<R>, Resource<R>> resourceOperation) {
+      this(resourceOperation, RateLimiter.UNLIMITED, CircuitBreaker.DISABLED, null, Metrics.NOOP,
+          null);
+    }
+
+    CustomResourceFacade(
+        MixedOperation<R, KubernetesResourceList<R>, Resource<R>> resourceOperation,
+        RateLimiter rateLimiter, CircuitBreaker circuitBreaker, String controllerName,
+        Metrics metrics, ControllerResourceCache<R> resourceCache) {
       this.resourceOperation = resourceOperation;
+      this.rateLimiter = rateLimiter;
+      this.circuitBreaker = circuitBreaker;
+      this.controllerName = controllerName;
+      this.metrics = metrics;
+      this.resourceCache = resourceCache;
     }
 
     public R updateStatus(R resource) {
       log.trace("Updating status for resource: {}", resource);
-      return resourceOperation
+      acquirePermit(UPDATE_STATUS, resource);
+      final var previousVersion = resource.getMetadata().getResourceVersion();
+      return written(previousVersion, resourceOperation
           .inNamespace(resource.getMetadata().getNamespace())
           .withName(getName(resource))
-          .updateStatus(resource);
+          .updateStatus(resource));
     }
 
     public R replaceWithLock(R resource) {
-      return resourceOperation
+      acquirePermit(REPLACE, resource);
+      final var previousVersion = resource.getMetadata().getResourceVersion();
+      return written(previousVersion, resourceOperation
           .inNamespace(resource.getMetadata().getNamespace())
           .withName(getName(resource))
-          .lockResourceVersion(resource.getMetadata().getResourceVersion())
-          .replace(resource);
+          .lockResourceVersion(previousVersion)
+          .replace(resource));
+    }
+
+    private R written(String previousVersion, R updated) {
+      if (resourceCache != null && updated != null) {
+        resourceCache.putWrittenResource(previousVersion, updated);
+      }
+      return updated;
+    }
+
+    private void acquirePermit(String verb, R resource) {
+      circuitBreaker.checkWritesAllowed();
+      if (rateLimiter == RateLimiter.UNLIMITED) {
+        return;
+      }
+      final var start = System.nanoTime();
+      try {
+        // the only update of a resource marked for deletion is the removal of the finalizer, which
+        // unblocks the deletion so it goes first
+        rateLimiter.acquire(verb, controllerName, resource.getMetadata().getNamespace(),
+            resource.isMarkedForDeletion());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new OperatorException(
+            "Interrupted while waiting to " + verb + " resource " + getName(resource), e);
+      }
+      metrics.rateLimiterWait(controllerName, verb, System.nanoTime() - start);
+      // the circuit breaker might have opened while waiting for the rate limiter
+      circuitBreaker.checkWritesAllowed();
     }
   }
 }
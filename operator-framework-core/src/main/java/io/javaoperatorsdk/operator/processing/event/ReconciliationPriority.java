@@ -0,0 +1,22 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+/**
+ * Classes of reconciliations, used to dispatch the reconciliations of a controller waiting for an
+ * available thread. By default, the classes are dispatched in the declaration order of this enum:
+ * reconciliations needed to let a resource be deleted first, resyncs last. See
+ * {@link io.javaoperatorsdk.operator.api.config.ReconciliationPriorityConfiguration} to change it.
+ */
+public enum ReconciliationPriority {
+  /** The resource is being deleted, the finalizer needs to be removed */
+  DELETION,
+  /** The generation of the resource changed, usually meaning its spec changed */
+  GENERATION_CHANGE,
+  /** Another change of the resource, e.g. of its labels or status */
+  RESOURCE_CHANGE,
+  /** An event from a secondary resource or a custom event source */
+  SECONDARY_RESOURCE,
+  /** A reconciliation rescheduled by the reconciler or a retry */
+  TIMER,
+  /** The resource was listed again by the informer without being changed, e.g. after a restart */
+  RESYNC
+}
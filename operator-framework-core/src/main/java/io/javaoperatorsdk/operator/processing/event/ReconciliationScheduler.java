@@ -0,0 +1,362 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import io.javaoperatorsdk.operator.api.config.ReconciliationFairnessConfiguration;
+import io.javaoperatorsdk.operator.api.config.ReconciliationPriorityConfiguration;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+import io.javaoperatorsdk.operator.processing.ratelimit.ConcurrencyLimiter;
+
+/**
+ * Bulkhead between a controller and the executor shared by all the controllers of an operator. At
+ * most the configured number of reconciliations of the controller run on the executor at the same
+ * time, others are queued and handed to the executor when a running one finishes. Submitting never
+ * blocks, so the caller can hold the lock of the related resource.
+ * <p>
+ * Queued reconciliations are grouped by the key computed by the
+ * {@link ReconciliationFairnessConfiguration}, by default the namespace, and groups are served
+ * using deficit round-robin: when its turn comes, a group dispatches up to its weight of
+ * reconciliations, groups at their own concurrency limit being skipped.
+ * <p>
+ * Within a group, reconciliations are dispatched by priority. To prevent starvation, a
+ * reconciliation is ordered by its enqueue time plus its rank times the aging interval: waiting for
+ * one aging interval is worth one rank, and reconciliations with the same priority are dispatched
+ * in FIFO order.
+ * <p>
+ * On top of the limit of the controller, each dispatched reconciliation needs a permit from the
+ * {@link ConcurrencyLimiter} shared by all the controllers, so that the whole operator backs off
+ * when the API server is overloaded.
+ * <p>
+ * An asynchronous reconciliation, see
+ * {@link #executeAsync(Supplier, ResourceID, ReconciliationPriority)}, keeps its slot and its
+ * permit until its stage completed and the step finishing it ran, so the limits bound the
+ * reconciliations in flight rather than the threads starting them.
+ */
+class ReconciliationScheduler {
+
+  private static final Comparator<QueuedReconciliation> DISPATCH_ORDER =
+      Comparator.comparingLong((QueuedReconciliation q) -> q.dispatchKey)
+          .thenComparingLong(q -> q.sequence);
+
+  private final ExecutorService executor;
+  private final int maxConcurrentReconciliations;
+  private final ReconciliationPriorityConfiguration priorityConfiguration;
+  private final ReconciliationFairnessConfiguration fairnessConfiguration;
+  private final ConcurrencyLimiter concurrencyLimiter;
+  private final LongSupplier nanoClock;
+  // called on the thread of the shared timer when a limiter pause ends, so only hands off
+  private final Runnable permitListener = this::dispatchPendingOnExecutor;
+  // groups with queued or running reconciliations
+  private final Map<String, Group> groups = new HashMap<>();
+  // groups with queued reconciliations, in round-robin order
+  private final Deque<Group> activeGroups = new ArrayDeque<>();
+  private long sequence;
+  private int running;
+  private int queued;
+  private boolean listening;
+
+  /**
+   * @param executor the executor reconciliations are run on
+   * @param maxConcurrentReconciliations the maximum number of reconciliations running at the same
+   *        time, a value lesser or equal to zero meaning no limit
+   * @param priorityConfiguration the configuration of the order in which queued reconciliations of
+   *        a group are dispatched
+   * @param fairnessConfiguration the configuration of the groups reconciliations are queued in
+   * @param controllerName the name of the controller, used for metrics
+   * @param metrics the metrics to register the queues to
+   * @param concurrencyLimiter the limiter shared by all the controllers
+   */
+  ReconciliationScheduler(ExecutorService executor, int maxConcurrentReconciliations,
+      ReconciliationPriorityConfiguration priorityConfiguration,
+      ReconciliationFairnessConfiguration fairnessConfiguration, String controllerName,
+      Metrics metrics, ConcurrencyLimiter concurrencyLimiter) {
+    this(executor, maxConcurrentReconciliations, priorityConfiguration, fairnessConfiguration,
+        controllerName, metrics, concurrencyLimiter, System::nanoTime);
+  }
+
+  ReconciliationScheduler(ExecutorService executor, int maxConcurrentReconciliations,
+      ReconciliationPriorityConfiguration priorityConfiguration,
+      ReconciliationFairnessConfiguration fairnessConfiguration, String controllerName,
+      Metrics metrics, ConcurrencyLimiter concurrencyLimiter, LongSupplier nanoClock) {
+    this.executor = executor;
+    this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+    this.priorityConfiguration = priorityConfiguration;
+    this.fairnessConfiguration = fairnessConfiguration;
+    this.concurrencyLimiter = concurrencyLimiter;
+    this.nanoClock = nanoClock;
+    metrics.monitorReconciliationGroups(controllerName, this::queuedGroups,
+        this::largestGroupQueue);
+    start();
+  }
+
+  /**
+   * Listens to the permits of the shared limiter again after {@link #stop()}.
+   */
+  synchronized void start() {
+    if (!listening) {
+      listening = true;
+      concurrencyLimiter.addPermitListener(permitListener);
+    }
+  }
+
+  /**
+   * Stops listening to the permits of the shared limiter, which outlives the controller.
+   */
+  synchronized void stop() {
+    if (listening) {
+      listening = false;
+      concurrencyLimiter.removePermitListener(permitListener);
+    }
+  }
+
+  public void execute(Runnable reconciliation, ResourceID resourceID,
+      ReconciliationPriority priority) {
+    executeAsync(() -> {
+      reconciliation.run();
+      return null;
+    }, resourceID, priority);
+  }
+
+  /**
+   * @param reconciliation starts the reconciliation on the executor, returning a stage completed
+   *        with the blocking step finishing it, which is run on the executor too, or {@code null}
+   *        if the reconciliation already finished
+   * @param resourceID the resource reconciled
+   * @param priority the priority of the reconciliation
+   */
+  public void executeAsync(Supplier<CompletionStage<Runnable>> reconciliation,
+      ResourceID resourceID, ReconciliationPriority priority) {
+    final var key = fairnessConfiguration.keyOf(resourceID);
+    final List<Dispatch> dispatches;
+    synchronized (this) {
+      final var group = groups.computeIfAbsent(key, Group::new);
+      if (group.queue.isEmpty()) {
+        activeGroups.addLast(group);
+      }
+      group.queue.add(new QueuedReconciliation(reconciliation, dispatchKey(priority), sequence++));
+      queued++;
+      dispatches = takeDispatchable();
+    }
+    dispatch(dispatches);
+  }
+
+  private long dispatchKey(ReconciliationPriority priority) {
+    return nanoClock.getAsLong() + priorityConfiguration.rankOf(priority)
+        * TimeUnit.MILLISECONDS.toNanos(priorityConfiguration.getAgingIntervalMillis());
+  }
+
+  /**
+   * Takes the queued reconciliations that can be dispatched, must be called holding the lock.
+   */
+  private List<Dispatch> takeDispatchable() {
+    List<Dispatch> dispatches = List.of();
+    while ((maxConcurrentReconciliations <= 0 || running < maxConcurrentReconciliations)
+        && !activeGroups.isEmpty() && concurrencyLimiter.tryAcquire()) {
+      final var next = takeNext();
+      if (next == null) {
+        // all the groups with queued reconciliations are at their limit
+        concurrencyLimiter.cancelAcquire();
+        break;
+      }
+      if (dispatches.isEmpty()) {
+        dispatches = new ArrayList<>(2);
+      }
+      dispatches.add(next);
+    }
+    return dispatches;
+  }
+
+  private Dispatch takeNext() {
+    // each group is visited at most once, skipping the groups at their limit
+    for (int i = activeGroups.size(); i > 0; i--) {
+      final var group = activeGroups.peekFirst();
+      if (group.atLimit()) {
+        activeGroups.addLast(activeGroups.pollFirst());
+        continue;
+      }
+      if (group.deficit <= 0) {
+        // the turn of the group starts
+        group.deficit = Math.max(1, fairnessConfiguration.weightOf(group.key));
+      }
+      final var next = group.queue.poll();
+      queued--;
+      group.deficit--;
+      group.running++;
+      running++;
+      if (group.queue.isEmpty()) {
+        activeGroups.pollFirst();
+        group.deficit = 0;
+      } else if (group.deficit <= 0) {
+        activeGroups.addLast(activeGroups.pollFirst());
+      }
+      return new Dispatch(group, next.reconciliation);
+    }
+    return null;
+  }
+
+  private void dispatch(List<Dispatch> dispatches) {
+    for (int i = 0; i < dispatches.size(); i++) {
+      final var dispatch = dispatches.get(i);
+      try {
+        executor.execute(() -> start(dispatch));
+      } catch (RejectedExecutionException e) {
+        // the executor is shut down, so none of the remaining ones would be accepted either
+        cancel(dispatches.subList(i, dispatches.size()));
+        throw e;
+      }
+    }
+  }
+
+  private void cancel(List<Dispatch> dispatches) {
+    synchronized (this) {
+      dispatches.forEach(dispatch -> release(dispatch.group));
+    }
+    dispatches.forEach(dispatch -> concurrencyLimiter.cancelAcquire());
+  }
+
+  private void start(Dispatch dispatch) {
+    CompletionStage<Runnable> completion = null;
+    try {
+      completion = dispatch.reconciliation.get();
+    } finally {
+      if (completion == null) {
+        reconciliationFinished(dispatch.group);
+      }
+    }
+    if (completion != null) {
+      completion.whenComplete((finish, failure) -> finish(dispatch.group, finish));
+    }
+  }
+
+  private void finish(Group group, Runnable finish) {
+    try {
+      executor.execute(() -> {
+        try {
+          if (finish != null) {
+            finish.run();
+          }
+        } finally {
+          reconciliationFinished(group);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      reconciliationFinished(group);
+    }
+  }
+
+  private void reconciliationFinished(Group group) {
+    synchronized (this) {
+      release(group);
+    }
+    // might dispatch the pending reconciliations of other controllers, so outside the lock
+    concurrencyLimiter.release();
+    dispatchPending();
+  }
+
+  private void dispatchPending() {
+    final List<Dispatch> dispatches;
+    synchronized (this) {
+      dispatches = takeDispatchable();
+    }
+    dispatch(dispatches);
+  }
+
+  private void dispatchPendingOnExecutor() {
+    try {
+      executor.execute(this::dispatchPending);
+    } catch (RejectedExecutionException e) {
+      // the executor is shut down, nothing is dispatched anymore
+    }
+  }
+
+  private void release(Group group) {
+    running--;
+    group.running--;
+    if (group.running == 0 && group.queue.isEmpty()) {
+      groups.remove(group.key, group);
+    }
+  }
+
+  int getMaxConcurrentReconciliations() {
+    return maxConcurrentReconciliations;
+  }
+
+  synchronized int running() {
+    return running;
+  }
+
+  synchronized int queued() {
+    return queued;
+  }
+
+  synchronized int queued(String key) {
+    final var group = groups.get(key);
+    return group == null ? 0 : group.queue.size();
+  }
+
+  synchronized int queuedGroups() {
+    return activeGroups.size();
+  }
+
+  synchronized int largestGroupQueue() {
+    int largest = 0;
+    for (var group : activeGroups) {
+      largest = Math.max(largest, group.queue.size());
+    }
+    return largest;
+  }
+
+  private class Group {
+    private final String key;
+    private final int maxConcurrentReconciliations;
+    private final Queue<QueuedReconciliation> queue = new PriorityQueue<>(DISPATCH_ORDER);
+    private int running;
+    private int deficit;
+
+    private Group(String key) {
+      this.key = key;
+      this.maxConcurrentReconciliations = fairnessConfiguration.maxConcurrentReconciliations(key);
+    }
+
+    private boolean atLimit() {
+      return maxConcurrentReconciliations > 0 && running >= maxConcurrentReconciliations;
+    }
+  }
+
+  private static class QueuedReconciliation {
+    private final Supplier<CompletionStage<Runnable>> reconciliation;
+    private final long dispatchKey;
+    private final long sequence;
+
+    private QueuedReconciliation(Supplier<CompletionStage<Runnable>> reconciliation,
+        long dispatchKey, long sequence) {
+      this.reconciliation = reconciliation;
+      this.dispatchKey = dispatchKey;
+      this.sequence = sequence;
+    }
+  }
+
+  private static class Dispatch {
+    private final Group group;
+    private final Supplier<CompletionStage<Runnable>> reconciliation;
+
+    private Dispatch(Group group, Supplier<CompletionStage<Runnable>> reconciliation) {
+      this.group = group;
+      this.reconciliation = reconciliation;
+    }
+  }
+}
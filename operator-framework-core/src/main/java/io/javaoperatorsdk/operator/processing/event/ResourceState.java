@@ -0,0 +1,186 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import io.javaoperatorsdk.operator.processing.retry.RetryExecution;
+
+/**
+ * Holds all the processing related state of a single resource: the state of received events, if the
+ * resource is currently under processing and the state of the retry if the last reconciliation
+ * failed. Regarding the events there can be only three distinct states. Either an event is
+ * received, so we eventually process or no event for processing at the moment. The third case is if
+ * a DELETE event is received, this is a special case meaning that the custom resource is deleted.
+ * We don't want to do any processing anymore so other events are irrelevant for us from this point,
+ * except the ones of a resource created again with the same name before the deleted one finished
+ * processing. Note that the dependant resources are either cleaned up by K8S garbage collection or
+ * by the controller implementation for cleanup.
+ * <p>
+ * Instances are not thread safe, access is guarded by the lock of the related resource.
+ */
+class ResourceState {
+
+  public enum EventingState {
+    /** Event but NOT Delete event present */
+    EVENT_PRESENT, NO_EVENT_PRESENT,
+    /** Delete event present, from this point other events are not relevant */
+    DELETE_EVENT_PRESENT,
+  }
+
+  private final ResourceID id;
+  private EventingState eventing = EventingState.NO_EVENT_PRESENT;
+  private boolean underProcessing;
+  private boolean recreated;
+  private RetryExecution retry;
+  private ReconciliationPriority pendingPriority;
+  private boolean debouncing;
+  private long debounceStartedAt;
+  private long debounceDeadline;
+
+  ResourceState(ResourceID id) {
+    this.id = id;
+  }
+
+  public ResourceID getId() {
+    return id;
+  }
+
+  public void markEventReceived() {
+    if (deleteEventPresent()) {
+      throw new IllegalStateException("Cannot receive event after a delete event received");
+    }
+    eventing = EventingState.EVENT_PRESENT;
+  }
+
+  public void unMarkEventReceived() {
+    switch (eventing) {
+      case EVENT_PRESENT:
+        eventing = EventingState.NO_EVENT_PRESENT;
+        pendingPriority = null;
+        break;
+      case DELETE_EVENT_PRESENT:
+        throw new IllegalStateException("Cannot unmark delete event.");
+    }
+  }
+
+  public void markDeleteEventReceived() {
+    eventing = EventingState.DELETE_EVENT_PRESENT;
+    recreated = false;
+  }
+
+  /**
+   * Records an event of a resource created again with the same name after the delete event, while
+   * the deleted resource is still under processing.
+   *
+   * @param priority the priority of the event
+   */
+  public void markRecreated(ReconciliationPriority priority) {
+    recreated = true;
+    pendingPriority = priority;
+  }
+
+  /**
+   * Forgets the deleted resource once it's not under processing anymore, keeping the event of the
+   * resource created again meanwhile, if any.
+   */
+  public void forgetDeletedResource() {
+    eventing = recreated ? EventingState.EVENT_PRESENT : EventingState.NO_EVENT_PRESENT;
+    if (!recreated) {
+      pendingPriority = null;
+    }
+    recreated = false;
+    retry = null;
+    debouncing = false;
+  }
+
+  public boolean deleteEventPresent() {
+    return eventing == EventingState.DELETE_EVENT_PRESENT;
+  }
+
+  public boolean eventPresent() {
+    return eventing == EventingState.EVENT_PRESENT;
+  }
+
+  public boolean noEventPresent() {
+    return eventing == EventingState.NO_EVENT_PRESENT;
+  }
+
+  /**
+   * @return the priority of the events received since the last reconciliation was submitted, or
+   *         {@code null} if none is known
+   */
+  public ReconciliationPriority getPendingPriority() {
+    return pendingPriority;
+  }
+
+  public void setPendingPriority(ReconciliationPriority pendingPriority) {
+    this.pendingPriority = pendingPriority;
+  }
+
+  public boolean isDebouncing() {
+    return debouncing;
+  }
+
+  /**
+   * Starts delaying the submission of the pending reconciliation.
+   *
+   * @param now the current value of the nano clock
+   * @param deadline the value of the nano clock at which the reconciliation can be submitted
+   */
+  public void startDebounce(long now, long deadline) {
+    debouncing = true;
+    debounceStartedAt = now;
+    debounceDeadline = deadline;
+  }
+
+  public long getDebounceStartedAt() {
+    return debounceStartedAt;
+  }
+
+  public long getDebounceDeadline() {
+    return debounceDeadline;
+  }
+
+  public void setDebounceDeadline(long debounceDeadline) {
+    this.debounceDeadline = debounceDeadline;
+  }
+
+  public void stopDebounce() {
+    debouncing = false;
+  }
+
+  public boolean isUnderProcessing() {
+    return underProcessing;
+  }
+
+  public void markProcessing() {
+    underProcessing = true;
+  }
+
+  public void unMarkProcessing() {
+    underProcessing = false;
+  }
+
+  public RetryExecution getRetry() {
+    return retry;
+  }
+
+  public void setRetry(RetryExecution retry) {
+    this.retry = retry;
+  }
+
+  /**
+   * @return {@code true} if this state doesn't carry any information, so it doesn't need to be kept
+   */
+  public boolean isEmpty() {
+    return eventing == EventingState.NO_EVENT_PRESENT && !underProcessing && retry == null;
+  }
+
+  @Override
+  public String toString() {
+    return "ResourceState{" +
+        "id=" + id +
+        ", eventing=" + eventing +
+        ", underProcessing=" + underProcessing +
+        ", debouncing=" + debouncing +
+        ", retryAttempt=" + (retry == null ? 0 : retry.getAttemptCount()) +
+        '}';
+  }
+}
@@ -0,0 +1,42 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single store of the {@link ResourceState} of every resource a controller currently tracks. A
+ * state is only kept as long as it carries information, so the memory used is bounded by the number
+ * of resources with pending events, under processing or being retried, not by the number of
+ * resources ever seen.
+ * <p>
+ * The map itself is thread safe, but a given state must only be accessed while holding the lock
+ * associated with its resource.
+ */
+class ResourceStateManager {
+
+  private final Map<ResourceID, ResourceState> states = new ConcurrentHashMap<>();
+
+  public ResourceState getOrCreate(ResourceID resourceID) {
+    return states.computeIfAbsent(resourceID, ResourceState::new);
+  }
+
+  public Optional<ResourceState> get(ResourceID resourceID) {
+    return Optional.ofNullable(states.get(resourceID));
+  }
+
+  /**
+   * Removes the specified state if it doesn't carry any information anymore.
+   *
+   * @param state the state to potentially remove
+   */
+  public void removeIfEmpty(ResourceState state) {
+    if (state.isEmpty()) {
+      states.remove(state.getId(), state);
+    }
+  }
+
+  public int size() {
+    return states.size();
+  }
+}
@@ -0,0 +1,43 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed set of locks, a resource always maps to the same stripe. This makes sure that the
+ * processing of events related to a given resource is serialized, while events of resources mapped
+ * to different stripes can be processed concurrently.
+ */
+class StripedLock {
+
+  private final ReentrantLock[] stripes;
+  private final int mask;
+
+  StripedLock(int stripeNumber) {
+    if (stripeNumber < 1) {
+      throw new IllegalArgumentException("Number of lock stripes must be positive");
+    }
+    // round up to the next power of two so that stripe selection is a simple mask
+    int size = Integer.highestOneBit(stripeNumber);
+    if (size < stripeNumber) {
+      size <<= 1;
+    }
+    this.stripes = new ReentrantLock[size];
+    for (int i = 0; i < size; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+    this.mask = size - 1;
+  }
+
+  ReentrantLock lockFor(ResourceID resourceID) {
+    return stripes[spread(resourceID.hashCode()) & mask];
+  }
+
+  int size() {
+    return stripes.length;
+  }
+
+  private static int spread(int hash) {
+    // same spreading as done by HashMap, to not only rely on the lower bits of the hash
+    return hash ^ (hash >>> 16);
+  }
+}
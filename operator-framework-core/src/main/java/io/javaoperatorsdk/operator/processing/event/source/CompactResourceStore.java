@@ -0,0 +1,284 @@
+package io.javaoperatorsdk.operator.processing.event.source;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.SharedInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.Store;
+import io.javaoperatorsdk.operator.api.config.ResourceCacheConfiguration;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Keeps resources as deflated JSON in a {@link SerializedResourceStore} for a compact
+ * {@link ResourceCacheConfiguration}. Each stored resource is replaced in the store of its informer
+ * by a stub only holding its metadata, which is resolved to the stored resource when read.
+ */
+class CompactResourceStore<T extends HasMetadata> {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final SerializedResourceStore serializedResources;
+  // the stubs currently standing for the stored resources
+  private final Map<ResourceID, T> stubs = new ConcurrentHashMap<>();
+  // the last stub replaced or removed for each resource, until no reader holds it anymore
+  private final Map<ResourceID, RetiredStub<T>> retiredStubs = new ConcurrentHashMap<>();
+  private final ReferenceQueue<T> collectedStubs = new ReferenceQueue<>();
+  // guarded by itself, null if no hot resources are kept
+  private final Map<ResourceID, HotResource<T>> hotResources;
+
+  CompactResourceStore(ResourceCacheConfiguration configuration) {
+    this(configuration.newSerializedResourceStore(), configuration.getHotResources());
+  }
+
+  CompactResourceStore(SerializedResourceStore serializedResources, int hotResources) {
+    this.serializedResources = serializedResources;
+    this.hotResources = hotResources > 0 ? new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<ResourceID, HotResource<T>> eldest) {
+        return size() > hotResources;
+      }
+    } : null;
+  }
+
+  /**
+   * Stores the specified resource and replaces it by its stub in the store of the informer, unless
+   * the informer already stored a newer resource. The informers notify the resource they just
+   * stored, or the stub they hold on resyncs, which is left as is.
+   *
+   * @param resource the resource notified by the informer
+   * @param informer the informer
+   */
+  void compact(T resource, SharedInformer<T> informer) {
+    final var resourceID = ResourceID.fromResource(resource);
+    if (stubs.get(resourceID) == resource || !(informer.getStore() instanceof Cache)) {
+      return;
+    }
+    replace(resource, store(resource), informer);
+  }
+
+  /**
+   * Replaces the specified resource in the store of the informer, unless the informer already
+   * stored a newer resource.
+   *
+   * @param resource the resource notified by the informer
+   * @param replacement the resource to store instead
+   * @param informer the informer
+   */
+  @SuppressWarnings("unchecked")
+  static <T extends HasMetadata> void replace(T resource, T replacement,
+      SharedInformer<T> informer) {
+    // the fabric8 informers keep the resources in a Cache
+    if (!(informer.getStore() instanceof Cache)) {
+      return;
+    }
+    final var store = (Cache<T>) informer.getStore();
+    final var key = Cache.metaNamespaceKeyFunc(resource);
+    // the informer stores resources holding the same lock, so a newer resource is never replaced
+    synchronized (store) {
+      if (store.getByKey(key) == resource) {
+        store.put(replacement);
+      }
+    }
+  }
+
+  /**
+   * @param resource the resource to store
+   * @return the stub to keep in the store of the informer instead of the resource
+   */
+  T store(T resource) {
+    final var resourceID = ResourceID.fromResource(resource);
+    final var stub = metadataStub(resource);
+    serializedResources.put(resourceID, encode(resource));
+    retire(resourceID, stubs.put(resourceID, stub));
+    return stub;
+  }
+
+  void remove(ResourceID resourceID) {
+    retire(resourceID, stubs.remove(resourceID));
+    serializedResources.remove(resourceID);
+    if (hotResources != null) {
+      synchronized (hotResources) {
+        hotResources.remove(resourceID);
+      }
+    }
+  }
+
+  /**
+   * Keeps recognizing the specified stub, which readers might have got from the informer before it
+   * was replaced or removed, so it's resolved rather than returned as is.
+   */
+  private void retire(ResourceID resourceID, T stub) {
+    RetiredStub<?> collected;
+    while ((collected = (RetiredStub<?>) collectedStubs.poll()) != null) {
+      retiredStubs.remove(collected.resourceID, collected);
+    }
+    if (stub != null) {
+      retiredStubs.put(resourceID, new RetiredStub<>(resourceID, stub, collectedStubs));
+    }
+  }
+
+  boolean isStub(T resource) {
+    final var resourceID = ResourceID.fromResource(resource);
+    if (stubs.get(resourceID) == resource) {
+      return true;
+    }
+    final var retired = retiredStubs.get(resourceID);
+    return retired != null && retired.get() == resource;
+  }
+
+  /**
+   * @param resource a resource of the store of an informer
+   * @return the resource the specified stub stands for, or the newer one if the stub was replaced
+   *         meanwhile, possibly shared with other readers, the specified resource if it's not a
+   *         stub, or {@code null} if the resource was removed meanwhile, the stub only holding its
+   *         metadata
+   */
+  T resolve(T resource) {
+    final var resourceID = ResourceID.fromResource(resource);
+    if (!isStub(resource)) {
+      return resource;
+    }
+    if (hotResources == null) {
+      return decode(resource);
+    }
+    synchronized (hotResources) {
+      final var hot = hotResources.get(resourceID);
+      if (hot != null && hot.stub == resource) {
+        return hot.resource;
+      }
+    }
+    final var decoded = decode(resource);
+    if (decoded == null) {
+      return null;
+    }
+    synchronized (hotResources) {
+      // a newer resource is only stored after the current one was replaced in the informer
+      if (stubs.get(resourceID) == resource) {
+        hotResources.put(resourceID, new HotResource<>(resource, decoded));
+      }
+    }
+    return decoded;
+  }
+
+  /**
+   * @param resource a resource of the store of an informer
+   * @return a new instance of the resource the specified stub stands for, or {@code null} if the
+   *         specified resource is not a stub or if the resource was removed meanwhile
+   */
+  T copy(T resource) {
+    return isStub(resource) ? decode(resource) : null;
+  }
+
+  /**
+   * @param store the store of an informer
+   * @return a view of the store resolving its stubs
+   */
+  Store<T> resolving(Store<T> store) {
+    return new Store<>() {
+      @Override
+      public List<T> list() {
+        return store.list().stream().map(CompactResourceStore.this::resolve)
+            .filter(Objects::nonNull).collect(Collectors.toList());
+      }
+
+      @Override
+      public List<String> listKeys() {
+        return store.listKeys();
+      }
+
+      @Override
+      public T get(T object) {
+        final var resource = store.get(object);
+        return resource != null ? resolve(resource) : null;
+      }
+
+      @Override
+      public T getByKey(String key) {
+        final var resource = store.getByKey(key);
+        return resource != null ? resolve(resource) : null;
+      }
+    };
+  }
+
+  /**
+   * @param resource a resource
+   * @return a new instance of the class of the resource only holding its metadata
+   */
+  @SuppressWarnings("unchecked")
+  static <T extends HasMetadata> T metadataStub(T resource) {
+    try {
+      final var stub = (T) resource.getClass().getConstructor().newInstance();
+      stub.setMetadata(resource.getMetadata());
+      return stub;
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(
+          "Caching metadata only requires a public no-arg constructor on "
+              + resource.getClass().getName(),
+          e);
+    }
+  }
+
+  private byte[] encode(T resource) {
+    final var bytes = new ByteArrayOutputStream();
+    final var deflater = new Deflater(Deflater.BEST_SPEED);
+    try (var out = new DeflaterOutputStream(bytes, deflater)) {
+      OBJECT_MAPPER.writeValue(out, resource);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    } finally {
+      deflater.end();
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * @return the deserialized resource, or {@code null} if it was removed meanwhile
+   */
+  @SuppressWarnings("unchecked")
+  private T decode(T stub) {
+    final var bytes = serializedResources.get(ResourceID.fromResource(stub));
+    if (bytes == null) {
+      return null;
+    }
+    try (var in = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+      return (T) OBJECT_MAPPER.readValue(in, stub.getClass());
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static class RetiredStub<T> extends WeakReference<T> {
+    private final ResourceID resourceID;
+
+    private RetiredStub(ResourceID resourceID, T stub, ReferenceQueue<T> queue) {
+      super(stub, queue);
+      this.resourceID = resourceID;
+    }
+  }
+
+  private static class HotResource<T> {
+    private final T stub;
+    private final T resource;
+
+    private HotResource(T stub, T resource) {
+      this.stub = stub;
+      this.resource = resource;
+    }
+  }
+}
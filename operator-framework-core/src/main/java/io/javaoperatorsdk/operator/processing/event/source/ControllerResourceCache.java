@@ -1,7 +1,17 @@
 package io.javaoperatorsdk.operator.processing.event.source;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -13,55 +23,282 @@ import io.javaoperatorsdk.operator.processing.event.ResourceID;
 
 import static io.javaoperatorsdk.operator.processing.event.source.ControllerResourceEventSource.ANY_NAMESPACE_MAP_KEY;
 
+/**
+ * Cache of the resources of a controller, backed by its informers. The resources the controller
+ * itself wrote, see {@link #putWrittenResource(String, HasMetadata)}, are kept in an overlay until
+ * the informers receive them, so the reconciliation following an update reads what was written
+ * instead of waiting for the watch event. With a compact
+ * {@link io.javaoperatorsdk.operator.api.config.ResourceCacheConfiguration}, the informers only
+ * keep stubs of the resources, resolved when read.
+ */
 public class ControllerResourceCache<T extends HasMetadata> implements ResourceCache<T> {
 
+  static final long WRITTEN_RESOURCE_TTL_MILLIS = 30_000L;
+  private static final long WRITTEN_RESOURCE_TTL_NANOS =
+      TimeUnit.MILLISECONDS.toNanos(WRITTEN_RESOURCE_TTL_MILLIS);
+
   private final Map<String, SharedIndexInformer<T>> sharedIndexInformers;
   private final Cloner cloner;
+  private final Map<ResourceID, WrittenResource<T>> writtenResources = new ConcurrentHashMap<>();
+  private final Map<String, Function<T, List<String>>> indexers = new ConcurrentHashMap<>();
+  private final CompactResourceStore<T> compactStore;
+  private final LongSupplier nanoClock;
 
   public ControllerResourceCache(Map<String, SharedIndexInformer<T>> sharedIndexInformers,
       Cloner cloner) {
+    this(sharedIndexInformers, cloner, null, System::nanoTime);
+  }
+
+  ControllerResourceCache(Map<String, SharedIndexInformer<T>> sharedIndexInformers,
+      Cloner cloner, CompactResourceStore<T> compactStore) {
+    this(sharedIndexInformers, cloner, compactStore, System::nanoTime);
+  }
+
+  ControllerResourceCache(Map<String, SharedIndexInformer<T>> sharedIndexInformers,
+      Cloner cloner, LongSupplier nanoClock) {
+    this(sharedIndexInformers, cloner, null, nanoClock);
+  }
+
+  ControllerResourceCache(Map<String, SharedIndexInformer<T>> sharedIndexInformers,
+      Cloner cloner, CompactResourceStore<T> compactStore, LongSupplier nanoClock) {
     this.sharedIndexInformers = sharedIndexInformers;
     this.cloner = cloner;
+    this.compactStore = compactStore;
+    this.nanoClock = nanoClock;
   }
 
   @Override
   public Stream<T> list(Predicate<T> predicate) {
-    return sharedIndexInformers.values().stream()
-        .flatMap(i -> i.getStore().list().stream().filter(predicate));
+    return filter(sharedIndexInformers.values().stream()
+        .flatMap(i -> i.getStore().list().stream().map(this::resolve)
+            .filter(Objects::nonNull)),
+        predicate);
   }
 
   @Override
   public Stream<T> list(String namespace, Predicate<T> predicate) {
     if (isWatchingAllNamespaces()) {
-      final var stream = sharedIndexInformers.get(ANY_NAMESPACE_MAP_KEY).getStore().list().stream()
-          .filter(r -> r.getMetadata().getNamespace().equals(namespace));
-      return predicate != null ? stream.filter(predicate) : stream;
+      // the informers index the resources by namespace
+      return filter(sharedIndexInformers.get(ANY_NAMESPACE_MAP_KEY).getIndexer()
+          .byIndex(Cache.NAMESPACE_INDEX, namespace).stream()
+          .map(this::resolve).filter(Objects::nonNull), predicate);
     } else {
       final var informer = sharedIndexInformers.get(namespace);
-      return informer != null ? informer.getStore().list().stream().filter(predicate)
+      return informer != null
+          ? filter(informer.getStore().list().stream().map(this::resolve)
+              .filter(Objects::nonNull), predicate)
           : Stream.empty();
     }
   }
 
+  /**
+   * A {@code null} predicate selects all the resources. The resources of a compact cache removed
+   * while being listed must be filtered out before.
+   */
+  private static <T> Stream<T> filter(Stream<T> resources, Predicate<T> predicate) {
+    return predicate != null ? resources.filter(predicate) : resources;
+  }
+
   @Override
   public Optional<T> get(ResourceID resourceID) {
+    return cached(resourceID).map(this::latest).flatMap(resource -> {
+      if (compactStore != null && compactStore.isStub(resource)) {
+        // deserializing a stub already makes a copy, none if the resource was removed meanwhile
+        return Optional.ofNullable(compactStore.copy(resource));
+      }
+      return Optional.of(cloner.clone(resource));
+    });
+  }
+
+  @Override
+  public Optional<T> getReadOnly(ResourceID resourceID) {
+    return cached(resourceID).map(this::resolve);
+  }
+
+  private Optional<T> cached(ResourceID resourceID) {
+    return Optional.ofNullable(informerFor(resourceID).getStore()
+        .getByKey(Cache.namespaceKeyFunc(resourceID.getNamespace().orElse(null),
+            resourceID.getName())));
+  }
+
+  private SharedIndexInformer<T> informerFor(ResourceID resourceID) {
     var sharedIndexInformer = sharedIndexInformers.get(ANY_NAMESPACE_MAP_KEY);
     if (sharedIndexInformer == null) {
       sharedIndexInformer =
           sharedIndexInformers.get(resourceID.getNamespace().orElse(ANY_NAMESPACE_MAP_KEY));
     }
-    var resource = sharedIndexInformer.getStore()
-        .getByKey(Cache.namespaceKeyFunc(resourceID.getNamespace().orElse(null),
-            resourceID.getName()));
-    if (resource == null) {
-      return Optional.empty();
-    } else {
-      return Optional.of(cloner.clone(resource));
+    return sharedIndexInformer;
+  }
+
+  /**
+   * Registers an index of the resources, so they can be looked up by the keys the specified
+   * function computes for them with {@link #byIndex(String, String)} instead of listing them all.
+   * Indexes must be added before the controller starts, e.g. when preparing the event sources. The
+   * resources are always indexed by namespace, see {@link #list(String, Predicate)}.
+   *
+   * @param indexName the name of the index
+   * @param indexFunction computes the keys of a resource in the index
+   * @throws IllegalStateException if the controller already started
+   */
+  public void addIndexer(String indexName, Function<T, List<String>> indexFunction) {
+    if (Cache.NAMESPACE_INDEX.equals(indexName)) {
+      throw new IllegalArgumentException("Index " + indexName + " is reserved");
+    }
+    if (!sharedIndexInformers.isEmpty()) {
+      throw new IllegalStateException(
+          "Index " + indexName + " must be added before the controller starts");
     }
+    indexers.put(indexName, indexFunction);
+  }
+
+  Map<String, Function<T, List<String>>> getIndexers() {
+    if (compactStore == null) {
+      return Collections.unmodifiableMap(indexers);
+    }
+    // the informers index the stubs of the resources
+    final var resolvingIndexers = new HashMap<String, Function<T, List<String>>>();
+    indexers.forEach((indexName, indexFunction) -> resolvingIndexers.put(indexName,
+        resource -> {
+          final var resolved = compactStore.resolve(resource);
+          // removed meanwhile, the informer is about to remove the stub too
+          return resolved != null ? indexFunction.apply(resolved) : List.of();
+        }));
+    return resolvingIndexers;
+  }
+
+  /**
+   * @param indexName the name of the index, see {@link #addIndexer(String, Function)}
+   * @param key the key of the resources in the index
+   * @return the resources indexed with the key
+   */
+  public Stream<T> byIndex(String indexName, String key) {
+    if (!indexers.containsKey(indexName)) {
+      throw new IllegalArgumentException("No index named " + indexName);
+    }
+    return sharedIndexInformers.values().stream()
+        .flatMap(i -> i.getIndexer().byIndex(indexName, key).stream().map(this::resolve)
+            .filter(Objects::nonNull));
+  }
+
+  /**
+   * Records a resource returned by the API server after the controller updated it, so it's read
+   * instead of the one of the informers until they receive it, or a newer version. An update made
+   * on a resource the controller wrote itself keeps the versions the previous updates were made on,
+   * since the informers might not have received any of them yet.
+   *
+   * @param previousVersion the resource version the update was made on
+   * @param resource the updated resource
+   */
+  public void putWrittenResource(String previousVersion, T resource) {
+    final var writtenAt = nanoClock.getAsLong();
+    writtenResources.compute(ResourceID.fromResource(resource), (id, written) -> {
+      if (written == null || !written.isVersion(previousVersion)) {
+        return new WrittenResource<>(resource, Collections.singleton(previousVersion), writtenAt);
+      }
+      final var previousVersions = new HashSet<>(written.previousVersions);
+      previousVersions.add(previousVersion);
+      return new WrittenResource<>(resource, previousVersions, writtenAt);
+    });
+  }
+
+  /**
+   * Replaces the specified resource received by the informers by a pruned copy, the readers of the
+   * informers possibly using the resource already. The copy is only stored if the informers didn't
+   * receive a newer version meanwhile.
+   *
+   * @param resource the resource received by the informers
+   * @param pruner the pruner
+   * @return the pruned copy, or the resource itself if there is nothing to prune
+   */
+  T prune(T resource, ResourcePruner<T> pruner) {
+    if (pruner == ResourcePruners.<T>none()) {
+      return resource;
+    }
+    final var pruned = cloner.clone(resource);
+    pruner.prune(pruned);
+    final var informer = informerFor(ResourceID.fromResource(resource));
+    if (informer != null) {
+      CompactResourceStore.replace(resource, pruned, informer);
+    }
+    return pruned;
+  }
+
+  /**
+   * Forgets the written resource superseded by the specified resource received by the informers,
+   * and replaces the resource by its stub in a compact cache.
+   *
+   * @param resource the resource received by the informers
+   */
+  void onInformerEvent(T resource) {
+    writtenResources.computeIfPresent(ResourceID.fromResource(resource),
+        (id, written) -> written.isNewerThan(resource) ? written : null);
+    if (compactStore != null) {
+      final var informer = informerFor(ResourceID.fromResource(resource));
+      if (informer != null) {
+        compactStore.compact(resource, informer);
+      }
+    }
+  }
+
+  void onInformerDelete(ResourceID resourceID) {
+    writtenResources.remove(resourceID);
+    if (compactStore != null) {
+      compactStore.remove(resourceID);
+    }
+  }
+
+  /**
+   * @return the cached resource, or {@code null} if it was removed from a compact cache meanwhile
+   */
+  private T resolve(T cached) {
+    final var resource = latest(cached);
+    return compactStore != null ? compactStore.resolve(resource) : resource;
+  }
+
+  private T latest(T cached) {
+    if (writtenResources.isEmpty()) {
+      return cached;
+    }
+    final var resourceID = ResourceID.fromResource(cached);
+    final var written = writtenResources.get(resourceID);
+    if (written == null) {
+      return cached;
+    }
+    final var age = nanoClock.getAsLong() - written.writtenAt;
+    if (written.isNewerThan(cached) && age < WRITTEN_RESOURCE_TTL_NANOS) {
+      return written.resource;
+    }
+    // the informer caught up, or missed the update for too long to trust the written resource
+    writtenResources.remove(resourceID, written);
+    return cached;
   }
 
   private boolean isWatchingAllNamespaces() {
     return sharedIndexInformers.containsKey(ANY_NAMESPACE_MAP_KEY);
   }
 
+  private static class WrittenResource<T extends HasMetadata> {
+    private final T resource;
+    private final Set<String> previousVersions;
+    private final long writtenAt;
+
+    private WrittenResource(T resource, Set<String> previousVersions, long writtenAt) {
+      this.resource = resource;
+      this.previousVersions = previousVersions;
+      this.writtenAt = writtenAt;
+    }
+
+    /**
+     * Resource versions are opaque, so the written resource is only newer as long as the informer
+     * didn't receive any update but the ones the writes were made on.
+     */
+    private boolean isNewerThan(T cached) {
+      return previousVersions.contains(cached.getMetadata().getResourceVersion());
+    }
+
+    private boolean isVersion(String version) {
+      return Objects.equals(version, resource.getMetadata().getResourceVersion());
+    }
+  }
+
 }
@@ -1,10 +1,12 @@
 package io.javaoperatorsdk.operator.processing.event.source;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,6 +21,7 @@ import io.javaoperatorsdk.operator.MissingCRDException;
 import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
 import io.javaoperatorsdk.operator.processing.Controller;
 import io.javaoperatorsdk.operator.processing.MDCUtils;
+import io.javaoperatorsdk.operator.processing.event.ReconciliationPriority;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 
 import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.getName;
@@ -42,11 +45,26 @@ public class ControllerResourceEventSource<T extends HasMetadata> extends Abstra
   private final ResourceEventFilter<T> filter;
   private final OnceWhitelistEventFilterEventFilter<T> onceWhitelistEventFilterEventFilter;
   private final ControllerResourceCache<T> cache;
+  private final ResourcePruner<T> pruner;
+  private final ReconciledFingerprints<T> reconciledFingerprints;
+  private volatile Instant startedAt = Instant.EPOCH;
 
   public ControllerResourceEventSource(Controller<T> controller) {
     this.controller = controller;
-    var cloner = controller.getConfiguration().getConfigurationService().getResourceCloner();
-    this.cache = new ControllerResourceCache<>(sharedIndexInformers, cloner);
+    final var configuration = controller.getConfiguration();
+    var cloner = configuration.getConfigurationService().getResourceCloner();
+    final var cacheConfiguration = configuration.getResourceCacheConfiguration();
+    this.cache = cacheConfiguration.isCompact()
+        ? new ControllerResourceCache<>(sharedIndexInformers, cloner,
+            new CompactResourceStore<>(cacheConfiguration))
+        : new ControllerResourceCache<>(sharedIndexInformers, cloner);
+    this.pruner = controller.getConfiguration().getResourcePruner();
+    final var snapshotDirectory =
+        configuration.getConfigurationService().getReconciliationSnapshotDirectory();
+    this.reconciledFingerprints = snapshotDirectory == null ? null
+        : new ReconciledFingerprints<>(
+            snapshotDirectory.resolve(configuration.getName() + ".fingerprints"),
+            configuration.isGenerationAware());
 
     var filters = new ResourceEventFilter[] {
         ResourceEventFilters.finalizerNeededAndApplied(),
@@ -72,6 +90,10 @@ public class ControllerResourceEventSource<T extends HasMetadata> extends Abstra
     final var targetNamespaces = configuration.getEffectiveNamespaces();
     final var client = controller.getCRClient();
     final var labelSelector = configuration.getLabelSelector();
+    startedAt = Instant.now();
+    if (reconciledFingerprints != null) {
+      reconciledFingerprints.start();
+    }
 
     try {
       if (ControllerConfiguration.allNamespacesWatched(targetNamespaces)) {
@@ -102,11 +124,34 @@ public class ControllerResourceEventSource<T extends HasMetadata> extends Abstra
       }
       throw e;
     }
+    if (reconciledFingerprints != null) {
+      pruneFingerprints();
+    }
+  }
+
+  /**
+   * Drops the fingerprints of the resources the informers didn't list, so the snapshot doesn't keep
+   * growing with the resources deleted while the operator was down.
+   */
+  private void pruneFingerprints() {
+    if (!sharedIndexInformers.values().stream().allMatch(SharedIndexInformer::hasSynced)) {
+      log.debug("Not pruning the fingerprints of {}, the informers are not synced", controller);
+      return;
+    }
+    // the stubs of a compact cache hold the metadata, no need to resolve them
+    reconciledFingerprints.retainOnly(sharedIndexInformers.values().stream()
+        .flatMap(informer -> informer.getStore().list().stream())
+        .map(ResourceID::fromResource)
+        .collect(Collectors.toSet()));
   }
 
   private SharedIndexInformer<T> createAndRunInformerFor(
       FilterWatchListDeletable<T, KubernetesResourceList<T>> filteredBySelectorClient, String key) {
     var informer = filteredBySelectorClient.runnableInformer(0);
+    final var indexers = cache.getIndexers();
+    if (!indexers.isEmpty()) {
+      informer.addIndexers(indexers);
+    }
     informer.addEventHandler(this);
     sharedIndexInformers.put(key, informer);
     informer.run();
@@ -123,6 +168,9 @@ public class ControllerResourceEventSource<T extends HasMetadata> extends Abstra
         log.warn("Error stopping informer {} -> {}", controller, informer, e);
       }
     }
+    if (reconciledFingerprints != null) {
+      reconciledFingerprints.stop();
+    }
   }
 
   public void eventReceived(ResourceAction action, T customResource, T oldResource) {
@@ -130,9 +178,17 @@ public class ControllerResourceEventSource<T extends HasMetadata> extends Abstra
       log.debug(
           "Event received for resource: {}", getName(customResource));
       MDCUtils.addResourceInfo(customResource);
-      if (filter.acceptChange(controller.getConfiguration(), oldResource, customResource)) {
-        eventHandler.handleEvent(
-            new ResourceEvent(action, ResourceID.fromResource(customResource)));
+      if (action == ResourceAction.DELETED) {
+        cache.onInformerDelete(ResourceID.fromResource(customResource));
+      } else {
+        // the informer stored the resource right before notifying us
+        customResource = cache.prune(customResource, pruner);
+        cache.onInformerEvent(customResource);
+      }
+      if (filter.acceptChange(controller.getConfiguration(), oldResource, customResource)
+          && !reconciledBeforeRestart(action, customResource)) {
+        eventHandler.handleEvent(new ResourceEvent(action, ResourceID.fromResource(customResource),
+            priorityOf(action, customResource, oldResource)));
       } else {
         log.debug(
             "Skipping event handling resource {} with version: {}",
@@ -144,6 +200,46 @@ public class ControllerResourceEventSource<T extends HasMetadata> extends Abstra
     }
   }
 
+  /**
+   * Whether the resource is listed by the informers unchanged since its last reconciliation, before
+   * the operator restarted.
+   */
+  private boolean reconciledBeforeRestart(ResourceAction action, T resource) {
+    if (action != ResourceAction.ADDED || reconciledFingerprints == null
+        || resource.isMarkedForDeletion()) {
+      return false;
+    }
+    final var configuration = controller.getConfiguration();
+    return (!configuration.useFinalizer() || resource.hasFinalizer(configuration.getFinalizer()))
+        && reconciledFingerprints.isReconciled(resource);
+  }
+
+  void setStartedAt(Instant startedAt) {
+    this.startedAt = startedAt;
+  }
+
+  private ReconciliationPriority priorityOf(ResourceAction action, T resource, T oldResource) {
+    if (action == ResourceAction.DELETED || resource.isMarkedForDeletion()) {
+      return ReconciliationPriority.DELETION;
+    }
+    if (action == ResourceAction.ADDED) {
+      // resources created before the start are listed again, e.g. after a restart of the operator
+      final var creationTimestamp = resource.getMetadata().getCreationTimestamp();
+      return creationTimestamp != null && Instant.parse(creationTimestamp).isBefore(startedAt)
+          ? ReconciliationPriority.RESYNC
+          : ReconciliationPriority.GENERATION_CHANGE;
+    }
+    if (oldResource == null) {
+      return ReconciliationPriority.RESOURCE_CHANGE;
+    }
+    if (Objects.equals(getVersion(oldResource), getVersion(resource))) {
+      return ReconciliationPriority.RESYNC;
+    }
+    return Objects.equals(oldResource.getMetadata().getGeneration(),
+        resource.getMetadata().getGeneration()) ? ReconciliationPriority.RESOURCE_CHANGE
+            : ReconciliationPriority.GENERATION_CHANGE;
+  }
+
   @Override
   public void onAdd(T resource) {
     eventReceived(ResourceAction.ADDED, resource, null);
@@ -167,6 +263,14 @@ public class ControllerResourceEventSource<T extends HasMetadata> extends Abstra
     return cache;
   }
 
+  /**
+   * @return the fingerprints of the reconciled resources, {@code null} if no snapshot is kept, see
+   *         {@link io.javaoperatorsdk.operator.api.config.ConfigurationService#getReconciliationSnapshotDirectory()}
+   */
+  public ReconciledFingerprints<T> getReconciledFingerprints() {
+    return reconciledFingerprints;
+  }
+
   /**
    * @return shared informers by namespace. If custom resource is not namespace scoped use
    *         CustomResourceEventSource.ANY_NAMESPACE_MAP_KEY
@@ -0,0 +1,247 @@
+package io.javaoperatorsdk.operator.processing.event.source;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Timer keeping the scheduled tasks in a hashed wheel of buckets, each bucket covering a tick of
+ * time. Tasks due more than a wheel revolution later are put in the bucket of their tick with the
+ * number of remaining revolutions, so scheduling and cancelling are constant time operations
+ * whatever the number of pending tasks, and cancelled tasks are removed right away instead of being
+ * kept until they expire. Tasks are run on the timer thread, never before their delay elapsed, but
+ * up to a tick late, so they must be short: the tasks doing more than flagging state should be
+ * scheduled with {@link #schedule(Runnable, long, Executor)}, the timer thread then only hands them
+ * off to the executor.
+ * <p>
+ * A single timer, see {@link #shared()}, is used by the {@link TimerEventSource} of all the
+ * controllers and by the other delays of the framework, such as debouncing or the pauses of the
+ * concurrency limiters, rather than a thread each. Its thread only wakes up every tick while tasks
+ * are pending.
+ */
+public class HashedWheelTimer {
+
+  private static final Logger log = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+  static final long DEFAULT_TICK_MILLIS = 10;
+  static final int DEFAULT_WHEEL_SIZE = 512;
+
+  private static final class SharedHolder {
+    private static final HashedWheelTimer SHARED =
+        new HashedWheelTimer("TimerEventSource", DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+  }
+
+  private final String name;
+  private final long tickNanos;
+  private final Timeout[] wheel;
+  private final int mask;
+  private final long startTime = System.nanoTime();
+  // the next tick to process, all the tasks due before it were run
+  private long tick;
+  private int pending;
+  private Thread worker;
+  private boolean stopped;
+
+  /**
+   * @param name the name of the timer thread
+   * @param tickMillis the duration of a tick, the precision of the timer
+   * @param wheelSize the number of buckets, rounded up to a power of two
+   */
+  HashedWheelTimer(String name, long tickMillis, int wheelSize) {
+    if (tickMillis <= 0 || wheelSize <= 0) {
+      throw new IllegalArgumentException(
+          "Tick and wheel size must be positive, got: " + tickMillis + ", " + wheelSize);
+    }
+    this.name = name;
+    this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+    final var size = Integer.highestOneBit(wheelSize) == wheelSize ? wheelSize
+        : Integer.highestOneBit(wheelSize) << 1;
+    this.wheel = new Timeout[size];
+    this.mask = size - 1;
+  }
+
+  public static HashedWheelTimer shared() {
+    return SharedHolder.SHARED;
+  }
+
+  /**
+   * @param task the task to run once the delay elapsed
+   * @param delayMillis the delay in milliseconds
+   * @return the handle to cancel the task
+   */
+  public synchronized Timeout schedule(Runnable task, long delayMillis) {
+    if (stopped) {
+      throw new IllegalStateException("Timer " + name + " is stopped");
+    }
+    final var elapsed = System.nanoTime() - startTime;
+    if (pending == 0) {
+      // the thread is idle, ticks weren't processed meanwhile
+      tick = Math.max(tick, elapsed / tickNanos);
+    }
+    final var dueTick = (elapsed + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis)))
+        / tickNanos;
+    final var timeout = new Timeout(task);
+    timeout.remainingRounds = Math.max(0, (dueTick - tick) / wheel.length);
+    timeout.bucket = (int) (Math.max(dueTick, tick) & mask);
+    timeout.next = wheel[timeout.bucket];
+    if (timeout.next != null) {
+      timeout.next.previous = timeout;
+    }
+    wheel[timeout.bucket] = timeout;
+    if (pending++ == 0) {
+      startOrNotifyWorker();
+    }
+    return timeout;
+  }
+
+  /**
+   * Schedules a task run on the given executor once the delay elapsed, so the timer thread is not
+   * held by it. The task is dropped if the executor rejects it, i.e. if it was shut down.
+   *
+   * @param task the task to run once the delay elapsed
+   * @param delayMillis the delay in milliseconds
+   * @param executor the executor running the task
+   * @return the handle to cancel the task
+   */
+  public Timeout schedule(Runnable task, long delayMillis, Executor executor) {
+    return schedule(() -> {
+      try {
+        executor.execute(task);
+      } catch (RejectedExecutionException e) {
+        log.debug("Timer task {} rejected by executor, dropping it", task);
+      }
+    }, delayMillis);
+  }
+
+  private void startOrNotifyWorker() {
+    if (worker == null) {
+      worker = new Thread(this::run, name);
+      worker.setDaemon(true);
+      worker.start();
+    } else {
+      notifyAll();
+    }
+  }
+
+  private synchronized boolean cancel(Timeout timeout) {
+    if (stopped || timeout.bucket < 0) {
+      return false;
+    }
+    unlink(timeout);
+    return true;
+  }
+
+  private void unlink(Timeout timeout) {
+    if (timeout.previous != null) {
+      timeout.previous.next = timeout.next;
+    } else {
+      wheel[timeout.bucket] = timeout.next;
+    }
+    if (timeout.next != null) {
+      timeout.next.previous = timeout.previous;
+    }
+    timeout.previous = null;
+    timeout.next = null;
+    timeout.bucket = -1;
+    pending--;
+  }
+
+  synchronized int pending() {
+    return pending;
+  }
+
+  /**
+   * Stops the timer thread, the pending tasks are not run. The shared timer is never stopped.
+   */
+  synchronized void stop() {
+    stopped = true;
+    for (int i = 0; i < wheel.length; i++) {
+      wheel[i] = null;
+    }
+    pending = 0;
+    notifyAll();
+  }
+
+  private void run() {
+    while (true) {
+      final List<Runnable> expired;
+      synchronized (this) {
+        try {
+          if (stopped) {
+            return;
+          }
+          if (pending == 0) {
+            wait();
+            continue;
+          }
+          final var sleepNanos = (tick + 1) * tickNanos - (System.nanoTime() - startTime);
+          if (sleepNanos > 0) {
+            // the tick might change meanwhile, so it's checked again after waking up
+            TimeUnit.NANOSECONDS.timedWait(this, sleepNanos);
+            continue;
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        expired = expireBucket();
+        tick++;
+      }
+      for (var task : expired) {
+        try {
+          task.run();
+        } catch (RuntimeException e) {
+          log.warn("Timer task {} failed", task, e);
+        }
+      }
+    }
+  }
+
+  private List<Runnable> expireBucket() {
+    List<Runnable> expired = List.of();
+    var timeout = wheel[(int) (tick & mask)];
+    while (timeout != null) {
+      final var next = timeout.next;
+      if (timeout.remainingRounds <= 0) {
+        if (expired.isEmpty()) {
+          expired = new ArrayList<>();
+        }
+        expired.add(timeout.task);
+        unlink(timeout);
+      } else {
+        timeout.remainingRounds--;
+      }
+      timeout = next;
+    }
+    return expired;
+  }
+
+  /**
+   * Handle of a scheduled task.
+   */
+  public final class Timeout {
+    private final Runnable task;
+    // guarded by the timer, -1 once the task expired or was cancelled
+    private int bucket;
+    private long remainingRounds;
+    private Timeout previous;
+    private Timeout next;
+
+    private Timeout(Runnable task) {
+      this.task = task;
+    }
+
+    /**
+     * @return {@code true} if the task was cancelled, {@code false} if it already ran or was
+     *         cancelled
+     */
+    public boolean cancel() {
+      return HashedWheelTimer.this.cancel(this);
+    }
+  }
+}
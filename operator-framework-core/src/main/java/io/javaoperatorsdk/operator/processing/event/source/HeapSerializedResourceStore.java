@@ -0,0 +1,29 @@
+package io.javaoperatorsdk.operator.processing.event.source;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+/**
+ * Keeps the serialized resources as byte arrays on the heap.
+ */
+public class HeapSerializedResourceStore implements SerializedResourceStore {
+
+  private final Map<ResourceID, byte[]> resources = new ConcurrentHashMap<>();
+
+  @Override
+  public void put(ResourceID resourceID, byte[] bytes) {
+    resources.put(resourceID, bytes);
+  }
+
+  @Override
+  public byte[] get(ResourceID resourceID) {
+    return resources.get(resourceID);
+  }
+
+  @Override
+  public void remove(ResourceID resourceID) {
+    resources.remove(resourceID);
+  }
+}
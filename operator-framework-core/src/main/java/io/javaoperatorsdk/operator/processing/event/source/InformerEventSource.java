@@ -1,7 +1,9 @@
 package io.javaoperatorsdk.operator.processing.event.source;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.slf4j.Logger;
@@ -10,9 +12,12 @@ import org.slf4j.LoggerFactory;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.SharedInformer;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.informers.cache.Store;
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ResourceCacheConfiguration;
 import io.javaoperatorsdk.operator.processing.event.Event;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 
@@ -24,6 +29,11 @@ public class InformerEventSource<T extends HasMetadata> extends AbstractEventSou
   private final Function<T, Set<ResourceID>> secondaryToPrimaryResourcesIdSet;
   private final Function<HasMetadata, T> associatedWith;
   private final boolean skipUpdateEventPropagationIfNoChange;
+  private final ResourcePruner<T> pruner;
+  private final CompactResourceStore<T> compactStore;
+  private final Function<ResourceID, T> resourceFetcher;
+  // the resources fetched in metadata only mode, until the informer receives a newer version
+  private final Map<ResourceID, FetchedResource<T>> fetchedResources = new ConcurrentHashMap<>();
 
   public InformerEventSource(SharedInformer<T> sharedInformer,
       Function<T, Set<ResourceID>> resourceToTargetResourceIDSet) {
@@ -46,16 +56,66 @@ public class InformerEventSource<T extends HasMetadata> extends AbstractEventSou
       Function<T, Set<ResourceID>> resourceToTargetResourceIDSet,
       Function<HasMetadata, T> associatedWith,
       boolean skipUpdateEventPropagationIfNoChange) {
+    this(builder(sharedInformer, resourceToTargetResourceIDSet)
+        .withAssociatedWith(associatedWith)
+        .withSkipUpdateEventPropagationIfNoChange(skipUpdateEventPropagationIfNoChange));
+  }
+
+  /**
+   * @param sharedInformer the informer of the secondary resources, not started yet
+   * @param resourceToTargetResourceIDSet maps a secondary resource to its primary resources
+   * @param <T> the type of the secondary resources
+   * @return a builder of an event source for the resources of the specified informer
+   */
+  public static <T extends HasMetadata> Builder<T> builder(SharedInformer<T> sharedInformer,
+      Function<T, Set<ResourceID>> resourceToTargetResourceIDSet) {
+    return new Builder<>(sharedInformer, resourceToTargetResourceIDSet);
+  }
+
+  /**
+   * @param client the client watching the secondary resources, and fetching them if
+   *        {@link Builder#withMetadataOnly()}
+   * @param type the type of the secondary resources
+   * @param resourceToTargetResourceIDSet maps a secondary resource to its primary resources
+   * @param <T> the type of the secondary resources
+   * @return a builder of an event source for the resources of the specified type
+   */
+  public static <T extends HasMetadata> Builder<T> builder(KubernetesClient client, Class<T> type,
+      Function<T, Set<ResourceID>> resourceToTargetResourceIDSet) {
+    return new Builder<>(client.informers().sharedIndexInformerFor(type, 0),
+        resourceToTargetResourceIDSet)
+            .withResourceFetcher(resourceID -> fetch(client, type, resourceID));
+  }
+
+  private InformerEventSource(Builder<T> builder) {
+    final var sharedInformer = builder.sharedInformer;
+    final var cacheConfiguration = builder.cacheConfiguration;
+    final var resourceFetcher = builder.metadataOnly ? builder.resourceFetcher : null;
+    if (builder.metadataOnly && resourceFetcher == null) {
+      throw new IllegalArgumentException(
+          "Caching the metadata only of secondary resources requires a resource fetcher");
+    }
+    if (resourceFetcher != null && cacheConfiguration.isCompact()) {
+      throw new IllegalArgumentException(
+          "Secondary resources can't be both compact and metadata only");
+    }
+    if (resourceFetcher != null) {
+      rejectCustomIndexers(sharedInformer);
+    }
     this.sharedInformer = sharedInformer;
-    this.secondaryToPrimaryResourcesIdSet = resourceToTargetResourceIDSet;
-    this.skipUpdateEventPropagationIfNoChange = skipUpdateEventPropagationIfNoChange;
+    this.secondaryToPrimaryResourcesIdSet = builder.resourceToTargetResourceIDSet;
+    this.skipUpdateEventPropagationIfNoChange = builder.skipUpdateEventPropagationIfNoChange;
+    this.pruner = builder.pruner;
+    this.compactStore =
+        cacheConfiguration.isCompact() ? new CompactResourceStore<>(cacheConfiguration) : null;
+    this.resourceFetcher = resourceFetcher;
     if (sharedInformer.isRunning()) {
       log.warn(
           "Informer is already running on event source creation, this is not desirable and may " +
               "lead to non deterministic behavior.");
     }
 
-    this.associatedWith = Objects.requireNonNullElseGet(associatedWith, () -> cr -> {
+    this.associatedWith = Objects.requireNonNullElseGet(builder.associatedWith, () -> cr -> {
       final var metadata = cr.getMetadata();
       return getStore().getByKey(Cache.namespaceKeyFunc(metadata.getNamespace(),
           metadata.getName()));
@@ -64,11 +124,13 @@ public class InformerEventSource<T extends HasMetadata> extends AbstractEventSou
     sharedInformer.addEventHandler(new ResourceEventHandler<>() {
       @Override
       public void onAdd(T t) {
+        received(t);
         propagateEvent(t);
       }
 
       @Override
       public void onUpdate(T oldObject, T newObject) {
+        received(newObject);
         if (InformerEventSource.this.skipUpdateEventPropagationIfNoChange &&
             oldObject.getMetadata().getResourceVersion()
                 .equals(newObject.getMetadata().getResourceVersion())) {
@@ -79,11 +141,69 @@ public class InformerEventSource<T extends HasMetadata> extends AbstractEventSou
 
       @Override
       public void onDelete(T t, boolean b) {
-        propagateEvent(t);
+        fetchedResources.remove(ResourceID.fromResource(t));
+        if (compactStore != null) {
+          final var resource = compactStore.resolve(t);
+          compactStore.remove(ResourceID.fromResource(t));
+          // the metadata of the stub still maps to the primary resources if removed meanwhile
+          propagateEvent(resource != null ? resource : t);
+        } else {
+          propagateEvent(t);
+        }
       }
     });
   }
 
+  /**
+   * The informer re-indexes the stubs replacing the resources, the complete resources are not kept
+   * in metadata only mode so the indexers can't be wrapped to resolve them.
+   */
+  private static void rejectCustomIndexers(SharedInformer<?> sharedInformer) {
+    if (!(sharedInformer instanceof SharedIndexInformer)) {
+      return;
+    }
+    final var indexers = ((SharedIndexInformer<?>) sharedInformer).getIndexer().getIndexers();
+    if (indexers.keySet().stream().anyMatch(name -> !Cache.NAMESPACE_INDEX.equals(name))) {
+      throw new IllegalArgumentException(
+          "Caching the metadata only of secondary resources doesn't support custom indexers, got: "
+              + indexers.keySet());
+    }
+  }
+
+  private void received(T received) {
+    final var resource = prune(received);
+    if (compactStore != null) {
+      compactStore.compact(resource, sharedInformer);
+    } else if (resourceFetcher != null) {
+      fetchedResources.computeIfPresent(ResourceID.fromResource(resource),
+          (resourceID, fetched) -> sameVersion(fetched.resource, resource) ? fetched : null);
+      CompactResourceStore.replace(resource, CompactResourceStore.metadataStub(resource),
+          sharedInformer);
+    }
+  }
+
+  /**
+   * Replaces the resource the informer stored right before notifying it by a pruned copy, readers
+   * of the informer possibly using the resource already.
+   */
+  private T prune(T received) {
+    if (pruner == ResourcePruners.<T>none()) {
+      return received;
+    }
+    final var resource = ConfigurationService.DEFAULT_CLONER.clone(received);
+    pruner.prune(resource);
+    CompactResourceStore.replace(received, resource, sharedInformer);
+    return resource;
+  }
+
+  private static <T extends HasMetadata> T fetch(KubernetesClient client, Class<T> type,
+      ResourceID resourceID) {
+    final var resources = client.resources(type);
+    return resourceID.getNamespace()
+        .map(namespace -> resources.inNamespace(namespace).withName(resourceID.getName()).get())
+        .orElseGet(() -> resources.withName(resourceID.getName()).get());
+  }
+
   private void propagateEvent(T object) {
     var primaryResourceIdSet = secondaryToPrimaryResourcesIdSet.apply(object);
     if (primaryResourceIdSet.isEmpty()) {
@@ -113,22 +233,162 @@ public class InformerEventSource<T extends HasMetadata> extends AbstractEventSou
   }
 
   public Store<T> getStore() {
-    return sharedInformer.getStore();
+    return compactStore != null ? compactStore.resolving(sharedInformer.getStore())
+        : sharedInformer.getStore();
   }
 
   /**
    * Retrieves the informed resource associated with the specified primary resource as defined by
-   * the function provided when this InformerEventSource was created
-   * 
+   * the function provided when this InformerEventSource was created. If the informer only keeps the
+   * metadata of the resources, the complete resource is fetched from the API server, provided that
+   * the informer knows of it, and kept until the informer receives another version of it. Like the
+   * resources of the informer, it's shared with the other callers and must not be modified. A
+   * resource fetched while the informer still knows of an older version is kept as well, until the
+   * informer receives another version.
+   *
    * @param resource the primary resource we want to retrieve the associated resource for
    * @return the informed resource associated with the specified primary resource
    */
   public T getAssociated(HasMetadata resource) {
-    return associatedWith.apply(resource);
+    final var associated = associatedWith.apply(resource);
+    if (resourceFetcher == null || associated == null) {
+      return associated;
+    }
+    final var resourceID = ResourceID.fromResource(associated);
+    final var cached = fetchedResources.get(resourceID);
+    if (cached != null && cached.isFetchedFor(associated)) {
+      return cached.resource;
+    }
+    final var fetched = resourceFetcher.apply(resourceID);
+    if (fetched != null) {
+      fetchedResources.put(resourceID,
+          new FetchedResource<>(fetched, associated.getMetadata().getResourceVersion()));
+    }
+    return fetched;
   }
 
+  private static boolean sameVersion(HasMetadata resource, HasMetadata other) {
+    return Objects.equals(resource.getMetadata().getResourceVersion(),
+        other.getMetadata().getResourceVersion());
+  }
 
   public SharedInformer<T> getSharedInformer() {
     return sharedInformer;
   }
+
+  public static class Builder<T extends HasMetadata> {
+
+    private final SharedInformer<T> sharedInformer;
+    private final Function<T, Set<ResourceID>> resourceToTargetResourceIDSet;
+    private Function<HasMetadata, T> associatedWith;
+    private boolean skipUpdateEventPropagationIfNoChange;
+    private ResourcePruner<T> pruner = ResourcePruners.none();
+    private ResourceCacheConfiguration cacheConfiguration = ResourceCacheConfiguration.DEFAULT;
+    private Function<ResourceID, T> resourceFetcher;
+    private boolean metadataOnly;
+
+    private Builder(SharedInformer<T> sharedInformer,
+        Function<T, Set<ResourceID>> resourceToTargetResourceIDSet) {
+      this.sharedInformer = sharedInformer;
+      this.resourceToTargetResourceIDSet = resourceToTargetResourceIDSet;
+    }
+
+    /**
+     * @param associatedWith retrieves the secondary resource of a primary resource, looked up by
+     *        name in the store of the informer if {@code null} (default)
+     * @return this builder
+     */
+    public Builder<T> withAssociatedWith(Function<HasMetadata, T> associatedWith) {
+      this.associatedWith = associatedWith;
+      return this;
+    }
+
+    /**
+     * @param skipUpdateEventPropagationIfNoChange whether to ignore the updates keeping the
+     *        resource version, i.e. resyncs
+     * @return this builder
+     */
+    public Builder<T> withSkipUpdateEventPropagationIfNoChange(
+        boolean skipUpdateEventPropagationIfNoChange) {
+      this.skipUpdateEventPropagationIfNoChange = skipUpdateEventPropagationIfNoChange;
+      return this;
+    }
+
+    /**
+     * @param pruner prunes the secondary resources stored by the informer, see
+     *        {@link ResourcePruner}
+     * @return this builder
+     */
+    public Builder<T> withPruner(ResourcePruner<T> pruner) {
+      this.pruner = Objects.requireNonNull(pruner);
+      return this;
+    }
+
+    /**
+     * @param cacheConfiguration how the secondary resources are kept, if compact, the informer only
+     *        holds their metadata, the complete resources being read with {@link #getStore()}
+     * @return this builder
+     */
+    public Builder<T> withCacheConfiguration(ResourceCacheConfiguration cacheConfiguration) {
+      this.cacheConfiguration = cacheConfiguration;
+      return this;
+    }
+
+    /**
+     * Only keeps the metadata of the secondary resources in the informer, which is all
+     * {@link #getStore()} returns, {@link #getAssociated(HasMetadata)} fetching the complete
+     * resource with the client the builder was created with. The cache configuration must then be
+     * {@link ResourceCacheConfiguration#DEFAULT}.
+     * <p>
+     * The informer indexes the metadata stubs it keeps, so the informer must not have indexers
+     * besides the namespace one, {@link #build()} rejecting them, nor get some added later. This
+     * only reduces the memory held by the informer, not the watch traffic: the fabric8 client
+     * doesn't support watching {@code PartialObjectMetadata}, so the informer still receives the
+     * complete resources before they're replaced by stubs.
+     *
+     * @return this builder
+     */
+    public Builder<T> withMetadataOnly() {
+      this.metadataOnly = true;
+      return this;
+    }
+
+    /**
+     * Like {@link #withMetadataOnly()}, fetching the complete resources with the specified fetcher.
+     *
+     * @param resourceFetcher fetches the complete secondary resource with the specified ID
+     * @return this builder
+     */
+    public Builder<T> withMetadataOnly(Function<ResourceID, T> resourceFetcher) {
+      return withResourceFetcher(resourceFetcher).withMetadataOnly();
+    }
+
+    private Builder<T> withResourceFetcher(Function<ResourceID, T> resourceFetcher) {
+      this.resourceFetcher = resourceFetcher;
+      return this;
+    }
+
+    public InformerEventSource<T> build() {
+      return new InformerEventSource<>(this);
+    }
+  }
+
+  private static class FetchedResource<T extends HasMetadata> {
+    private final T resource;
+    private final String stubVersion;
+
+    private FetchedResource(T resource, String stubVersion) {
+      this.resource = resource;
+      this.stubVersion = stubVersion;
+    }
+
+    /**
+     * The fetched resource might be newer than the stub of the informer, it's only dropped once the
+     * informer receives another version than the one of the stub it was fetched for.
+     */
+    private boolean isFetchedFor(HasMetadata stub) {
+      return sameVersion(resource, stub)
+          || Objects.equals(stubVersion, stub.getMetadata().getResourceVersion());
+    }
+  }
 }
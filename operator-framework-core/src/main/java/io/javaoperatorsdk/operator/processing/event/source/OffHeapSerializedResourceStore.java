@@ -0,0 +1,150 @@
+package io.javaoperatorsdk.operator.processing.event.source;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+/**
+ * Keeps the serialized resources out of the heap, in slabs of direct memory, so that the garbage
+ * collector doesn't have to trace them. Each resource is copied in a chunk of a slab whose size is
+ * the power of two fitting the resource, freed chunks being reused for resources of the same size
+ * class. Slabs are never released, the direct memory used is thus the peak of the stored resources
+ * rounded up to the slabs; it counts against {@code -XX:MaxDirectMemorySize}, which defaults to the
+ * maximum heap size.
+ */
+public class OffHeapSerializedResourceStore implements SerializedResourceStore {
+
+  public static final int DEFAULT_SLAB_SIZE = 16 * 1024 * 1024;
+
+  private static final int MIN_CHUNK_SHIFT = 6;
+  private static final int LENGTH_BYTES = Integer.BYTES;
+
+  private final int slabSize;
+  private final List<ByteBuffer> slabs = new ArrayList<>();
+  private final Map<ResourceID, Long> addresses = new HashMap<>();
+  // stacks of the addresses of the free chunks, by size class
+  private final long[][] freeChunks;
+  private final int[] freeChunkCounts;
+  private int slabOffset;
+
+  public OffHeapSerializedResourceStore() {
+    this(DEFAULT_SLAB_SIZE);
+  }
+
+  /**
+   * @param slabSize the size of the slabs of direct memory allocated, a power of two bounding the
+   *        size of the stored resources
+   */
+  public OffHeapSerializedResourceStore(int slabSize) {
+    if (Integer.bitCount(slabSize) != 1 || slabSize < 1 << MIN_CHUNK_SHIFT) {
+      throw new IllegalArgumentException(
+          "Slab size must be a power of two of at least " + (1 << MIN_CHUNK_SHIFT) + " bytes, got: "
+              + slabSize);
+    }
+    this.slabSize = slabSize;
+    final var sizeClasses = Integer.numberOfTrailingZeros(slabSize) + 1;
+    this.freeChunks = new long[sizeClasses][];
+    Arrays.setAll(freeChunks, i -> new long[0]);
+    this.freeChunkCounts = new int[sizeClasses];
+    this.slabOffset = slabSize;
+  }
+
+  @Override
+  public synchronized void put(ResourceID resourceID, byte[] bytes) {
+    final var address = allocate(sizeClass(bytes.length));
+    final var slab = slabs.get(slabIndex(address));
+    final var offset = offset(address);
+    slab.putInt(offset, bytes.length);
+    slab.position(offset + LENGTH_BYTES);
+    slab.put(bytes);
+    final var previous = addresses.put(resourceID, address);
+    if (previous != null) {
+      free(previous);
+    }
+  }
+
+  @Override
+  public synchronized byte[] get(ResourceID resourceID) {
+    final var address = addresses.get(resourceID);
+    if (address == null) {
+      return null;
+    }
+    final var slab = slabs.get(slabIndex(address));
+    final var offset = offset(address);
+    final var bytes = new byte[slab.getInt(offset)];
+    slab.position(offset + LENGTH_BYTES);
+    slab.get(bytes);
+    return bytes;
+  }
+
+  @Override
+  public synchronized void remove(ResourceID resourceID) {
+    final var address = addresses.remove(resourceID);
+    if (address != null) {
+      free(address);
+    }
+  }
+
+  private int sizeClass(int length) {
+    final var chunkSize = length + LENGTH_BYTES;
+    if (chunkSize > slabSize) {
+      throw new IllegalArgumentException(
+          "Resource of " + length + " bytes exceeds the slab size of " + slabSize + " bytes");
+    }
+    return Math.max(MIN_CHUNK_SHIFT, Integer.SIZE - Integer.numberOfLeadingZeros(chunkSize - 1));
+  }
+
+  private long allocate(int sizeClass) {
+    final var count = freeChunkCounts[sizeClass];
+    if (count > 0) {
+      freeChunkCounts[sizeClass] = count - 1;
+      return freeChunks[sizeClass][count - 1];
+    }
+    final var chunkSize = 1 << sizeClass;
+    if (slabOffset + chunkSize > slabSize) {
+      // hands the end of the current slab to the smaller size classes
+      while (slabOffset < slabSize) {
+        final var remainderClass =
+            Integer.numberOfTrailingZeros(Integer.highestOneBit(slabSize - slabOffset));
+        pushFreeChunk(remainderClass, address(slabs.size() - 1, slabOffset));
+        slabOffset += 1 << remainderClass;
+      }
+      slabs.add(ByteBuffer.allocateDirect(slabSize));
+      slabOffset = 0;
+    }
+    final var address = address(slabs.size() - 1, slabOffset);
+    slabOffset += chunkSize;
+    return address;
+  }
+
+  private void free(long address) {
+    final var length = slabs.get(slabIndex(address)).getInt(offset(address));
+    pushFreeChunk(sizeClass(length), address);
+  }
+
+  private void pushFreeChunk(int sizeClass, long address) {
+    final var count = freeChunkCounts[sizeClass];
+    if (count == freeChunks[sizeClass].length) {
+      freeChunks[sizeClass] = Arrays.copyOf(freeChunks[sizeClass], Math.max(16, count * 2));
+    }
+    freeChunks[sizeClass][count] = address;
+    freeChunkCounts[sizeClass] = count + 1;
+  }
+
+  private static long address(int slabIndex, int offset) {
+    return ((long) slabIndex << Integer.SIZE) | offset;
+  }
+
+  private static int slabIndex(long address) {
+    return (int) (address >>> Integer.SIZE);
+  }
+
+  private static int offset(long address) {
+    return (int) address;
+  }
+}
@@ -0,0 +1,199 @@
+package io.javaoperatorsdk.operator.processing.event.source;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.ExecutorServiceManager;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+/**
+ * Fingerprints of the resources a controller successfully reconciled, kept in a snapshot file so
+ * that a restarted operator doesn't reconcile again the resources which didn't change meanwhile.
+ * The fingerprint of a resource is its UID and generation, or its resource version if the
+ * controller is not generation aware. A resource is forgotten when its reconciliation fails or is
+ * rescheduled, so that it's reconciled again on start. Delete the snapshot to reconcile all the
+ * resources on the next start, e.g. after changing the reconciler.
+ *
+ * <p>
+ * The fabric8 informers list all the resources on start and can't resume watching from a resource
+ * version, the snapshot thus spares the reconciliations of the listed resources, not the listing.
+ * The fingerprints of the resources deleted while the operator was down are dropped once listed,
+ * see {@link #retainOnly(Set)}.
+ */
+public class ReconciledFingerprints<R extends HasMetadata> {
+
+  static final long SAVE_PERIOD_SECONDS = 30;
+
+  private static final Logger log = LoggerFactory.getLogger(ReconciledFingerprints.class);
+  private static final String SEPARATOR = "\t";
+
+  private final Path file;
+  private final boolean generationAware;
+  private final Executor executor;
+  private final Map<ResourceID, String> fingerprints = new ConcurrentHashMap<>();
+  private final AtomicBoolean changed = new AtomicBoolean();
+  private HashedWheelTimer.Timeout saveTimeout;
+  private boolean saving;
+
+  /**
+   * @param file the snapshot file
+   * @param generationAware whether resources only need to be reconciled when their generation
+   *        changes
+   */
+  public ReconciledFingerprints(Path file, boolean generationAware) {
+    this(file, generationAware, ExecutorServiceManager.reconciliationExecutor());
+  }
+
+  /**
+   * @param file the snapshot file
+   * @param generationAware whether resources only need to be reconciled when their generation
+   *        changes
+   * @param executor the executor saving the snapshot periodically
+   */
+  public ReconciledFingerprints(Path file, boolean generationAware, Executor executor) {
+    this.file = file;
+    this.generationAware = generationAware;
+    this.executor = executor;
+  }
+
+  /**
+   * @param resource a resource
+   * @return {@code true} if the last successful reconciliation was for the same version of the
+   *         resource
+   */
+  public boolean isReconciled(R resource) {
+    return Objects.equals(fingerprints.get(ResourceID.fromResource(resource)),
+        fingerprint(resource));
+  }
+
+  /**
+   * @param resource the resource as of the end of its successful reconciliation
+   */
+  public void reconciled(R resource) {
+    final var fingerprint = fingerprint(resource);
+    if (!fingerprint.equals(fingerprints.put(ResourceID.fromResource(resource), fingerprint))) {
+      changed.set(true);
+    }
+  }
+
+  public void forget(ResourceID resourceID) {
+    if (fingerprints.remove(resourceID) != null) {
+      changed.set(true);
+    }
+  }
+
+  /**
+   * Drops the fingerprints of the resources which don't exist anymore, typically deleted while the
+   * operator was down.
+   *
+   * @param resourceIDs the resources which exist, as listed by the informers
+   */
+  public void retainOnly(Set<ResourceID> resourceIDs) {
+    if (fingerprints.keySet().retainAll(resourceIDs)) {
+      changed.set(true);
+    }
+  }
+
+  /**
+   * Loads the snapshot, then saves the changes periodically.
+   */
+  public synchronized void start() {
+    load();
+    if (!saving) {
+      saving = true;
+      scheduleSave();
+    }
+  }
+
+  /**
+   * Saves the changes, and stops saving them periodically.
+   */
+  public synchronized void stop() {
+    saving = false;
+    if (saveTimeout != null) {
+      saveTimeout.cancel();
+      saveTimeout = null;
+    }
+    save();
+  }
+
+  private synchronized void scheduleSave() {
+    if (saving) {
+      // writing the file blocks, so it's not done on the thread of the timer
+      saveTimeout = HashedWheelTimer.shared().schedule(this::periodicSave,
+          TimeUnit.SECONDS.toMillis(SAVE_PERIOD_SECONDS), executor);
+    }
+  }
+
+  private void periodicSave() {
+    try {
+      save();
+    } finally {
+      scheduleSave();
+    }
+  }
+
+  void load() {
+    fingerprints.clear();
+    if (!Files.exists(file)) {
+      return;
+    }
+    try (var lines = Files.lines(file, StandardCharsets.UTF_8)) {
+      lines.forEach(line -> {
+        final var fields = line.split(SEPARATOR, -1);
+        final var namespace = fields[0].isEmpty() ? null : fields[0];
+        fingerprints.put(new ResourceID(fields[1], namespace), fields[2]);
+      });
+      log.info("Loaded {} reconciled fingerprints from {}", fingerprints.size(), file);
+    } catch (IOException | RuntimeException e) {
+      // reconciling everything again is always safe
+      log.warn("Ignoring unreadable snapshot {}", file, e);
+      fingerprints.clear();
+    }
+  }
+
+  synchronized void save() {
+    if (!changed.getAndSet(false)) {
+      return;
+    }
+    final var temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try {
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      try (var writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+        for (var entry : fingerprints.entrySet()) {
+          writer.write(entry.getKey().getNamespace().orElse(""));
+          writer.write(SEPARATOR);
+          writer.write(entry.getKey().getName());
+          writer.write(SEPARATOR);
+          writer.write(entry.getValue());
+          writer.newLine();
+        }
+      }
+      Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      changed.set(true);
+      log.warn("Cannot save snapshot {}", file, e);
+    }
+  }
+
+  private String fingerprint(R resource) {
+    final var metadata = resource.getMetadata();
+    return metadata.getUid() + ":" + (generationAware ? "g" + metadata.getGeneration()
+        : "v" + metadata.getResourceVersion());
+  }
+}
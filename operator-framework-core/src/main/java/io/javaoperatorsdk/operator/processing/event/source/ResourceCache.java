@@ -13,6 +13,16 @@ public interface ResourceCache<T extends HasMetadata> {
 
   Optional<T> get(ResourceID resourceID);
 
+  /**
+   * Retrieves the cached resource itself rather than a copy, so it must not be modified.
+   *
+   * @param resourceID the identifier of the resource
+   * @return the cached resource, if any
+   */
+  default Optional<T> getReadOnly(ResourceID resourceID) {
+    return get(resourceID);
+  }
+
   default Stream<T> list() {
     return list(TRUE);
   }
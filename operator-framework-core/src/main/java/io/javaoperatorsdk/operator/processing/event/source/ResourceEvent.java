@@ -1,6 +1,7 @@
 package io.javaoperatorsdk.operator.processing.event.source;
 
 import io.javaoperatorsdk.operator.processing.event.Event;
+import io.javaoperatorsdk.operator.processing.event.ReconciliationPriority;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 
 public class ResourceEvent extends Event {
@@ -9,7 +10,13 @@ public class ResourceEvent extends Event {
 
   public ResourceEvent(ResourceAction action,
       ResourceID resourceID) {
-    super(resourceID);
+    this(action, resourceID, action == ResourceAction.DELETED ? ReconciliationPriority.DELETION
+        : ReconciliationPriority.RESOURCE_CHANGE);
+  }
+
+  public ResourceEvent(ResourceAction action, ResourceID resourceID,
+      ReconciliationPriority priority) {
+    super(resourceID, priority);
     this.action = action;
   }
 
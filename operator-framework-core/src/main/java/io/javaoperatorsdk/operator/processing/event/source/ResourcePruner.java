@@ -0,0 +1,30 @@
+package io.javaoperatorsdk.operator.processing.event.source;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+/**
+ * Strips the parts of the resources an operator doesn't need before they are kept in an informer
+ * cache, so that caches of many resources retain less memory. The fabric8 informers don't offer to
+ * transform resources before storing them, and readers of the cache might already use a resource
+ * when the informer notifies the event source. A copy of the resource is thus pruned, and replaces
+ * it in the cache unless the informer stored a newer version meanwhile, so implementations are free
+ * to mutate the resource they are handed.
+ *
+ * <p>
+ * A pruned resource is also what the reconciler receives, pruning fields the reconciler writes back
+ * with {@link io.javaoperatorsdk.operator.api.reconciler.UpdateControl#updateResource(HasMetadata)}
+ * removes them from the cluster.
+ *
+ * @param <T> the type of the pruned resources
+ */
+@FunctionalInterface
+public interface ResourcePruner<T extends HasMetadata> {
+
+  /**
+   * Prunes the specified copy of a resource, called for each version of a resource received by the
+   * informer.
+   *
+   * @param resource the resource to prune in place
+   */
+  void prune(T resource);
+}
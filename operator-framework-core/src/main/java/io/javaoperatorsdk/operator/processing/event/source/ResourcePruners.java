@@ -0,0 +1,69 @@
+package io.javaoperatorsdk.operator.processing.event.source;
+
+import java.util.HashMap;
+import java.util.List;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+/**
+ * Convenience implementations of {@link ResourcePruner}.
+ */
+public final class ResourcePruners {
+
+  public static final String LAST_APPLIED_CONFIGURATION_ANNOTATION =
+      "kubectl.kubernetes.io/last-applied-configuration";
+
+  private static final ResourcePruner<HasMetadata> NONE = resource -> {
+  };
+
+  private ResourcePruners() {}
+
+  /**
+   * @param <T> the type of the resources
+   * @return a pruner leaving the resources untouched
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends HasMetadata> ResourcePruner<T> none() {
+    return (ResourcePruner<T>) NONE;
+  }
+
+  /**
+   * Retrieves a pruner removing the fields usually the largest part of the metadata and of no use
+   * to an operator: the managed fields and the last applied configuration annotation of kubectl.
+   *
+   * @param <T> the type of the resources
+   * @return the pruner
+   */
+  public static <T extends HasMetadata> ResourcePruner<T> metadata() {
+    return prune(true, LAST_APPLIED_CONFIGURATION_ANNOTATION);
+  }
+
+  /**
+   * @param managedFields whether to remove the managed fields
+   * @param annotations the annotations to remove
+   * @param <T> the type of the resources
+   * @return a pruner removing the specified metadata, or {@link #none()} if there is none
+   */
+  public static <T extends HasMetadata> ResourcePruner<T> prune(boolean managedFields,
+      String... annotations) {
+    if (!managedFields && annotations.length == 0) {
+      return none();
+    }
+    final var prunedAnnotations = List.of(annotations);
+    return resource -> {
+      final var metadata = resource.getMetadata();
+      if (metadata == null) {
+        return;
+      }
+      if (managedFields && metadata.getManagedFields() != null) {
+        metadata.setManagedFields(null);
+      }
+      final var current = metadata.getAnnotations();
+      if (current != null && prunedAnnotations.stream().anyMatch(current::containsKey)) {
+        final var pruned = new HashMap<>(current);
+        prunedAnnotations.forEach(pruned::remove);
+        metadata.setAnnotations(pruned);
+      }
+    };
+  }
+}
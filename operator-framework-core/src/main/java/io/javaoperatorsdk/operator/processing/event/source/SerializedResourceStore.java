@@ -0,0 +1,25 @@
+package io.javaoperatorsdk.operator.processing.event.source;
+
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+/**
+ * Keeps the serialized resources of a compact cache, see
+ * {@link io.javaoperatorsdk.operator.api.config.ResourceCacheConfiguration}. Implementations must
+ * be thread safe.
+ */
+public interface SerializedResourceStore {
+
+  /**
+   * @param resourceID the identifier of the resource
+   * @param bytes the serialized resource, replacing the one stored for the identifier, if any
+   */
+  void put(ResourceID resourceID, byte[] bytes);
+
+  /**
+   * @param resourceID the identifier of the resource
+   * @return the serialized resource, or {@code null} if none is stored for the identifier
+   */
+  byte[] get(ResourceID resourceID);
+
+  void remove(ResourceID resourceID);
+}
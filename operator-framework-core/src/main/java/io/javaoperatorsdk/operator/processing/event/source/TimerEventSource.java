@@ -1,25 +1,50 @@
 package io.javaoperatorsdk.operator.processing.event.source;
 
 import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.ExecutorServiceManager;
 import io.javaoperatorsdk.operator.processing.event.Event;
+import io.javaoperatorsdk.operator.processing.event.ReconciliationPriority;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 
+/**
+ * Produces the events of the resources once their delay elapsed. The shared
+ * {@link HashedWheelTimer} only hands the tasks off to the executor, which produces the events.
+ */
 public class TimerEventSource<R extends HasMetadata> extends AbstractEventSource {
   private static final Logger log = LoggerFactory.getLogger(TimerEventSource.class);
 
-  private final Timer timer = new Timer();
+  private final HashedWheelTimer timer;
+  private final Executor executor;
   private final AtomicBoolean running = new AtomicBoolean();
   private final Map<ResourceID, EventProducerTimeTask> onceTasks = new ConcurrentHashMap<>();
 
+  /**
+   * Produces the events on the reconciliation executor of the operator, the events due once the
+   * operator is stopped are dropped.
+   */
+  public TimerEventSource() {
+    this(ExecutorServiceManager.reconciliationExecutor());
+  }
+
+  /**
+   * @param executor the executor producing the events, usually the one of the controller
+   */
+  public TimerEventSource(Executor executor) {
+    this(HashedWheelTimer.shared(), executor);
+  }
+
+  TimerEventSource(HashedWheelTimer timer, Executor executor) {
+    this.timer = timer;
+    this.executor = executor;
+  }
 
   public void scheduleOnce(R resource, long delay) {
     if (!running.get()) {
@@ -31,7 +56,7 @@ public class TimerEventSource<R extends HasMetadata> extends AbstractEventSource
     }
     EventProducerTimeTask task = new EventProducerTimeTask(resourceUid);
     onceTasks.put(resourceUid, task);
-    timer.schedule(task, delay);
+    task.timeout = timer.schedule(task, delay, executor);
   }
 
   @Override
@@ -40,9 +65,9 @@ public class TimerEventSource<R extends HasMetadata> extends AbstractEventSource
   }
 
   public void cancelOnceSchedule(ResourceID customResourceUid) {
-    TimerTask timerTask = onceTasks.remove(customResourceUid);
-    if (timerTask != null) {
-      timerTask.cancel();
+    EventProducerTimeTask task = onceTasks.remove(customResourceUid);
+    if (task != null) {
+      task.cancel();
     }
   }
 
@@ -54,23 +79,36 @@ public class TimerEventSource<R extends HasMetadata> extends AbstractEventSource
   @Override
   public void stop() {
     running.set(false);
+    // the timer is shared with the other controllers, only the tasks of this source are cancelled
     onceTasks.keySet().forEach(this::cancelOnceSchedule);
-    timer.cancel();
   }
 
-  public class EventProducerTimeTask extends TimerTask {
+  public class EventProducerTimeTask implements Runnable {
 
     protected final ResourceID customResourceUid;
+    private volatile boolean cancelled;
+    private volatile HashedWheelTimer.Timeout timeout;
 
     public EventProducerTimeTask(ResourceID customResourceUid) {
       this.customResourceUid = customResourceUid;
     }
 
+    public void cancel() {
+      cancelled = true;
+      // might be null if the task is cancelled while being scheduled, it won't run anyway
+      final var scheduled = timeout;
+      if (scheduled != null) {
+        scheduled.cancel();
+      }
+    }
+
     @Override
     public void run() {
-      if (running.get()) {
+      // the task is done, remove it so it's not kept until the resource is deleted
+      onceTasks.remove(customResourceUid, this);
+      if (running.get() && !cancelled) {
         log.debug("Producing event for custom resource id: {}", customResourceUid);
-        eventHandler.handleEvent(new Event(customResourceUid));
+        eventHandler.handleEvent(new Event(customResourceUid, ReconciliationPriority.TIMER));
       }
     }
   }
@@ -0,0 +1,189 @@
+package io.javaoperatorsdk.operator.processing.ratelimit;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.javaoperatorsdk.operator.processing.event.source.HashedWheelTimer;
+
+/**
+ * {@link ConcurrencyLimiter} adapting the limit to the load of the API server using additive
+ * increase / multiplicative decrease: each successful reconciliation grows the limit by one divided
+ * by the limit, so roughly by one per round of reconciliations, while a reconciliation throttled by
+ * the API server, see {@link ThrottlingUtils}, multiplies it by the decrease factor. Throttled
+ * reconciliations finishing at about the same time share the same cause, so the limit is decreased
+ * at most once per decrease interval. If the API server specifies a {@code Retry-After} delay, no
+ * reconciliation is started until it elapses.
+ */
+public class AdaptiveConcurrencyLimiter implements ConcurrencyLimiter {
+
+  private static final Logger log = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+  public static final double DEFAULT_DECREASE_FACTOR = 0.5;
+  public static final long DEFAULT_DECREASE_INTERVAL_MILLIS = 1000L;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final LongSupplier nanoClock;
+  private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+  private double decreaseFactor = DEFAULT_DECREASE_FACTOR;
+  private long decreaseIntervalNanos = TimeUnit.MILLISECONDS.toNanos(
+      DEFAULT_DECREASE_INTERVAL_MILLIS);
+  private double limit;
+  private int inFlight;
+  private boolean denied;
+  private boolean decreased;
+  private long lastDecrease;
+  private long pausedUntil;
+  private boolean paused;
+
+  /**
+   * @param minLimit the limit is never decreased under this value
+   * @param maxLimit the initial limit, never exceeded
+   */
+  public AdaptiveConcurrencyLimiter(int minLimit, int maxLimit) {
+    this(minLimit, maxLimit, System::nanoTime);
+  }
+
+  AdaptiveConcurrencyLimiter(int minLimit, int maxLimit, LongSupplier nanoClock) {
+    if (minLimit < 1 || maxLimit < minLimit) {
+      throw new IllegalArgumentException(
+          "Limits must satisfy 1 <= min <= max, got: " + minLimit + ", " + maxLimit);
+    }
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.nanoClock = nanoClock;
+    this.limit = maxLimit;
+  }
+
+  public double getDecreaseFactor() {
+    return decreaseFactor;
+  }
+
+  public AdaptiveConcurrencyLimiter setDecreaseFactor(double decreaseFactor) {
+    if (decreaseFactor <= 0 || decreaseFactor >= 1) {
+      throw new IllegalArgumentException(
+          "Decrease factor must be between 0 and 1, got: " + decreaseFactor);
+    }
+    this.decreaseFactor = decreaseFactor;
+    return this;
+  }
+
+  public long getDecreaseIntervalMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(decreaseIntervalNanos);
+  }
+
+  public AdaptiveConcurrencyLimiter setDecreaseIntervalMillis(long decreaseIntervalMillis) {
+    this.decreaseIntervalNanos = TimeUnit.MILLISECONDS.toNanos(decreaseIntervalMillis);
+    return this;
+  }
+
+  /**
+   * @return the current number of reconciliations allowed to run at the same time
+   */
+  public synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  @Override
+  public synchronized boolean tryAcquire() {
+    if (paused || inFlight >= (int) limit) {
+      denied = true;
+      return false;
+    }
+    inFlight++;
+    return true;
+  }
+
+  @Override
+  public synchronized void cancelAcquire() {
+    inFlight--;
+  }
+
+  @Override
+  public void release() {
+    final boolean notify;
+    synchronized (this) {
+      inFlight--;
+      notify = denied && !paused;
+      if (notify) {
+        denied = false;
+      }
+    }
+    if (notify) {
+      notifyListeners();
+    }
+  }
+
+  @Override
+  public void onResult(RuntimeException failure) {
+    if (failure == null) {
+      synchronized (this) {
+        limit = Math.min(maxLimit, limit + 1 / limit);
+      }
+    } else if (ThrottlingUtils.isThrottling(failure)) {
+      throttled(ThrottlingUtils.retryAfterMillis(failure).orElse(0L));
+    }
+  }
+
+  private synchronized void throttled(long retryAfterMillis) {
+    final var now = nanoClock.getAsLong();
+    if (!decreased || now - lastDecrease >= decreaseIntervalNanos) {
+      decreased = true;
+      lastDecrease = now;
+      limit = Math.max(minLimit, limit * decreaseFactor);
+      log.info("Reconciliations throttled by the API server, concurrency limit decreased to {}",
+          (int) limit);
+    }
+    if (retryAfterMillis > 0) {
+      final var until = now + TimeUnit.MILLISECONDS.toNanos(retryAfterMillis);
+      if (!paused || until - pausedUntil > 0) {
+        log.info("Pausing reconciliations for {} ms as requested by the API server",
+            retryAfterMillis);
+        paused = true;
+        pausedUntil = until;
+        schedulePauseEnd(until - now);
+      }
+    }
+  }
+
+  private void schedulePauseEnd(long delayNanos) {
+    // rounded up, the end is checked against the clock anyway
+    HashedWheelTimer.shared().schedule(this::endPause,
+        TimeUnit.NANOSECONDS.toMillis(delayNanos + TimeUnit.MILLISECONDS.toNanos(1) - 1));
+  }
+
+  private void endPause() {
+    synchronized (this) {
+      // the pause might have been extended meanwhile, in which case another end is scheduled
+      if (!paused || nanoClock.getAsLong() - pausedUntil < 0) {
+        return;
+      }
+      paused = false;
+      denied = false;
+    }
+    notifyListeners();
+  }
+
+  private void notifyListeners() {
+    listeners.forEach(Runnable::run);
+  }
+
+  @Override
+  public void addPermitListener(Runnable listener) {
+    listeners.add(listener);
+  }
+
+  @Override
+  public void removePermitListener(Runnable listener) {
+    listeners.remove(listener);
+  }
+}
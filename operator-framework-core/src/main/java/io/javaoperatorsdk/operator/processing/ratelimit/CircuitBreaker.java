@@ -0,0 +1,138 @@
+package io.javaoperatorsdk.operator.processing.ratelimit;
+
+/**
+ * Stops the whole operator from sending requests to the API server while most of them fail, see
+ * {@link io.javaoperatorsdk.operator.api.config.ConfigurationService#getCircuitBreaker()}. While
+ * open, no reconciliation is dispatched, the events received meanwhile being kept until it closes,
+ * and the writes of the framework fail with a {@link CircuitBreakerOpenException}, the
+ * reconciliations failing with it being dispatched again once permitted, without counting as retry
+ * attempts. As a {@link ConcurrencyLimiter}, it is combined with the concurrency limiter of the
+ * operator using {@link #guard(ConcurrencyLimiter)}.
+ */
+public interface CircuitBreaker extends ConcurrencyLimiter {
+
+  enum State {
+    /** Reconciliations are dispatched, the failures are counted. */
+    CLOSED,
+    /** No reconciliation is dispatched. */
+    OPEN,
+    /** A few reconciliations are dispatched to probe whether the API server recovered. */
+    HALF_OPEN
+  }
+
+  @FunctionalInterface
+  interface TransitionListener {
+    void onTransition(State from, State to);
+  }
+
+  CircuitBreaker DISABLED = new CircuitBreaker() {
+    @Override
+    public State getState() {
+      return State.CLOSED;
+    }
+
+    @Override
+    public void checkWritesAllowed() {}
+
+    @Override
+    public void addTransitionListener(TransitionListener listener) {}
+
+    @Override
+    public void removeTransitionListener(TransitionListener listener) {}
+
+    @Override
+    public ConcurrencyLimiter guard(ConcurrencyLimiter limiter) {
+      return limiter;
+    }
+
+    @Override
+    public boolean tryAcquire() {
+      return true;
+    }
+
+    @Override
+    public void cancelAcquire() {}
+
+    @Override
+    public void release() {}
+
+    @Override
+    public void onResult(RuntimeException failure) {}
+
+    @Override
+    public void addPermitListener(Runnable listener) {}
+
+    @Override
+    public void removePermitListener(Runnable listener) {}
+  };
+
+  State getState();
+
+  /**
+   * Called before the framework sends a write request to the API server.
+   *
+   * @throws CircuitBreakerOpenException if the circuit breaker is open
+   */
+  void checkWritesAllowed();
+
+  /**
+   * @param listener called right after each state change, on the thread causing it, which might
+   *        hold the lock of the scheduler dispatching the reconciliations of a controller: it must
+   *        be short and must neither block nor call the circuit breaker back
+   */
+  void addTransitionListener(TransitionListener listener);
+
+  void removeTransitionListener(TransitionListener listener);
+
+  /**
+   * @param limiter the concurrency limiter of the operator
+   * @return a limiter granting a permit only if both this circuit breaker and the specified limiter
+   *         grant one
+   */
+  default ConcurrencyLimiter guard(ConcurrencyLimiter limiter) {
+    final var circuitBreaker = this;
+    return new ConcurrencyLimiter() {
+      @Override
+      public boolean tryAcquire() {
+        if (!circuitBreaker.tryAcquire()) {
+          return false;
+        }
+        if (!limiter.tryAcquire()) {
+          circuitBreaker.cancelAcquire();
+          return false;
+        }
+        return true;
+      }
+
+      @Override
+      public void cancelAcquire() {
+        limiter.cancelAcquire();
+        circuitBreaker.cancelAcquire();
+      }
+
+      @Override
+      public void release() {
+        limiter.release();
+        circuitBreaker.release();
+      }
+
+      @Override
+      public void onResult(RuntimeException failure) {
+        limiter.onResult(failure);
+        circuitBreaker.onResult(failure);
+      }
+
+      @Override
+      public void addPermitListener(Runnable listener) {
+        limiter.addPermitListener(listener);
+        circuitBreaker.addPermitListener(listener);
+      }
+
+      @Override
+      public void removePermitListener(Runnable listener) {
+        limiter.removePermitListener(listener);
+        circuitBreaker.removePermitListener(listener);
+      }
+    };
+  }
+}
@@ -0,0 +1,13 @@
+package io.javaoperatorsdk.operator.processing.ratelimit;
+
+import io.javaoperatorsdk.operator.OperatorException;
+
+/**
+ * Thrown instead of sending a request to the API server while the {@link CircuitBreaker} is open.
+ */
+public class CircuitBreakerOpenException extends OperatorException {
+
+  public CircuitBreakerOpenException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,73 @@
+package io.javaoperatorsdk.operator.processing.ratelimit;
+
+/**
+ * Limits the number of reconciliations running at the same time across all the controllers of an
+ * operator, on top of the limit of each controller, see
+ * {@link io.javaoperatorsdk.operator.api.config.ConfigurationService#getConcurrencyLimiter()}.
+ * Reconciliations which can't get a permit stay queued in their controller until a listener
+ * registered with {@link #addPermitListener(Runnable)} is notified.
+ */
+public interface ConcurrencyLimiter {
+
+  ConcurrencyLimiter UNLIMITED = new ConcurrencyLimiter() {
+    @Override
+    public boolean tryAcquire() {
+      return true;
+    }
+
+    @Override
+    public void cancelAcquire() {}
+
+    @Override
+    public void release() {}
+
+    @Override
+    public void onResult(RuntimeException failure) {}
+
+    @Override
+    public void addPermitListener(Runnable listener) {}
+
+    @Override
+    public void removePermitListener(Runnable listener) {}
+  };
+
+  /**
+   * @return {@code true} if a reconciliation can be started, in which case the permit must be given
+   *         back with {@link #release()} once it finishes
+   */
+  boolean tryAcquire();
+
+  /**
+   * Gives back a permit which wasn't used, without notifying the listeners, so it can be called
+   * while holding a lock.
+   */
+  void cancelAcquire();
+
+  /**
+   * Gives back the permit of a finished reconciliation. Might notify the listeners, so it must not
+   * be called while holding a lock the listeners need.
+   */
+  void release();
+
+  /**
+   * Records the outcome of a reconciliation, before its permit is released.
+   *
+   * @param failure the exception the reconciliation failed with, {@code null} if it succeeded
+   */
+  void onResult(RuntimeException failure);
+
+  /**
+   * @param listener called, without holding any lock, when permits might be available again after a
+   *        reconciliation was denied one, possibly on the thread of the shared timer once a pause
+   *        ended, so it should only hand the dispatching off to an executor
+   */
+  void addPermitListener(Runnable listener);
+
+  /**
+   * Stops notifying a listener, limiters which never notify their listeners don't need to override
+   * it.
+   *
+   * @param listener a listener previously registered with {@link #addPermitListener(Runnable)}
+   */
+  default void removePermitListener(Runnable listener) {}
+}
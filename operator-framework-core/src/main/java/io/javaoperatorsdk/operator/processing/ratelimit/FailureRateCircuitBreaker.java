@@ -0,0 +1,332 @@
+package io.javaoperatorsdk.operator.processing.ratelimit;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.javaoperatorsdk.operator.processing.event.source.HashedWheelTimer;
+
+/**
+ * {@link CircuitBreaker} opening when the rate of reconciliations failing because of the API
+ * server, see {@link ThrottlingUtils#isApiServerFailure(Throwable)}, over the last reconciliations
+ * reaches a threshold. Once the open duration elapsed and the reconciliations started before opening
+ * finished, it lets a few probe reconciliations run and closes if they all succeed, or opens again
+ * otherwise, so only the results of the probes decide. After closing, the number of
+ * reconciliations running at the same time starts at the number of probes and doubles every step of
+ * the ramp, so the backlog accumulated meanwhile doesn't overload the API server again.
+ */
+public class FailureRateCircuitBreaker implements CircuitBreaker {
+
+  private static final Logger log = LoggerFactory.getLogger(FailureRateCircuitBreaker.class);
+
+  public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+  public static final int DEFAULT_WINDOW_SIZE = 100;
+  public static final int DEFAULT_MINIMUM_CALLS = 20;
+  public static final long DEFAULT_OPEN_DURATION_MILLIS = 30_000L;
+  public static final int DEFAULT_HALF_OPEN_PROBES = 3;
+  public static final long DEFAULT_RAMP_STEP_MILLIS = 5_000L;
+  public static final int DEFAULT_RAMP_STEPS = 5;
+
+  private final LongSupplier nanoClock;
+  private final List<Runnable> permitListeners = new CopyOnWriteArrayList<>();
+  private final List<TransitionListener> transitionListeners = new CopyOnWriteArrayList<>();
+  private double failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+  private int minimumCalls = DEFAULT_MINIMUM_CALLS;
+  private long openDurationNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_OPEN_DURATION_MILLIS);
+  private int halfOpenProbes = DEFAULT_HALF_OPEN_PROBES;
+  private long rampStepNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_RAMP_STEP_MILLIS);
+  private int rampSteps = DEFAULT_RAMP_STEPS;
+  // outcomes of the last reconciliations, true for a failure
+  private boolean[] window = new boolean[DEFAULT_WINDOW_SIZE];
+  private int windowIndex;
+  private int calls;
+  private int failures;
+  private State state = State.CLOSED;
+  private long openedAt;
+  private long closedAt;
+  private boolean ramping;
+  private int probesStarted;
+  private int probesSucceeded;
+  private int inFlight;
+  private boolean denied;
+
+  public FailureRateCircuitBreaker() {
+    this(System::nanoTime);
+  }
+
+  FailureRateCircuitBreaker(LongSupplier nanoClock) {
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * @param failureRateThreshold the rate of failures, between 0 and 1, opening the circuit breaker
+   * @return this circuit breaker
+   */
+  public synchronized FailureRateCircuitBreaker setFailureRateThreshold(
+      double failureRateThreshold) {
+    if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+      throw new IllegalArgumentException(
+          "Failure rate threshold must be in ]0, 1], got: " + failureRateThreshold);
+    }
+    this.failureRateThreshold = failureRateThreshold;
+    return this;
+  }
+
+  /**
+   * @param windowSize the number of last reconciliations the failure rate is computed on
+   * @param minimumCalls the minimum number of reconciliations before the failure rate is considered
+   * @return this circuit breaker
+   */
+  public synchronized FailureRateCircuitBreaker setWindow(int windowSize, int minimumCalls) {
+    if (minimumCalls < 1 || windowSize < minimumCalls) {
+      throw new IllegalArgumentException("Window must satisfy 1 <= minimum calls <= size, got: "
+          + minimumCalls + ", " + windowSize);
+    }
+    this.window = new boolean[windowSize];
+    this.minimumCalls = minimumCalls;
+    resetWindow();
+    return this;
+  }
+
+  public synchronized FailureRateCircuitBreaker setOpenDurationMillis(long openDurationMillis) {
+    this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMillis);
+    return this;
+  }
+
+  public synchronized FailureRateCircuitBreaker setHalfOpenProbes(int halfOpenProbes) {
+    if (halfOpenProbes < 1) {
+      throw new IllegalArgumentException("Probes must be positive, got: " + halfOpenProbes);
+    }
+    this.halfOpenProbes = halfOpenProbes;
+    return this;
+  }
+
+  /**
+   * @param rampStepMillis the duration of a step of the ramp
+   * @param rampSteps the number of steps, {@code 0} to not ramp up after closing
+   * @return this circuit breaker
+   */
+  public synchronized FailureRateCircuitBreaker setRamp(long rampStepMillis, int rampSteps) {
+    this.rampStepNanos = TimeUnit.MILLISECONDS.toNanos(rampStepMillis);
+    this.rampSteps = rampSteps;
+    return this;
+  }
+
+  @Override
+  public synchronized State getState() {
+    return state;
+  }
+
+  synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  @Override
+  public void checkWritesAllowed() {
+    if (getState() == State.OPEN) {
+      throw new CircuitBreakerOpenException(
+          "Circuit breaker open, the API server is failing too many requests");
+    }
+  }
+
+  @Override
+  public boolean tryAcquire() {
+    final State from;
+    final State to;
+    final boolean acquired;
+    synchronized (this) {
+      from = state;
+      final var now = nanoClock.getAsLong();
+      if (state == State.OPEN && halfOpenDue(now)) {
+        state = State.HALF_OPEN;
+        probesStarted = 0;
+        probesSucceeded = 0;
+      }
+      acquired = permitted(now);
+      if (acquired) {
+        inFlight++;
+        if (state == State.HALF_OPEN) {
+          probesStarted++;
+        }
+      } else {
+        denied = true;
+      }
+      to = state;
+    }
+    if (from != to) {
+      notifyTransition(from, to);
+    }
+    return acquired;
+  }
+
+  /**
+   * The results of the reconciliations still running when half opening would be taken for the
+   * results of the probes, so it waits for them to finish.
+   */
+  private boolean halfOpenDue(long now) {
+    return inFlight == 0 && now - openedAt >= openDurationNanos;
+  }
+
+  private boolean permitted(long now) {
+    switch (state) {
+      case OPEN:
+        return false;
+      case HALF_OPEN:
+        return probesStarted < halfOpenProbes;
+      default:
+        return !ramping || inFlight < rampLimit(now);
+    }
+  }
+
+  private int rampLimit(long now) {
+    final var step = rampStepNanos > 0 ? (now - closedAt) / rampStepNanos : rampSteps;
+    if (step >= rampSteps) {
+      ramping = false;
+      return Integer.MAX_VALUE;
+    }
+    return halfOpenProbes << step;
+  }
+
+  @Override
+  public synchronized void cancelAcquire() {
+    inFlight--;
+    if (state == State.HALF_OPEN && probesStarted > 0) {
+      probesStarted--;
+    }
+  }
+
+  @Override
+  public void release() {
+    final boolean notify;
+    synchronized (this) {
+      inFlight--;
+      notify = denied && (state != State.OPEN || halfOpenDue(nanoClock.getAsLong()));
+      if (notify) {
+        denied = false;
+      }
+    }
+    if (notify) {
+      notifyPermitListeners();
+    }
+  }
+
+  @Override
+  public void onResult(RuntimeException failure) {
+    final var apiServerFailure = failure != null && ThrottlingUtils.isApiServerFailure(failure);
+    final State from;
+    final State to;
+    synchronized (this) {
+      from = state;
+      switch (state) {
+        case CLOSED:
+          record(apiServerFailure);
+          if (calls >= minimumCalls && failures >= failureRateThreshold * calls) {
+            open();
+          }
+          break;
+        case HALF_OPEN:
+          if (apiServerFailure) {
+            open();
+          } else if (++probesSucceeded >= halfOpenProbes) {
+            close();
+          }
+          break;
+        default:
+          // reconciliations started before opening, the API server is already known to fail
+      }
+      to = state;
+    }
+    if (from != to) {
+      notifyTransition(from, to);
+      if (to == State.CLOSED) {
+        notifyPermitListeners();
+      }
+    }
+  }
+
+  private void record(boolean failure) {
+    if (calls == window.length) {
+      if (window[windowIndex]) {
+        failures--;
+      }
+    } else {
+      calls++;
+    }
+    window[windowIndex] = failure;
+    if (failure) {
+      failures++;
+    }
+    windowIndex = (windowIndex + 1) % window.length;
+  }
+
+  private void resetWindow() {
+    windowIndex = 0;
+    calls = 0;
+    failures = 0;
+  }
+
+  private void open() {
+    log.warn("Opening circuit breaker, the API server is failing, failures: {}/{}", failures,
+        calls);
+    state = State.OPEN;
+    openedAt = nanoClock.getAsLong();
+    ramping = false;
+    resetWindow();
+    // rounded up, so the open duration elapsed when the timeout fires
+    HashedWheelTimer.shared().schedule(this::openDurationElapsed,
+        TimeUnit.NANOSECONDS.toMillis(openDurationNanos + TimeUnit.MILLISECONDS.toNanos(1) - 1));
+  }
+
+  private void close() {
+    log.info("Closing circuit breaker, the API server recovered");
+    state = State.CLOSED;
+    closedAt = nanoClock.getAsLong();
+    ramping = rampSteps > 0;
+    resetWindow();
+  }
+
+  private void openDurationElapsed() {
+    synchronized (this) {
+      // opened again meanwhile, in which case another end is scheduled, or the last reconciliation
+      // started before opening notifies once released
+      if (state != State.OPEN || !halfOpenDue(nanoClock.getAsLong())) {
+        return;
+      }
+      denied = false;
+    }
+    // the transition to half open happens when the first probe is dispatched
+    notifyPermitListeners();
+  }
+
+  private void notifyTransition(State from, State to) {
+    transitionListeners.forEach(listener -> listener.onTransition(from, to));
+  }
+
+  private void notifyPermitListeners() {
+    permitListeners.forEach(Runnable::run);
+  }
+
+  @Override
+  public void addPermitListener(Runnable listener) {
+    permitListeners.add(listener);
+  }
+
+  @Override
+  public void removePermitListener(Runnable listener) {
+    permitListeners.remove(listener);
+  }
+
+  @Override
+  public void addTransitionListener(TransitionListener listener) {
+    transitionListeners.add(listener);
+  }
+
+  @Override
+  public void removeTransitionListener(TransitionListener listener) {
+    transitionListeners.remove(listener);
+  }
+}
@@ -0,0 +1,27 @@
+package io.javaoperatorsdk.operator.processing.ratelimit;
+
+/**
+ * Budgets the requests issued by the framework to the Kubernetes API server on behalf of the
+ * controllers, so that a reconciliation storm is smoothed on the client side instead of being
+ * throttled by the API server. A single instance is shared by all the controllers of an operator,
+ * see {@link io.javaoperatorsdk.operator.api.config.ConfigurationService#getRateLimiter()}.
+ */
+public interface RateLimiter {
+
+  RateLimiter UNLIMITED = (verb, controllerName, namespace, urgent) -> {
+  };
+
+  /**
+   * Blocks until the specified request is allowed to be sent.
+   *
+   * @param verb the kind of request, for example {@code replace} or {@code updateStatus}
+   * @param controllerName the name of the controller issuing the request
+   * @param namespace the namespace of the target resource, {@code null} for cluster scoped
+   *        resources
+   * @param urgent {@code true} if the request should go before the non-urgent ones waiting for a
+   *        permit, for example to remove a finalizer and unblock a deletion
+   * @throws InterruptedException if interrupted while waiting
+   */
+  void acquire(String verb, String controllerName, String namespace, boolean urgent)
+      throws InterruptedException;
+}
@@ -0,0 +1,115 @@
+package io.javaoperatorsdk.operator.processing.ratelimit;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.api.model.StatusDetails;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+/**
+ * Recognizes the failures caused by the API server being overloaded: {@code 429 Too Many Requests}
+ * responses, sent by API Priority and Fairness, and server errors.
+ */
+public class ThrottlingUtils {
+
+  public static final int TOO_MANY_REQUESTS = 429;
+  private static final int MAX_CAUSE_DEPTH = 10;
+
+  private ThrottlingUtils() {}
+
+  /**
+   * Looks for a throttling response of the API server in the specified exception and its causes,
+   * reconcilers often wrapping the exceptions of the client.
+   *
+   * @param exception the exception to inspect
+   * @return the exception of the client signaling the throttling, if any
+   */
+  public static Optional<KubernetesClientException> throttlingCause(Throwable exception) {
+    return findCause(exception, cause -> cause instanceof KubernetesClientException
+        && isThrottlingCode(((KubernetesClientException) cause).getCode()))
+            .map(KubernetesClientException.class::cast);
+  }
+
+  /**
+   * @param exception the exception to inspect
+   * @return the first exception of the client found in the specified exception and its causes, if
+   *         any
+   */
+  public static Optional<KubernetesClientException> clientExceptionCause(Throwable exception) {
+    return findCause(exception, KubernetesClientException.class::isInstance)
+        .map(KubernetesClientException.class::cast);
+  }
+
+  /**
+   * @param exception the exception to inspect
+   * @return {@code true} if the specified exception or one of its causes is a
+   *         {@link CircuitBreakerOpenException}
+   */
+  public static boolean isCircuitBreakerOpen(Throwable exception) {
+    return findCause(exception, CircuitBreakerOpenException.class::isInstance).isPresent();
+  }
+
+  public static boolean isThrottling(Throwable exception) {
+    return throttlingCause(exception).isPresent();
+  }
+
+  /**
+   * @param exception the exception to inspect
+   * @return {@code true} if the API server throttled the request, failed to handle it, or couldn't
+   *         be reached
+   */
+  public static boolean isApiServerFailure(Throwable exception) {
+    return findCause(exception, cause -> {
+      if (cause instanceof IOException) {
+        return true;
+      }
+      if (cause instanceof KubernetesClientException) {
+        final var code = ((KubernetesClientException) cause).getCode();
+        // no code when the response couldn't be received
+        return code == 0 || isThrottlingCode(code);
+      }
+      return false;
+    }).isPresent();
+  }
+
+  /**
+   * Walks the specified exception and its causes, up to a bounded depth so cyclic cause chains
+   * terminate.
+   *
+   * @param exception the exception to inspect
+   * @param predicate the condition the looked up cause satisfies
+   * @return the first of the exception and its causes satisfying the predicate, if any
+   */
+  public static Optional<Throwable> findCause(Throwable exception,
+      Predicate<Throwable> predicate) {
+    var cause = exception;
+    for (int depth = 0; cause != null && depth < MAX_CAUSE_DEPTH; depth++) {
+      if (predicate.test(cause)) {
+        return Optional.of(cause);
+      }
+      cause = cause.getCause();
+    }
+    return Optional.empty();
+  }
+
+  private static boolean isThrottlingCode(int code) {
+    return code == TOO_MANY_REQUESTS || code >= 500;
+  }
+
+  /**
+   * @param exception the exception to inspect
+   * @return the delay the API server asked to wait before retrying, if the exception signals a
+   *         throttling response which specifies one
+   */
+  public static Optional<Long> retryAfterMillis(Throwable exception) {
+    return throttlingCause(exception)
+        .map(KubernetesClientException::getStatus)
+        .map(Status::getDetails)
+        .map(StatusDetails::getRetryAfterSeconds)
+        .filter(seconds -> seconds > 0)
+        .map(TimeUnit.SECONDS::toMillis);
+  }
+}
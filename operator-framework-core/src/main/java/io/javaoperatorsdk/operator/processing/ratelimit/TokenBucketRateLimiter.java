@@ -0,0 +1,256 @@
+package io.javaoperatorsdk.operator.processing.ratelimit;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link RateLimiter} using token buckets at three levels: per verb, per controller and per
+ * namespace. Each level is unlimited unless configured, and a configured level gets a bucket for
+ * each of its keys, for example one bucket per namespace. A request needs a token from the bucket
+ * of each configured level, so for instance the verb buckets cap the rate of the whole operator
+ * while the namespace buckets prevent a single namespace from using all of it.
+ * <p>
+ * A request takes its tokens bucket by bucket, from the most specific one: namespace, controller,
+ * then verb. The requests waiting for a bucket are served in order, urgent requests first, then in
+ * arrival order, and only queue for the next bucket once they got a token from the current one. So
+ * the requests held back by the bucket of a busy namespace don't delay the requests of the other
+ * namespaces in the verb bucket they share.
+ * <p>
+ * A full bucket nobody is waiting for is the same as a new one, so such buckets are evicted from
+ * time to time to not keep a bucket for every namespace ever seen.
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+
+  private static final Comparator<Waiter> WAITING_ORDER =
+      Comparator.comparing((Waiter w) -> !w.urgent).thenComparingLong(w -> w.sequence);
+  private static final long DEFAULT_EVICTION_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition changed = lock.newCondition();
+  private final Map<String, TokenBucket> verbBuckets = new HashMap<>();
+  private final Map<String, TokenBucket> controllerBuckets = new HashMap<>();
+  private final Map<String, TokenBucket> namespaceBuckets = new HashMap<>();
+  private Limit verbLimit;
+  private Limit controllerLimit;
+  private Limit namespaceLimit;
+  private final long evictionIntervalNanos;
+  private long lastEviction = System.nanoTime();
+  private long sequence;
+  private int waiting;
+
+  public TokenBucketRateLimiter() {
+    this(DEFAULT_EVICTION_INTERVAL);
+  }
+
+  TokenBucketRateLimiter(long evictionIntervalNanos) {
+    this.evictionIntervalNanos = evictionIntervalNanos;
+  }
+
+  /**
+   * Limits the requests of each verb, for all the controllers and namespaces.
+   *
+   * @param permitsPerSecond the sustained rate of requests
+   * @param burst the number of requests which can be sent at once after a quiet period
+   * @return this limiter
+   */
+  public TokenBucketRateLimiter setPerVerbLimit(double permitsPerSecond, int burst) {
+    this.verbLimit = new Limit(permitsPerSecond, burst);
+    return this;
+  }
+
+  /**
+   * Limits the requests of each controller, for all the verbs and namespaces.
+   *
+   * @param permitsPerSecond the sustained rate of requests
+   * @param burst the number of requests which can be sent at once after a quiet period
+   * @return this limiter
+   */
+  public TokenBucketRateLimiter setPerControllerLimit(double permitsPerSecond, int burst) {
+    this.controllerLimit = new Limit(permitsPerSecond, burst);
+    return this;
+  }
+
+  /**
+   * Limits the requests targeting each namespace, for all the verbs and controllers.
+   *
+   * @param permitsPerSecond the sustained rate of requests
+   * @param burst the number of requests which can be sent at once after a quiet period
+   * @return this limiter
+   */
+  public TokenBucketRateLimiter setPerNamespaceLimit(double permitsPerSecond, int burst) {
+    this.namespaceLimit = new Limit(permitsPerSecond, burst);
+    return this;
+  }
+
+  @Override
+  public void acquire(String verb, String controllerName, String namespace, boolean urgent)
+      throws InterruptedException {
+    lock.lock();
+    try {
+      evictIdleBuckets(System.nanoTime());
+      final var buckets = bucketsFor(verb, controllerName, namespace);
+      if (buckets.isEmpty()) {
+        return;
+      }
+      final var waiter = new Waiter(urgent, sequence++);
+      buckets.forEach(bucket -> bucket.acquirers++);
+      waiting++;
+      var taken = 0;
+      try {
+        buckets.get(0).waiters.add(waiter);
+        while (true) {
+          final var bucket = buckets.get(taken);
+          final var wait = bucket.nanosUntilToken(System.nanoTime());
+          if (bucket.waiters.peek() == waiter && wait == 0) {
+            bucket.take();
+            bucket.waiters.remove();
+            if (++taken == buckets.size()) {
+              return;
+            }
+            buckets.get(taken).waiters.add(waiter);
+            // the next waiter of the bucket might be able to take a token too
+            changed.signalAll();
+          } else if (bucket.waiters.peek() == waiter) {
+            changed.awaitNanos(wait);
+          } else {
+            changed.await();
+          }
+        }
+      } finally {
+        if (taken < buckets.size()) {
+          // interrupted, the tokens already taken are given back
+          buckets.get(taken).waiters.remove(waiter);
+          buckets.subList(0, taken).forEach(TokenBucket::giveBack);
+        }
+        buckets.forEach(bucket -> bucket.acquirers--);
+        waiting--;
+        changed.signalAll();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private List<TokenBucket> bucketsFor(String verb, String controllerName, String namespace) {
+    final var buckets = new ArrayList<TokenBucket>(3);
+    addBucket(buckets, namespaceBuckets, namespaceLimit, namespace);
+    addBucket(buckets, controllerBuckets, controllerLimit, controllerName);
+    addBucket(buckets, verbBuckets, verbLimit, verb);
+    return buckets;
+  }
+
+  private static void addBucket(List<TokenBucket> buckets, Map<String, TokenBucket> bucketsByKey,
+      Limit limit, String key) {
+    if (limit != null && key != null) {
+      buckets.add(bucketsByKey.computeIfAbsent(key, k -> new TokenBucket(limit)));
+    }
+  }
+
+  private void evictIdleBuckets(long now) {
+    if (now - lastEviction < evictionIntervalNanos) {
+      return;
+    }
+    lastEviction = now;
+    evictIdleBuckets(verbBuckets, now);
+    evictIdleBuckets(controllerBuckets, now);
+    evictIdleBuckets(namespaceBuckets, now);
+  }
+
+  private static void evictIdleBuckets(Map<String, TokenBucket> bucketsByKey, long now) {
+    for (Iterator<TokenBucket> it = bucketsByKey.values().iterator(); it.hasNext();) {
+      final var bucket = it.next();
+      if (bucket.acquirers == 0 && bucket.isFull(now)) {
+        it.remove();
+      }
+    }
+  }
+
+  int buckets() {
+    lock.lock();
+    try {
+      return verbBuckets.size() + controllerBuckets.size() + namespaceBuckets.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  int waiting() {
+    lock.lock();
+    try {
+      return waiting;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static class Limit {
+    private final double permitsPerNano;
+    private final int burst;
+
+    private Limit(double permitsPerSecond, int burst) {
+      if (permitsPerSecond <= 0 || burst < 1) {
+        throw new IllegalArgumentException(
+            "Rate must be positive and burst at least 1, got: " + permitsPerSecond + ", "
+                + burst);
+      }
+      this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+      this.burst = burst;
+    }
+  }
+
+  private static class TokenBucket {
+    private final Limit limit;
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(WAITING_ORDER);
+    private double tokens;
+    private long lastRefill;
+    // the requests which will take a token from this bucket, so it's not evicted meanwhile
+    private int acquirers;
+
+    private TokenBucket(Limit limit) {
+      this.limit = limit;
+      this.tokens = limit.burst;
+      this.lastRefill = System.nanoTime();
+    }
+
+    private void refill(long now) {
+      tokens = Math.min(limit.burst, tokens + (now - lastRefill) * limit.permitsPerNano);
+      lastRefill = now;
+    }
+
+    private long nanosUntilToken(long now) {
+      refill(now);
+      return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / limit.permitsPerNano);
+    }
+
+    private boolean isFull(long now) {
+      refill(now);
+      return tokens >= limit.burst;
+    }
+
+    private void take() {
+      tokens--;
+    }
+
+    private void giveBack() {
+      tokens = Math.min(limit.burst, tokens + 1);
+    }
+  }
+
+  private static class Waiter {
+    private final boolean urgent;
+    private final long sequence;
+
+    private Waiter(boolean urgent, long sequence) {
+      this.urgent = urgent;
+      this.sequence = sequence;
+    }
+  }
+}
@@ -7,6 +7,8 @@ public class GenericRetry implements Retry {
   private long initialInterval = DEFAULT_INITIAL_INTERVAL;
   private double intervalMultiplier = DEFAULT_MULTIPLIER;
   private long maxInterval = -1;
+  private Jitter jitter = Jitter.NONE;
+  private RetryClassifier retryClassifier = RetryClassifier.DEFAULT;
 
   public static GenericRetry defaultLimitedExponentialRetry() {
     return new GenericRetry();
@@ -25,7 +27,9 @@ public class GenericRetry implements Retry {
         .setInitialInterval(configuration.getInitialInterval())
         .setMaxAttempts(configuration.getMaxAttempts())
         .setIntervalMultiplier(configuration.getIntervalMultiplier())
-        .setMaxInterval(configuration.getMaxInterval());
+        .setMaxInterval(configuration.getMaxInterval())
+        .setJitter(configuration.getJitter())
+        .setRetryClassifier(configuration.getRetryClassifier());
   }
 
   @Override
@@ -69,6 +73,24 @@ public class GenericRetry implements Retry {
     return this;
   }
 
+  public Jitter getJitter() {
+    return jitter;
+  }
+
+  public GenericRetry setJitter(Jitter jitter) {
+    this.jitter = jitter;
+    return this;
+  }
+
+  public RetryClassifier getRetryClassifier() {
+    return retryClassifier;
+  }
+
+  public GenericRetry setRetryClassifier(RetryClassifier retryClassifier) {
+    this.retryClassifier = retryClassifier;
+    return this;
+  }
+
   public GenericRetry withoutMaxInterval() {
     this.maxInterval = -1;
     return this;
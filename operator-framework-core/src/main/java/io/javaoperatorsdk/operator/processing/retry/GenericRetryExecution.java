@@ -1,36 +1,86 @@
 package io.javaoperatorsdk.operator.processing.retry;
 
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class GenericRetryExecution implements RetryExecution {
 
+  static final int DECORRELATED_JITTER_MULTIPLIER = 3;
+
   private final GenericRetry genericRetry;
 
   private volatile int lastAttemptIndex = 0;
   private volatile long currentInterval;
+  private volatile long previousDelay;
+  private volatile boolean abandoned;
 
   public GenericRetryExecution(GenericRetry genericRetry) {
     this.genericRetry = genericRetry;
     this.currentInterval = genericRetry.getInitialInterval();
+    this.previousDelay = genericRetry.getInitialInterval();
   }
 
   public Optional<Long> nextDelay() {
-    if (genericRetry.getMaxAttempts() > -1 && lastAttemptIndex >= genericRetry.getMaxAttempts()) {
+    if (isLastAttempt()) {
       return Optional.empty();
     }
     if (lastAttemptIndex > 1) {
-      currentInterval = (long) (currentInterval * genericRetry.getIntervalMultiplier());
-      if (genericRetry.getMaxInterval() > -1 && currentInterval > genericRetry.getMaxInterval()) {
-        currentInterval = genericRetry.getMaxInterval();
-      }
+      currentInterval = capped((long) (currentInterval * genericRetry.getIntervalMultiplier()));
     }
     lastAttemptIndex++;
-    return Optional.of(currentInterval);
+    return Optional.of(jittered());
+  }
+
+  @Override
+  public Optional<Long> nextDelay(RuntimeException exception) {
+    if (isLastAttempt()) {
+      return Optional.empty();
+    }
+    final var decision = genericRetry.getRetryClassifier().classify(exception);
+    switch (decision.getKind()) {
+      case NEVER:
+        abandoned = true;
+        return Optional.empty();
+      case FIXED:
+        lastAttemptIndex++;
+        return Optional.of(decision.getDelayMillis());
+      default:
+        return nextDelay().map(delay -> Math.max(delay, decision.getDelayMillis()));
+    }
+  }
+
+  private long jittered() {
+    final var random = ThreadLocalRandom.current();
+    switch (genericRetry.getJitter()) {
+      case FULL:
+        return random.nextLong(currentInterval + 1);
+      case DECORRELATED:
+        final var initialInterval = genericRetry.getInitialInterval();
+        final var upperBound = Math.max(initialInterval,
+            previousDelay * DECORRELATED_JITTER_MULTIPLIER);
+        previousDelay = capped(random.nextLong(initialInterval, upperBound + 1));
+        return previousDelay;
+      default:
+        return currentInterval;
+    }
+  }
+
+  private long capped(long interval) {
+    if (genericRetry.getMaxInterval() > -1 && interval > genericRetry.getMaxInterval()) {
+      return genericRetry.getMaxInterval();
+    }
+    return interval;
   }
 
   @Override
   public boolean isLastAttempt() {
-    return genericRetry.getMaxAttempts() > -1 && lastAttemptIndex >= genericRetry.getMaxAttempts();
+    return abandoned
+        || genericRetry.getMaxAttempts() > -1 && lastAttemptIndex >= genericRetry.getMaxAttempts();
+  }
+
+  @Override
+  public boolean isAbandoned() {
+    return abandoned;
   }
 
   @Override
@@ -0,0 +1,58 @@
+package io.javaoperatorsdk.operator.processing.retry;
+
+import java.net.HttpURLConnection;
+
+import io.javaoperatorsdk.operator.processing.ratelimit.ThrottlingUtils;
+
+/**
+ * Decides how a failed reconciliation is retried depending on the exception it failed with, see
+ * {@link io.javaoperatorsdk.operator.api.config.RetryConfiguration#getRetryClassifier()}.
+ */
+@FunctionalInterface
+public interface RetryClassifier {
+
+  /**
+   * Retries with the backoff, but not before the delay requested by the API server if it throttled
+   * the reconciliation.
+   */
+  RetryClassifier DEFAULT = exception -> RetryDecision
+      .backoffAtLeast(ThrottlingUtils.retryAfterMillis(exception).orElse(0L));
+
+  /**
+   * The delay before retrying a reconciliation which failed with a conflict, leaving the informer
+   * the time to cache the version of the resource which caused the conflict.
+   */
+  long CONFLICT_RETRY_DELAY_MILLIS = 200;
+
+  /**
+   * Like {@link #DEFAULT}, but also uses the status code of the responses of the API server,
+   * looking for them in the causes of the exception too: conflicts are retried after
+   * {@link #CONFLICT_RETRY_DELAY_MILLIS}, a fresh version of the resource being read from the
+   * cache, throttled reconciliations are retried after the delay requested by the API server if
+   * any, and invalid requests are never retried.
+   */
+  RetryClassifier KUBERNETES_STATUS = exception -> {
+    final var retryAfter = ThrottlingUtils.retryAfterMillis(exception);
+    if (retryAfter.isPresent()) {
+      return RetryDecision.after(retryAfter.get());
+    }
+    final var clientException = ThrottlingUtils.clientExceptionCause(exception);
+    if (clientException.isPresent()) {
+      switch (clientException.get().getCode()) {
+        case HttpURLConnection.HTTP_CONFLICT:
+          return RetryDecision.after(CONFLICT_RETRY_DELAY_MILLIS);
+        case HttpURLConnection.HTTP_BAD_REQUEST:
+        case 422: // Unprocessable Entity, failed validation
+          return RetryDecision.never();
+        default:
+      }
+    }
+    return RetryDecision.backoff();
+  };
+
+  /**
+   * @param exception the exception the reconciliation failed with
+   * @return how to retry the reconciliation
+   */
+  RetryDecision classify(RuntimeException exception);
+}
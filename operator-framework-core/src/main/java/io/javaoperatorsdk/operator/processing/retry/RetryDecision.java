@@ -0,0 +1,83 @@
+package io.javaoperatorsdk.operator.processing.retry;
+
+/**
+ * How a failed reconciliation is retried, as decided by a {@link RetryClassifier}. Except for
+ * {@link #never()}, each retry counts as an attempt, so the maximum number of attempts of the retry
+ * configuration still applies.
+ */
+public final class RetryDecision {
+
+  enum Kind {
+    BACKOFF, FIXED, NEVER
+  }
+
+  private static final RetryDecision BACKOFF = new RetryDecision(Kind.BACKOFF, 0);
+  private static final RetryDecision IMMEDIATELY = new RetryDecision(Kind.FIXED, 0);
+  private static final RetryDecision NEVER = new RetryDecision(Kind.NEVER, 0);
+
+  private final Kind kind;
+  private final long delayMillis;
+
+  private RetryDecision(Kind kind, long delayMillis) {
+    this.kind = kind;
+    this.delayMillis = delayMillis;
+  }
+
+  /**
+   * @return retry after the delay computed by the backoff of the retry configuration
+   */
+  public static RetryDecision backoff() {
+    return BACKOFF;
+  }
+
+  /**
+   * @param minDelayMillis the minimum delay
+   * @return retry after the delay computed by the backoff of the retry configuration, but not
+   *         before the specified delay
+   */
+  public static RetryDecision backoffAtLeast(long minDelayMillis) {
+    return minDelayMillis > 0 ? new RetryDecision(Kind.BACKOFF, minDelayMillis) : BACKOFF;
+  }
+
+  /**
+   * @return retry right away, the resource being read again from the cache
+   */
+  public static RetryDecision immediately() {
+    return IMMEDIATELY;
+  }
+
+  /**
+   * @param delayMillis the delay
+   * @return retry after the specified delay, regardless of the backoff
+   */
+  public static RetryDecision after(long delayMillis) {
+    return delayMillis > 0 ? new RetryDecision(Kind.FIXED, delayMillis) : IMMEDIATELY;
+  }
+
+  /**
+   * @return don't retry, the failure being permanent
+   */
+  public static RetryDecision never() {
+    return NEVER;
+  }
+
+  /**
+   * @return {@code true} if the failure is permanent, see {@link #never()}
+   */
+  public boolean isNever() {
+    return kind == Kind.NEVER;
+  }
+
+  Kind getKind() {
+    return kind;
+  }
+
+  long getDelayMillis() {
+    return delayMillis;
+  }
+
+  @Override
+  public String toString() {
+    return kind + (delayMillis > 0 ? " " + delayMillis + "ms" : "");
+  }
+}
@@ -3,6 +3,7 @@ package io.javaoperatorsdk.operator.processing.retry;
 import java.util.Optional;
 
 import io.javaoperatorsdk.operator.api.reconciler.RetryInfo;
+import io.javaoperatorsdk.operator.processing.ratelimit.ThrottlingUtils;
 
 public interface RetryExecution extends RetryInfo {
 
@@ -13,4 +14,25 @@ public interface RetryExecution extends RetryInfo {
    * @return the time to wait until the next execution in millisecondsz
    */
   Optional<Long> nextDelay();
+
+  /**
+   * Calculates the delay for the next execution, depending on the exception the last one failed
+   * with. By default, doesn't retry before the delay requested by the API server if it throttled
+   * the execution.
+   *
+   * @param exception the exception the last execution failed with
+   * @return the time to wait until the next execution in milliseconds, empty to not retry
+   */
+  default Optional<Long> nextDelay(RuntimeException exception) {
+    return nextDelay().map(
+        delay -> Math.max(delay, ThrottlingUtils.retryAfterMillis(exception).orElse(0L)));
+  }
+
+  /**
+   * @return {@code true} if the last execution failed permanently, in which case it was the last
+   *         attempt, see {@link RetryDecision#never()}
+   */
+  default boolean isAbandoned() {
+    return false;
+  }
 }
@@ -0,0 +1,121 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
+import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.model.annotation.Group;
+import io.fabric8.kubernetes.model.annotation.Version;
+import io.javaoperatorsdk.operator.TestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClonerTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final List<Cloner> CLONERS = List.of(ConfigurationService.DEFAULT_CLONER,
+      new JacksonTokenBufferCloner(), new JacksonConvertValueCloner(), new ReflectiveCloner());
+
+  @Test
+  void clonesCustomResources() {
+    for (var cloner : CLONERS) {
+      final var resource = TestUtils.testCustomResource();
+      resource.getMetadata().setFinalizers(new ArrayList<>(List.of("finalizer")));
+      resource.getStatus().setConfigMapStatus("ready");
+
+      final var clone = cloner.clone(resource);
+
+      assertSameContent(cloner, resource, clone);
+      clone.getMetadata().getFinalizers().add("other");
+      clone.getMetadata().getAnnotations().put("key", "value");
+      clone.getSpec().setKey("other");
+      assertThat(resource.getMetadata().getFinalizers()).containsExactly("finalizer");
+      assertThat(resource.getMetadata().getAnnotations()).isEmpty();
+      assertThat(resource.getSpec().getKey()).isEqualTo("test-key");
+    }
+  }
+
+  @Test
+  void clonesModelResources() {
+    for (var cloner : CLONERS) {
+      final ConfigMap resource = new ConfigMapBuilder().withNewMetadata()
+          .withName("name").withNamespace("namespace").withGeneration(3L)
+          .withOwnerReferences(new OwnerReferenceBuilder().withName("owner").build())
+          .endMetadata()
+          .withData(Map.of("key", "value"))
+          .build();
+
+      final var clone = cloner.clone(resource);
+
+      assertSameContent(cloner, resource, clone);
+      clone.getMetadata().getOwnerReferences().get(0).setName("other");
+      assertThat(resource.getMetadata().getOwnerReferences().get(0).getName()).isEqualTo("owner");
+    }
+  }
+
+  @Test
+  void reflectiveClonerKeepsJavaTimeValuesAndCollectionClasses() {
+    final var resource = new TimedResource();
+    resource.getMetadata().setName("timed");
+    final var spec = new TimedSpec();
+    spec.startedAt = Instant.ofEpochSecond(1_700_000_000L);
+    spec.updatedAt = OffsetDateTime.ofInstant(spec.startedAt, ZoneOffset.UTC);
+    spec.sortedLabels = new TreeMap<>(Comparator.reverseOrder());
+    spec.sortedLabels.putAll(Map.of("a", "1", "b", "2"));
+    spec.sortedNames = new TreeSet<>(List.of("b", "a"));
+    spec.history = new LinkedList<>(List.of("created"));
+    resource.setSpec(spec);
+
+    final var clone = new ReflectiveCloner().clone(resource);
+
+    assertThat(clone.getSpec()).isNotSameAs(spec);
+    assertThat(clone.getSpec().startedAt).isEqualTo(spec.startedAt);
+    assertThat(clone.getSpec().updatedAt).isEqualTo(spec.updatedAt);
+    assertThat(clone.getSpec().sortedLabels).isNotSameAs(spec.sortedLabels)
+        .containsExactly(Map.entry("b", "2"), Map.entry("a", "1"));
+    assertThat(clone.getSpec().sortedNames).containsExactly("a", "b");
+    assertThat(clone.getSpec().history).isInstanceOf(LinkedList.class).containsExactly("created");
+  }
+
+  @Group("sample.javaoperatorsdk")
+  @Version("v1")
+  public static class TimedResource extends CustomResource<TimedSpec, Void> {
+  }
+
+  public static class TimedSpec {
+    Instant startedAt;
+    OffsetDateTime updatedAt;
+    TreeMap<String, String> sortedLabels;
+    SortedSet<String> sortedNames;
+    LinkedList<String> history;
+  }
+
+  private static void assertSameContent(Cloner cloner, HasMetadata resource, HasMetadata clone) {
+    try {
+      assertThat(clone).as(cloner.getClass().getName()).isNotSameAs(resource)
+          .isInstanceOf(resource.getClass());
+      assertThat(OBJECT_MAPPER.writeValueAsString(clone))
+          .isEqualTo(OBJECT_MAPPER.writeValueAsString(resource));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
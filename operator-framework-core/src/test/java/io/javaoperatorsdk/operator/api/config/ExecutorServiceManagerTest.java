@@ -0,0 +1,19 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExecutorServiceManagerTest {
+
+  @Test
+  void reconciliationExecutorRejectsTasksOnceStopped() {
+    final var executor = ExecutorServiceManager.reconciliationExecutor();
+    ExecutorServiceManager.stop();
+
+    assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+    }));
+  }
+}
@@ -0,0 +1,91 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ReschedulingConfigurationTest {
+
+  private static final long PERIOD = TimeUnit.MINUTES.toMillis(5);
+  private static final long NOW = 1_700_000_000_000L;
+
+  @Test
+  void usesDelayAsIsByDefault() {
+    assertThat(ReschedulingConfiguration.DEFAULT.rescheduleDelay(id(0), PERIOD, NOW))
+        .isEqualTo(PERIOD);
+  }
+
+  @Test
+  void spreadsResourcesRescheduledAtTheSameTimeAcrossThePeriod() {
+    final var configuration = ReschedulingConfiguration.of(0, true);
+    final var fireSeconds = new HashSet<Long>();
+
+    for (int i = 0; i < 1000; i++) {
+      final var delay = configuration.rescheduleDelay(id(i), PERIOD, NOW);
+      assertThat(delay).isBetween(PERIOD / 2, PERIOD + PERIOD / 2);
+      fireSeconds.add(TimeUnit.MILLISECONDS.toSeconds(NOW + delay));
+    }
+
+    // 1000 resources over 300 seconds, most seconds get some
+    assertThat(fireSeconds).hasSizeGreaterThan(250);
+  }
+
+  @Test
+  void keepsThePhaseOfAResource() {
+    final var configuration = ReschedulingConfiguration.of(0, true);
+    final var firstFire = NOW + configuration.rescheduleDelay(id(42), PERIOD, NOW);
+
+    // reconciled a bit after firing, rescheduled a full period after the previous fire
+    final var secondFire =
+        firstFire + 1234 + configuration.rescheduleDelay(id(42), PERIOD, firstFire + 1234);
+
+    assertThat(secondFire - firstFire).isEqualTo(PERIOD);
+  }
+
+  @Test
+  void appliesJitterWithinPercentage() {
+    final var configuration = ReschedulingConfiguration.of(10, false);
+    final var delays = new HashSet<Long>();
+
+    for (int i = 0; i < 100; i++) {
+      final var delay = configuration.rescheduleDelay(id(0), 1000, NOW);
+      assertThat(delay).isBetween(900L, 1100L);
+      delays.add(delay);
+    }
+
+    assertThat(delays).hasSizeGreaterThan(1);
+  }
+
+  @Test
+  void reconcilesOncePerPeriodWithJitterAndPhaseSpread() {
+    final var configuration = ReschedulingConfiguration.of(50, true);
+
+    for (int i = 0; i < 100; i++) {
+      var fire = NOW + configuration.rescheduleDelay(id(i), PERIOD, NOW);
+      for (int period = 0; period < 10; period++) {
+        // the timer fires a bit early or late against the wall clock
+        final var reconciledAt = fire + (period % 2 == 0 ? -5 : 5);
+        final var nextFire =
+            reconciledAt + configuration.rescheduleDelay(id(i), PERIOD, reconciledAt);
+        assertThat(nextFire - fire).isEqualTo(PERIOD);
+        fire = nextFire;
+      }
+    }
+  }
+
+  @Test
+  void rejectsInvalidJitterPercentage() {
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> ReschedulingConfiguration.of(101, false));
+  }
+
+  private static ResourceID id(int index) {
+    return new ResourceID("resource-" + index, "default");
+  }
+}
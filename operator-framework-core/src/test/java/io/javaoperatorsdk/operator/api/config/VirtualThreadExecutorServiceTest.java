@@ -0,0 +1,72 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadExecutorServiceTest {
+
+  @Test
+  void availableOnlyIfJVMSupportsVirtualThreads() {
+    final var executor = VirtualThreadExecutorService.create(1);
+
+    assertThat(executor.isPresent()).isEqualTo(Runtime.version().feature() >= 21);
+    executor.ifPresent(ExecutorService::shutdown);
+  }
+
+  @Test
+  void limitsConcurrentExecutions() throws InterruptedException {
+    final int tasks = 10;
+    final var executor = new VirtualThreadExecutorService(Executors.newCachedThreadPool(), 2);
+    final var running = new AtomicInteger();
+    final var maxRunning = new AtomicInteger();
+    final var finished = new CountDownLatch(tasks);
+
+    for (int i = 0; i < tasks; i++) {
+      executor.execute(() -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+          Thread.sleep(20);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        running.decrementAndGet();
+        finished.countDown();
+      });
+    }
+
+    assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(maxRunning.get()).isEqualTo(2);
+    executor.shutdown();
+  }
+
+  @Test
+  void doesNotLimitIfNoLimitSet() throws InterruptedException {
+    final int tasks = 5;
+    final var executor = new VirtualThreadExecutorService(Executors.newCachedThreadPool(),
+        ConfigurationService.NO_CONCURRENT_RECONCILIATION_LIMIT);
+    final var allStarted = new CountDownLatch(tasks);
+    final var release = new CountDownLatch(1);
+
+    for (int i = 0; i < tasks; i++) {
+      executor.execute(() -> {
+        allStarted.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+    }
+
+    assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    release.countDown();
+    executor.shutdown();
+  }
+}
@@ -3,6 +3,9 @@ package io.javaoperatorsdk.operator.processing.event;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,15 +15,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.ReschedulingConfiguration;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
 import io.javaoperatorsdk.operator.processing.event.source.*;
+import io.javaoperatorsdk.operator.processing.ratelimit.CircuitBreakerOpenException;
 import io.javaoperatorsdk.operator.processing.retry.GenericRetry;
 import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
 
 import static io.javaoperatorsdk.operator.TestUtils.testCustomResource;
 import static io.javaoperatorsdk.operator.processing.event.source.ResourceAction.DELETED;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -105,6 +115,20 @@ class EventProcessorTest {
         .scheduleOnce(eq(customResource), eq(GenericRetry.DEFAULT_INITIAL_INTERVAL));
   }
 
+  @Test
+  public void doesNotCountFailuresOfOpenCircuitBreakerAsRetryAttempts() {
+    when(reconciliationDispatcherMock.handleExecution(any()))
+        .thenReturn(PostExecutionControl.exceptionDuringExecution(
+            new IllegalStateException(new CircuitBreakerOpenException("open"))))
+        .thenReturn(PostExecutionControl.defaultDispatch());
+
+    eventProcessorWithRetry.handleEvent(prepareCREvent());
+
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(2))
+        .handleExecution(any());
+    verify(retryTimerEventSourceMock, never()).scheduleOnce(any(), anyLong());
+  }
+
   @Test
   public void executesTheControllerInstantlyAfterErrorIfNewEventsReceived() {
     Event event = prepareCREvent();
@@ -153,6 +177,9 @@ class EventProcessorTest {
     eventProcessorWithRetry.handleEvent(event);
     verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(1))
         .handleExecution(any());
+    // make sure the failed execution is finished, so the next event is processed as a retry
+    verify(retryTimerEventSourceMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(1))
+        .scheduleOnce(any(), eq(GenericRetry.DEFAULT_INITIAL_INTERVAL));
 
     eventProcessorWithRetry.handleEvent(event);
     verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(2))
@@ -185,15 +212,42 @@ class EventProcessorTest {
   }
 
   @Test
-  public void reScheduleOnlyIfNotExecutedEventsReceivedMeanwhile() {
+  public void adjustsRescheduleDelayWithReschedulingConfiguration() {
     var testDelay = 10000L;
+    var reschedulingProcessor = eventProcessor(new EventProcessorOptions()
+        .withReschedulingConfiguration(new ReschedulingConfiguration() {
+          @Override
+          public long rescheduleDelay(ResourceID resourceID, long delayMillis, long nowMillis) {
+            return delayMillis / 2;
+          }
+        }));
     when(reconciliationDispatcherMock.handleExecution(any()))
         .thenReturn(PostExecutionControl.defaultDispatch().withReSchedule(testDelay));
 
-    eventProcessor.handleEvent(prepareCREvent());
-    eventProcessor.handleEvent(prepareCREvent());
+    reschedulingProcessor.handleEvent(prepareCREvent());
 
-    verify(retryTimerEventSourceMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(0))
+    verify(retryTimerEventSourceMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(1))
+        .scheduleOnce(any(), eq(testDelay / 2));
+  }
+
+  @Test
+  public void reScheduleOnlyIfNotExecutedEventsReceivedMeanwhile() {
+    var testDelay = 10000L;
+    when(reconciliationDispatcherMock.handleExecution(any()))
+        .then((Answer<PostExecutionControl>) invocationOnMock -> {
+          Thread.sleep(FAKE_CONTROLLER_EXECUTION_DURATION);
+          return PostExecutionControl.defaultDispatch().withReSchedule(testDelay);
+        });
+    var event = prepareCREvent();
+
+    eventProcessor.handleEvent(event);
+    eventProcessor.handleEvent(event);
+
+    // the second event is received during the first execution, so only the second execution
+    // reschedules
+    verify(reconciliationDispatcherMock, timeout(2 * SEPARATE_EXECUTION_TIMEOUT).times(2))
+        .handleExecution(any());
+    verify(retryTimerEventSourceMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(1))
         .scheduleOnce(any(), eq(testDelay));
   }
 
@@ -220,7 +274,8 @@ class EventProcessorTest {
   public void cleansUpAfterExecutionIfOnlyDeleteEventMarkLeft() {
     var cr = testCustomResource();
     var crEvent = prepareCREvent(ResourceID.fromResource(cr));
-    eventProcessor.getEventMarker().markDeleteEventReceived(crEvent.getRelatedCustomResourceID());
+    eventProcessor.getResourceStateManager().getOrCreate(crEvent.getRelatedCustomResourceID())
+        .markDeleteEventReceived();
     var executionScope = new ExecutionScope(cr, null);
 
     eventProcessor.eventProcessingFinished(executionScope,
@@ -237,7 +292,7 @@ class EventProcessorTest {
     var updatedCr = testCustomResource(crID);
     updatedCr.getMetadata().setResourceVersion("2");
     var mockCREventSource = mock(ControllerResourceEventSource.class);
-    eventProcessor.getEventMarker().markEventReceived(crID);
+    eventProcessor.getResourceStateManager().getOrCreate(crID).markEventReceived();
     when(resourceCacheMock.get(eq(crID))).thenReturn(Optional.of(cr));
     when(eventSourceManagerMock.getControllerResourceEventSource()).thenReturn(mockCREventSource);
 
@@ -256,7 +311,7 @@ class EventProcessorTest {
     var otherChangeCR = testCustomResource(crID);
     otherChangeCR.getMetadata().setResourceVersion("3");
     var mockCREventSource = mock(ControllerResourceEventSource.class);
-    eventProcessor.getEventMarker().markEventReceived(crID);
+    eventProcessor.getResourceStateManager().getOrCreate(crID).markEventReceived();
     when(resourceCacheMock.get(eq(crID))).thenReturn(Optional.of(otherChangeCR));
     when(eventSourceManagerMock.getControllerResourceEventSource()).thenReturn(mockCREventSource);
 
@@ -271,7 +326,7 @@ class EventProcessorTest {
     var crID = new ResourceID("test-cr", TEST_NAMESPACE);
     var cr = testCustomResource(crID);
     var mockCREventSource = mock(ControllerResourceEventSource.class);
-    eventProcessor.getEventMarker().markEventReceived(crID);
+    eventProcessor.getResourceStateManager().getOrCreate(crID).markEventReceived();
     when(resourceCacheMock.get(eq(crID))).thenReturn(Optional.of(cr));
     when(eventSourceManagerMock.getControllerResourceEventSource()).thenReturn(mockCREventSource);
 
@@ -292,6 +347,197 @@ class EventProcessorTest {
     verify(retryTimerEventSourceMock, times(1)).cancelOnceSchedule(eq(crID));
   }
 
+  @Test
+  public void removesResourceStateAfterSuccessfulExecution() {
+    var crID = new ResourceID("test-cr", TEST_NAMESPACE);
+    var cr = testCustomResource(crID);
+    eventProcessor.getResourceStateManager().getOrCreate(crID).markProcessing();
+
+    eventProcessor.eventProcessingFinished(new ExecutionScope(cr, null),
+        PostExecutionControl.defaultDispatch());
+
+    assertThat(eventProcessor.getResourceStateManager().get(crID)).isEmpty();
+  }
+
+  @Test
+  public void removesResourceStateIncludingRetryOnDeleteEvent() {
+    var cr = testCustomResource();
+    var crID = ResourceID.fromResource(cr);
+    eventProcessorWithRetry.eventProcessingFinished(new ExecutionScope(cr, null),
+        PostExecutionControl.exceptionDuringExecution(new RuntimeException("test")));
+    assertThat(eventProcessorWithRetry.getResourceStateManager().get(crID)).isPresent();
+
+    eventProcessorWithRetry.handleEvent(new ResourceEvent(DELETED, crID));
+
+    assertThat(eventProcessorWithRetry.getResourceStateManager().size()).isZero();
+  }
+
+  @Test
+  public void reconcilesResourceRecreatedDuringProcessingOnceTheDeletedOneFinished() {
+    var crID = eventAlreadyUnderProcessing();
+
+    eventProcessor.handleEvent(new ResourceEvent(DELETED, crID));
+    eventProcessor.handleEvent(new ResourceEvent(ResourceAction.ADDED, crID));
+
+    verify(reconciliationDispatcherMock, after(FAKE_CONTROLLER_EXECUTION_DURATION / 2).times(1))
+        .handleExecution(any());
+    verify(eventSourceManagerMock, never()).cleanupForCustomResource(any());
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(2))
+        .handleExecution(any());
+    verify(eventSourceManagerMock, times(1)).cleanupForCustomResource(eq(crID));
+  }
+
+  @Test
+  public void collapsesEventsReceivedDuringDebounceWindow() throws InterruptedException {
+    var metricsMock = mock(Metrics.class);
+    var debouncingProcessor = debouncingEventProcessor(metricsMock, 200, 200);
+    var event = prepareCREvent();
+
+    debouncingProcessor.handleEvent(event);
+    debouncingProcessor.handleEvent(event);
+    debouncingProcessor.handleEvent(event);
+
+    verify(reconciliationDispatcherMock, timeout(50).times(0)).handleExecution(any());
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(1))
+        .handleExecution(any());
+    Thread.sleep(SEPARATE_EXECUTION_TIMEOUT);
+    verify(reconciliationDispatcherMock, times(1)).handleExecution(any());
+    verify(metricsMock, times(2)).coalescedEvent(event);
+    debouncingProcessor.stop();
+  }
+
+  @Test
+  public void debounceWindowIsCappedByMaxWait() throws InterruptedException {
+    var debouncingProcessor = debouncingEventProcessor(Metrics.NOOP, 200, 400);
+    var event = prepareCREvent();
+
+    // events keep extending the window, but the reconciliation happens within the max wait
+    for (int i = 0; i < 20; i++) {
+      debouncingProcessor.handleEvent(event);
+      Thread.sleep(50);
+    }
+
+    verify(reconciliationDispatcherMock, atLeast(1)).handleExecution(any());
+    debouncingProcessor.stop();
+  }
+
+  @Test
+  public void debounceDoesNotDelayTimerEvents() {
+    var debouncingProcessor = debouncingEventProcessor(Metrics.NOOP, 10000, 10000);
+    var resourceID = prepareCREvent().getRelatedCustomResourceID();
+
+    debouncingProcessor.handleEvent(new Event(resourceID, ReconciliationPriority.TIMER));
+
+    verify(reconciliationDispatcherMock, timeout(50).times(1)).handleExecution(any());
+    debouncingProcessor.stop();
+  }
+
+  @Test
+  public void batchesReconciliationsOfDifferentResources() {
+    var batchingProcessor = batchingEventProcessor(2, 10000);
+
+    batchingProcessor.handleEvent(prepareCREvent());
+    batchingProcessor.handleEvent(prepareCREvent());
+
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(1))
+        .handleBatchExecution(argThat(scopes -> scopes.size() == 2));
+    verify(reconciliationDispatcherMock, never()).handleExecution(any());
+    batchingProcessor.stop();
+  }
+
+  @Test
+  public void flushesPartialBatchAfterLinger() {
+    var batchingProcessor = batchingEventProcessor(10, 50);
+
+    batchingProcessor.handleEvent(prepareCREvent());
+
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(1))
+        .handleBatchExecution(argThat(scopes -> scopes.size() == 1));
+    batchingProcessor.stop();
+  }
+
+  @Test
+  public void clearsProcessingStateOfPendingBatchOnStop() {
+    var batchingProcessor = batchingEventProcessor(10, 10000);
+    var event = prepareCREvent();
+
+    batchingProcessor.handleEvent(event);
+    batchingProcessor.stop();
+
+    ResourceState state = batchingProcessor.getResourceStateManager()
+        .get(event.getRelatedCustomResourceID()).orElseThrow();
+    assertThat(state.isUnderProcessing()).isFalse();
+    assertThat(state.eventPresent()).isTrue();
+    verify(reconciliationDispatcherMock, never()).handleBatchExecution(any());
+  }
+
+  @Test
+  public void asyncReconciliationFinishesWhenStageCompletes() {
+    var asyncProcessor = eventProcessor(new EventProcessorOptions().withAsyncReconciliation());
+    var reconciliation = new CompletableFuture<Supplier<PostExecutionControl>>();
+    when(reconciliationDispatcherMock.handleExecutionAsync(any()))
+        .thenReturn(reconciliation, CompletableFuture.completedFuture(
+            (Supplier<PostExecutionControl>) PostExecutionControl::defaultDispatch));
+    var event = prepareCREvent();
+
+    asyncProcessor.handleEvent(event);
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(1))
+        .handleExecutionAsync(any());
+    // the resource stays under processing until the stage completes
+    asyncProcessor.handleEvent(event);
+    verify(reconciliationDispatcherMock, timeout(50).times(1)).handleExecutionAsync(any());
+
+    reconciliation.complete(PostExecutionControl::defaultDispatch);
+
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(2))
+        .handleExecutionAsync(any());
+    verify(reconciliationDispatcherMock, never()).handleExecution(any());
+    asyncProcessor.stop();
+  }
+
+  @Test
+  public void asyncReconciliationWithoutStageFinishesProcessing() {
+    var asyncProcessor = eventProcessor(new EventProcessorOptions().withAsyncReconciliation());
+    when(reconciliationDispatcherMock.handleExecutionAsync(any()))
+        .thenReturn(null, CompletableFuture.completedFuture(
+            (Supplier<PostExecutionControl>) PostExecutionControl::defaultDispatch));
+    var event = prepareCREvent();
+
+    asyncProcessor.handleEvent(event);
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(1))
+        .handleExecutionAsync(any());
+    asyncProcessor.handleEvent(event);
+
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(2))
+        .handleExecutionAsync(any());
+    asyncProcessor.stop();
+  }
+
+  private EventProcessor batchingEventProcessor(int maxBatchSize, long lingerMillis) {
+    when(reconciliationDispatcherMock.handleBatchExecution(any())).then(invocation -> {
+      List<?> scopes = invocation.getArgument(0);
+      return scopes.stream().map(scope -> PostExecutionControl.defaultDispatch())
+          .collect(Collectors.toList());
+    });
+    return eventProcessor(new EventProcessorOptions().withBatching(maxBatchSize, lingerMillis));
+  }
+
+  private EventProcessor debouncingEventProcessor(Metrics metrics, long windowMillis,
+      long maxWaitMillis) {
+    return eventProcessor(metrics,
+        new EventProcessorOptions().withDebounce(windowMillis, maxWaitMillis));
+  }
+
+  private EventProcessor eventProcessor(EventProcessorOptions options) {
+    return eventProcessor(Metrics.NOOP, options);
+  }
+
+  private EventProcessor eventProcessor(Metrics metrics, EventProcessorOptions options) {
+    when(eventSourceManagerMock.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    return new EventProcessor(resourceCacheMock, null, "Test", reconciliationDispatcherMock, null,
+        metrics, eventSourceManagerMock, options);
+  }
+
   private ResourceID eventAlreadyUnderProcessing() {
     when(reconciliationDispatcherMock.handleExecution(any()))
         .then(
@@ -0,0 +1,39 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ReconciliationBatcherTest {
+
+  private final List<List<String>> flushed = new CopyOnWriteArrayList<>();
+
+  @Test
+  void flushesFullBatchesRightAway() {
+    final var batcher = new ReconciliationBatcher<String>(2, 10_000, flushed::add, Runnable::run);
+
+    batcher.add("first");
+    batcher.add("second");
+
+    assertThat(flushed).containsExactly(List.of("first", "second"));
+    assertThat(batcher.pending()).isZero();
+  }
+
+  @Test
+  void discardsPendingBatchOnStopAndLingersAgainOnStart() {
+    final var batcher = new ReconciliationBatcher<String>(10, 20, flushed::add, Runnable::run);
+    batcher.add("discarded");
+
+    assertThat(batcher.stop()).containsExactly("discarded");
+    batcher.add("pending");
+    batcher.start();
+
+    await().atMost(2, TimeUnit.SECONDS)
+        .untilAsserted(() -> assertThat(flushed).containsExactly(List.of("pending")));
+  }
+}
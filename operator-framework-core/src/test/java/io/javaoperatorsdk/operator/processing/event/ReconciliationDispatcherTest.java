@@ -1,6 +1,8 @@
 package io.javaoperatorsdk.operator.processing.event;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,19 +10,29 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
 import io.javaoperatorsdk.operator.TestUtils;
 import io.javaoperatorsdk.operator.api.config.ConfigurationService;
 import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.config.RetryConfiguration;
 import io.javaoperatorsdk.operator.api.monitoring.Metrics;
 import io.javaoperatorsdk.operator.api.reconciler.*;
 import io.javaoperatorsdk.operator.processing.Controller;
 import io.javaoperatorsdk.operator.processing.event.ReconciliationDispatcher.CustomResourceFacade;
+import io.javaoperatorsdk.operator.processing.ratelimit.CircuitBreaker;
+import io.javaoperatorsdk.operator.processing.ratelimit.CircuitBreakerOpenException;
+import io.javaoperatorsdk.operator.processing.ratelimit.RateLimiter;
+import io.javaoperatorsdk.operator.processing.retry.RetryClassifier;
 import io.javaoperatorsdk.operator.sample.observedgeneration.ObservedGenCustomResource;
 import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -56,6 +68,7 @@ class ReconciliationDispatcherTest {
     when(configuration.getName()).thenReturn("EventDispatcherTestController");
     when(configService.getMetrics()).thenReturn(Metrics.NOOP);
     when(configuration.getConfigurationService()).thenReturn(configService);
+    when(configuration.getRetryConfiguration()).thenReturn(RetryConfiguration.DEFAULT);
     when(configService.getResourceCloner()).thenReturn(ConfigurationService.DEFAULT_CLONER);
     when(reconciler.reconcile(eq(customResource), any()))
         .thenReturn(UpdateControl.updateResource(customResource));
@@ -376,6 +389,192 @@ class ReconciliationDispatcherTest {
         any());
   }
 
+  @Test
+  void callErrorStatusHandlerOnPermanentFailureWhateverTheAttempt() {
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    when(configuration.getRetryConfiguration()).thenReturn(new RetryConfiguration() {
+      @Override
+      public RetryClassifier getRetryClassifier() {
+        return RetryClassifier.KUBERNETES_STATUS;
+      }
+    });
+    final var invalid = new KubernetesClientException("invalid", 422, null);
+    when(reconciler.reconcile(any(), any())).thenThrow(invalid);
+    when(((ErrorStatusHandler) reconciler).updateErrorStatus(any(), any()))
+        .then(a -> testCustomResource);
+
+    reconciliationDispatcher.handleExecution(executionScopeWithCREvent(testCustomResource));
+
+    verify(((ErrorStatusHandler) reconciler), times(1)).updateErrorStatus(testCustomResource,
+        invalid);
+    verify(customResourceFacade, times(1)).updateStatus(testCustomResource);
+  }
+
+  @Test
+  void reconcilesResourcesInBatchAndPostProcessesEachOne() {
+    final BatchReconciler<TestCustomResource> batchReconciler = mock(BatchReconciler.class);
+    final ControllerConfiguration<TestCustomResource> config = mock(ControllerConfiguration.class);
+    final var dispatcher = init(testCustomResource, batchReconciler, config, customResourceFacade);
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    final var other = TestUtils.testCustomResource();
+    other.addFinalizer(DEFAULT_FINALIZER);
+    final var withoutFinalizer = TestUtils.testCustomResource();
+    when(batchReconciler.reconcileBatch(any(), any())).then(invocation -> {
+      List<TestCustomResource> resources = invocation.getArgument(0);
+      return List.of(UpdateControl.updateStatus(resources.get(0)),
+          UpdateControl.updateStatus(resources.get(1)));
+    });
+
+    final var results = dispatcher.handleBatchExecution(List.of(
+        executionScopeWithCREvent(testCustomResource), executionScopeWithCREvent(withoutFinalizer),
+        executionScopeWithCREvent(other)));
+
+    assertThat(results).hasSize(3);
+    verify(batchReconciler, times(1)).reconcileBatch(
+        argThat(resources -> resources.size() == 2 && resources.get(0) == testCustomResource
+            && resources.get(1) == other),
+        argThat(contexts -> contexts.size() == 2));
+    verify(customResourceFacade, times(1)).updateStatus(testCustomResource);
+    verify(customResourceFacade, times(1)).updateStatus(other);
+    verify(customResourceFacade, times(1))
+        .replaceWithLock(argThat(resource -> resource.hasFinalizer(DEFAULT_FINALIZER)
+            && resource.getMetadata().getName()
+                .equals(withoutFinalizer.getMetadata().getName())));
+  }
+
+  @Test
+  void failsAllResourcesOfBatchIfBatchReconciliationFails() {
+    final BatchReconciler<TestCustomResource> batchReconciler = mock(BatchReconciler.class);
+    final ControllerConfiguration<TestCustomResource> config = mock(ControllerConfiguration.class);
+    final var dispatcher = init(testCustomResource, batchReconciler, config, customResourceFacade);
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    final var other = TestUtils.testCustomResource();
+    other.addFinalizer(DEFAULT_FINALIZER);
+    when(batchReconciler.reconcileBatch(any(), any()))
+        .thenThrow(new IllegalStateException("Batch Test"));
+
+    final var results = dispatcher.handleBatchExecution(List.of(
+        executionScopeWithCREvent(testCustomResource), executionScopeWithCREvent(other)));
+
+    assertThat(results).hasSize(2)
+        .allMatch(control -> control.getRuntimeException().isPresent());
+    verify(customResourceFacade, never()).updateStatus(any());
+  }
+
+  @Test
+  void updatesStatusOnceAsyncReconciliationCompletes() {
+    final AsyncReconciler<TestCustomResource> asyncReconciler = mock(AsyncReconciler.class);
+    final ControllerConfiguration<TestCustomResource> config = mock(ControllerConfiguration.class);
+    final var dispatcher = init(testCustomResource, asyncReconciler, config, customResourceFacade);
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    final var reconciliation = new CompletableFuture<UpdateControl<TestCustomResource>>();
+    when(asyncReconciler.reconcileAsync(eq(testCustomResource), any())).thenReturn(reconciliation);
+
+    final var result = dispatcher
+        .handleExecutionAsync(executionScopeWithCREvent(testCustomResource))
+        .toCompletableFuture();
+
+    assertThat(result).isNotDone();
+    reconciliation.complete(UpdateControl.updateStatus(testCustomResource));
+    assertThat(result).isCompleted();
+    // the update is left to the caller
+    verify(customResourceFacade, never()).updateStatus(any());
+    assertThat(result.join().get().exceptionDuringExecution()).isFalse();
+    verify(customResourceFacade, times(1)).updateStatus(testCustomResource);
+    verify(asyncReconciler, never()).reconcile(any(), any());
+  }
+
+  @Test
+  void handlesAsyncReconciliationCompletedExceptionally() {
+    final AsyncReconciler<TestCustomResource> asyncReconciler = mock(AsyncReconciler.class);
+    final ControllerConfiguration<TestCustomResource> config = mock(ControllerConfiguration.class);
+    final var dispatcher = init(testCustomResource, asyncReconciler, config, customResourceFacade);
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    when(asyncReconciler.reconcileAsync(eq(testCustomResource), any()))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Async Test")));
+
+    final var result = dispatcher
+        .handleExecutionAsync(executionScopeWithCREvent(testCustomResource))
+        .toCompletableFuture().join().get();
+
+    assertThat(result.getRuntimeException()).get()
+        .isInstanceOf(IllegalStateException.class);
+    verify(customResourceFacade, never()).updateStatus(any());
+  }
+
+  @Test
+  void failsAsyncReconciliationReturningNoStage() {
+    final AsyncReconciler<TestCustomResource> asyncReconciler = mock(AsyncReconciler.class);
+    final ControllerConfiguration<TestCustomResource> config = mock(ControllerConfiguration.class);
+    final var dispatcher = init(testCustomResource, asyncReconciler, config, customResourceFacade);
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    when(asyncReconciler.reconcileAsync(eq(testCustomResource), any())).thenReturn(null);
+
+    final var result = dispatcher
+        .handleExecutionAsync(executionScopeWithCREvent(testCustomResource))
+        .toCompletableFuture().join().get();
+
+    assertThat(result.getRuntimeException()).get()
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void clonesReadOnlyResourceBeforeAddingFinalizer() {
+    final ControllerConfiguration<TestCustomResource> config = mock(ControllerConfiguration.class);
+    final var dispatcher = init(testCustomResource, reconciler, config, customResourceFacade);
+    when(config.isReadOnlyResources()).thenReturn(true);
+
+    dispatcher.handleExecution(executionScopeWithCREvent(testCustomResource));
+
+    verify(customResourceFacade, times(1))
+        .replaceWithLock(argThat(resource -> resource != testCustomResource
+            && resource.hasFinalizer(DEFAULT_FINALIZER)));
+    assertThat(testCustomResource.hasFinalizer(DEFAULT_FINALIZER)).isFalse();
+  }
+
+  @Test
+  void clonesReadOnlyResourceOnlyWhenUpdated() {
+    var observedGenResource = createObservedGenCustomResource();
+
+    Reconciler<ObservedGenCustomResource> reconciler = mock(Reconciler.class);
+    ControllerConfiguration<ObservedGenCustomResource> config =
+        mock(ControllerConfiguration.class);
+    CustomResourceFacade<ObservedGenCustomResource> facade = mock(CustomResourceFacade.class);
+    var dispatcher = init(observedGenResource, reconciler, config, facade);
+    when(config.isGenerationAware()).thenReturn(true);
+    when(config.isReadOnlyResources()).thenReturn(true);
+    when(reconciler.reconcile(any(), any())).thenAnswer(invocation -> {
+      assertThat((Object) invocation.getArgument(0)).isSameAs(observedGenResource);
+      final Context context = invocation.getArgument(1);
+      final var resource = context.getResourceForUpdate(observedGenResource);
+      assertThat(resource).isNotSameAs(observedGenResource);
+      return UpdateControl.updateStatus(resource);
+    });
+    when(facade.updateStatus(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    PostExecutionControl<ObservedGenCustomResource> control = dispatcher.handleExecution(
+        executionScopeWithCREvent(observedGenResource));
+
+    assertThat(control.getUpdatedCustomResource().get().getStatus().getObservedGeneration())
+        .isEqualTo(1L);
+    assertThat(observedGenResource.getStatus().getObservedGeneration()).isNull();
+  }
+
+  @Test
+  void doesNotWriteIfTheCircuitBreakerOpenedWhileRateLimited() {
+    final MixedOperation<TestCustomResource, KubernetesResourceList<TestCustomResource>,
+        Resource<TestCustomResource>> resourceOperation = mock(MixedOperation.class);
+    final var circuitBreaker = mock(CircuitBreaker.class);
+    final RateLimiter rateLimiter = (verb, controllerName, namespace, urgent) -> doThrow(
+        new CircuitBreakerOpenException("test")).when(circuitBreaker).checkWritesAllowed();
+    final var facade = new CustomResourceFacade<>(resourceOperation, rateLimiter, circuitBreaker,
+        "test", Metrics.NOOP, null);
+
+    assertThatExceptionOfType(CircuitBreakerOpenException.class)
+        .isThrownBy(() -> facade.replaceWithLock(testCustomResource));
+    verifyNoInteractions(resourceOperation);
+  }
+
   private ObservedGenCustomResource createObservedGenCustomResource() {
     ObservedGenCustomResource observedGenCustomResource = new ObservedGenCustomResource();
     observedGenCustomResource.setMetadata(new ObjectMeta());
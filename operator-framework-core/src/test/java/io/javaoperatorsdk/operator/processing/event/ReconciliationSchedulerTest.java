@@ -0,0 +1,411 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ReconciliationFairnessConfiguration;
+import io.javaoperatorsdk.operator.api.config.ReconciliationPriorityConfiguration;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+import io.javaoperatorsdk.operator.processing.ratelimit.AdaptiveConcurrencyLimiter;
+import io.javaoperatorsdk.operator.processing.ratelimit.ConcurrencyLimiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReconciliationSchedulerTest {
+
+  private static final ResourceID RESOURCE_ID = new ResourceID("test", "default");
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(5);
+
+  @AfterEach
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void limitsConcurrentReconciliationsAndQueuesOthers() throws InterruptedException {
+    final var scheduler = new ReconciliationScheduler(executor, 2,
+        ReconciliationPriorityConfiguration.DEFAULT, ReconciliationFairnessConfiguration.DEFAULT,
+        "test", Metrics.NOOP, ConcurrencyLimiter.UNLIMITED);
+    final var release = new CountDownLatch(1);
+    final var executed = new AtomicInteger();
+
+    for (int i = 0; i < 5; i++) {
+      scheduler.execute(() -> {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        executed.incrementAndGet();
+      }, RESOURCE_ID, ReconciliationPriority.RESOURCE_CHANGE);
+    }
+
+    assertThat(scheduler.running()).isEqualTo(2);
+    assertThat(scheduler.queued()).isEqualTo(3);
+
+    release.countDown();
+    await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
+      assertThat(executed.get()).isEqualTo(5);
+      assertThat(scheduler.running()).isZero();
+      assertThat(scheduler.queued()).isZero();
+    });
+  }
+
+  @Test
+  void doesNotQueueIfNoLimit() {
+    final var scheduler = new ReconciliationScheduler(executor,
+        ConfigurationService.NO_CONCURRENT_RECONCILIATION_LIMIT,
+        ReconciliationPriorityConfiguration.DEFAULT, ReconciliationFairnessConfiguration.DEFAULT,
+        "test", Metrics.NOOP, ConcurrencyLimiter.UNLIMITED);
+    final var release = new CountDownLatch(1);
+
+    for (int i = 0; i < 5; i++) {
+      scheduler.execute(() -> {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }, RESOURCE_ID, ReconciliationPriority.RESOURCE_CHANGE);
+    }
+
+    assertThat(scheduler.running()).isEqualTo(5);
+    assertThat(scheduler.queued()).isZero();
+    release.countDown();
+  }
+
+  @Test
+  void releasesSlotIfReconciliationFails() {
+    final var scheduler = new ReconciliationScheduler(executor, 1,
+        ReconciliationPriorityConfiguration.DEFAULT, ReconciliationFairnessConfiguration.DEFAULT,
+        "test", Metrics.NOOP, ConcurrencyLimiter.UNLIMITED);
+    final var executed = new AtomicInteger();
+
+    scheduler.execute(() -> {
+      throw new IllegalStateException("test");
+    }, RESOURCE_ID, ReconciliationPriority.RESOURCE_CHANGE);
+    scheduler.execute(executed::incrementAndGet, RESOURCE_ID,
+        ReconciliationPriority.RESOURCE_CHANGE);
+
+    await().dontCatchUncaughtExceptions().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
+      assertThat(executed.get()).isEqualTo(1);
+      assertThat(scheduler.running()).isZero();
+    });
+  }
+
+  @Test
+  void dispatchesQueuedReconciliationsByPriority() throws InterruptedException {
+    final var clock = new AtomicLong();
+    final var scheduler = new ReconciliationScheduler(executor, 1,
+        ReconciliationPriorityConfiguration.DEFAULT, ReconciliationFairnessConfiguration.DEFAULT,
+        "test", Metrics.NOOP, ConcurrencyLimiter.UNLIMITED, clock::get);
+    final var release = new CountDownLatch(1);
+    final List<ReconciliationPriority> dispatched = new CopyOnWriteArrayList<>();
+
+    scheduler.execute(() -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }, RESOURCE_ID, ReconciliationPriority.RESYNC);
+    for (var priority : List.of(ReconciliationPriority.RESYNC, ReconciliationPriority.TIMER,
+        ReconciliationPriority.DELETION, ReconciliationPriority.GENERATION_CHANGE)) {
+      scheduler.execute(() -> dispatched.add(priority), RESOURCE_ID, priority);
+    }
+    release.countDown();
+
+    await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(dispatched).hasSize(4));
+    assertThat(dispatched).containsExactly(ReconciliationPriority.DELETION,
+        ReconciliationPriority.GENERATION_CHANGE, ReconciliationPriority.TIMER,
+        ReconciliationPriority.RESYNC);
+  }
+
+  @Test
+  void agingPreventsStarvation() throws InterruptedException {
+    final var clock = new AtomicLong();
+    final var priorityConfiguration = ReconciliationPriorityConfiguration.DEFAULT;
+    final var scheduler = new ReconciliationScheduler(executor, 1, priorityConfiguration,
+        ReconciliationFairnessConfiguration.DEFAULT, "test", Metrics.NOOP,
+        ConcurrencyLimiter.UNLIMITED, clock::get);
+    final var release = new CountDownLatch(1);
+    final List<ReconciliationPriority> dispatched = new CopyOnWriteArrayList<>();
+
+    scheduler.execute(() -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }, RESOURCE_ID, ReconciliationPriority.RESYNC);
+    scheduler.execute(() -> dispatched.add(ReconciliationPriority.RESYNC), RESOURCE_ID,
+        ReconciliationPriority.RESYNC);
+    // a resync waiting for longer than its rank times the aging interval goes before a deletion
+    final var resyncRank = priorityConfiguration.rankOf(ReconciliationPriority.RESYNC);
+    clock.set(TimeUnit.MILLISECONDS.toNanos(
+        (resyncRank + 1) * priorityConfiguration.getAgingIntervalMillis()));
+    scheduler.execute(() -> dispatched.add(ReconciliationPriority.DELETION), RESOURCE_ID,
+        ReconciliationPriority.DELETION);
+    release.countDown();
+
+    await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(dispatched).hasSize(2));
+    assertThat(dispatched).containsExactly(ReconciliationPriority.RESYNC,
+        ReconciliationPriority.DELETION);
+  }
+
+  @Test
+  void resyncBacklogDoesNotOutrankFreshChangesByDefault() throws InterruptedException {
+    final var clock = new AtomicLong();
+    final var scheduler = new ReconciliationScheduler(executor, 1,
+        ReconciliationPriorityConfiguration.DEFAULT, ReconciliationFairnessConfiguration.DEFAULT,
+        "test", Metrics.NOOP, ConcurrencyLimiter.UNLIMITED, clock::get);
+    final var release = new CountDownLatch(1);
+    final List<ReconciliationPriority> dispatched = new CopyOnWriteArrayList<>();
+
+    scheduler.execute(() -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }, RESOURCE_ID, ReconciliationPriority.RESYNC);
+    for (int i = 0; i < 3; i++) {
+      scheduler.execute(() -> dispatched.add(ReconciliationPriority.RESYNC), RESOURCE_ID,
+          ReconciliationPriority.RESYNC);
+    }
+    // the backlog of resyncs waited for a while, but not for five aging intervals
+    clock.set(TimeUnit.SECONDS.toNanos(30));
+    scheduler.execute(() -> dispatched.add(ReconciliationPriority.GENERATION_CHANGE), RESOURCE_ID,
+        ReconciliationPriority.GENERATION_CHANGE);
+    scheduler.execute(() -> dispatched.add(ReconciliationPriority.DELETION), RESOURCE_ID,
+        ReconciliationPriority.DELETION);
+    release.countDown();
+
+    await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(dispatched).hasSize(5));
+    assertThat(dispatched).containsExactly(ReconciliationPriority.DELETION,
+        ReconciliationPriority.GENERATION_CHANGE, ReconciliationPriority.RESYNC,
+        ReconciliationPriority.RESYNC, ReconciliationPriority.RESYNC);
+  }
+
+  @Test
+  void servesNamespacesInRoundRobin() throws InterruptedException {
+    final var scheduler = new ReconciliationScheduler(executor, 1,
+        ReconciliationPriorityConfiguration.DEFAULT, ReconciliationFairnessConfiguration.DEFAULT,
+        "test", Metrics.NOOP, ConcurrencyLimiter.UNLIMITED);
+    final var release = new CountDownLatch(1);
+    final List<String> dispatched = new CopyOnWriteArrayList<>();
+
+    scheduler.execute(() -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }, new ResourceID("blocker", "noisy"), ReconciliationPriority.RESOURCE_CHANGE);
+    for (int i = 0; i < 3; i++) {
+      scheduler.execute(() -> dispatched.add("noisy"), new ResourceID("r" + i, "noisy"),
+          ReconciliationPriority.RESOURCE_CHANGE);
+    }
+    scheduler.execute(() -> dispatched.add("quiet"), new ResourceID("r", "quiet"),
+        ReconciliationPriority.RESOURCE_CHANGE);
+    assertThat(scheduler.queued("noisy")).isEqualTo(3);
+    assertThat(scheduler.queued("quiet")).isEqualTo(1);
+    release.countDown();
+
+    await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(dispatched).hasSize(4));
+    assertThat(dispatched).containsExactly("noisy", "quiet", "noisy", "noisy");
+  }
+
+  @Test
+  void limitsConcurrentReconciliationsPerGroup() throws InterruptedException {
+    final var scheduler = new ReconciliationScheduler(executor,
+        ConfigurationService.NO_CONCURRENT_RECONCILIATION_LIMIT,
+        ReconciliationPriorityConfiguration.DEFAULT, new ReconciliationFairnessConfiguration() {
+          @Override
+          public int maxConcurrentReconciliations(String key) {
+            return "limited".equals(key) ? 1
+                : ConfigurationService.NO_CONCURRENT_RECONCILIATION_LIMIT;
+          }
+        }, "test", Metrics.NOOP, ConcurrencyLimiter.UNLIMITED);
+    final var release = new CountDownLatch(1);
+
+    for (var namespace : List.of("limited", "limited", "other", "other")) {
+      scheduler.execute(() -> {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }, new ResourceID("r", namespace), ReconciliationPriority.RESOURCE_CHANGE);
+    }
+
+    assertThat(scheduler.running()).isEqualTo(3);
+    assertThat(scheduler.queued("limited")).isEqualTo(1);
+    assertThat(scheduler.queued("other")).isZero();
+    release.countDown();
+    await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
+      assertThat(scheduler.running()).isZero();
+      assertThat(scheduler.queued()).isZero();
+    });
+  }
+
+  @Test
+  void monitorsQueuedGroupsAsAggregates() {
+    final var metrics = mock(Metrics.class);
+    final var scheduler = new ReconciliationScheduler(executor, 1,
+        ReconciliationPriorityConfiguration.DEFAULT, ReconciliationFairnessConfiguration.DEFAULT,
+        "test", metrics, ConcurrencyLimiter.UNLIMITED);
+    final var release = new CountDownLatch(1);
+
+    scheduler.execute(() -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }, new ResourceID("r0", "ns0"), ReconciliationPriority.RESOURCE_CHANGE);
+    scheduler.execute(() -> {
+    }, new ResourceID("r1", "ns1"), ReconciliationPriority.RESOURCE_CHANGE);
+    scheduler.execute(() -> {
+    }, new ResourceID("r2", "ns1"), ReconciliationPriority.RESOURCE_CHANGE);
+    scheduler.execute(() -> {
+    }, new ResourceID("r1", "ns2"), ReconciliationPriority.RESOURCE_CHANGE);
+
+    verify(metrics, times(1)).monitorReconciliationGroups(eq("test"), any(), any());
+    assertThat(scheduler.queuedGroups()).isEqualTo(2);
+    assertThat(scheduler.largestGroupQueue()).isEqualTo(2);
+    release.countDown();
+    await().atMost(2, TimeUnit.SECONDS)
+        .untilAsserted(() -> assertThat(scheduler.queuedGroups()).isZero());
+  }
+
+  @Test
+  void sharesConcurrencyLimiterAcrossSchedulers() {
+    final var concurrencyLimiter = new AdaptiveConcurrencyLimiter(1, 1);
+    final var first = new ReconciliationScheduler(executor,
+        ConfigurationService.NO_CONCURRENT_RECONCILIATION_LIMIT,
+        ReconciliationPriorityConfiguration.DEFAULT, ReconciliationFairnessConfiguration.DEFAULT,
+        "first", Metrics.NOOP, concurrencyLimiter);
+    final var second = new ReconciliationScheduler(executor,
+        ConfigurationService.NO_CONCURRENT_RECONCILIATION_LIMIT,
+        ReconciliationPriorityConfiguration.DEFAULT, ReconciliationFairnessConfiguration.DEFAULT,
+        "second", Metrics.NOOP, concurrencyLimiter);
+    final var release = new CountDownLatch(1);
+    final var executed = new AtomicInteger();
+
+    first.execute(() -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }, RESOURCE_ID, ReconciliationPriority.RESOURCE_CHANGE);
+    second.execute(executed::incrementAndGet, RESOURCE_ID, ReconciliationPriority.RESOURCE_CHANGE);
+
+    assertThat(first.running()).isEqualTo(1);
+    assertThat(second.queued()).isEqualTo(1);
+    release.countDown();
+    await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
+      assertThat(executed.get()).isEqualTo(1);
+      assertThat(second.running()).isZero();
+    });
+  }
+
+  @Test
+  void stopsListeningToTheSharedLimiterOnStop() {
+    final var concurrencyLimiter = mock(ConcurrencyLimiter.class);
+    final var scheduler = new ReconciliationScheduler(executor, 1,
+        ReconciliationPriorityConfiguration.DEFAULT, ReconciliationFairnessConfiguration.DEFAULT,
+        "test", Metrics.NOOP, concurrencyLimiter);
+    final var listener = ArgumentCaptor.forClass(Runnable.class);
+    verify(concurrencyLimiter).addPermitListener(listener.capture());
+
+    scheduler.stop();
+    scheduler.stop();
+
+    verify(concurrencyLimiter, times(1)).removePermitListener(listener.getValue());
+    scheduler.start();
+    verify(concurrencyLimiter, times(2)).addPermitListener(listener.getValue());
+  }
+
+  @Test
+  void releasesAllTheSlotsAndPermitsOfRejectedDispatches() {
+    final var concurrencyLimiter = mock(ConcurrencyLimiter.class);
+    // the permits are refused while the reconciliations are queued, then granted
+    when(concurrencyLimiter.tryAcquire()).thenReturn(false, false, false, true);
+    final var rejectingExecutor = mock(ExecutorService.class);
+    final var handedOff = new AtomicInteger();
+    doAnswer(invocation -> {
+      // the dispatch of the pending reconciliations is run, the reconciliations are rejected
+      if (handedOff.getAndIncrement() == 0) {
+        invocation.<Runnable>getArgument(0).run();
+        return null;
+      }
+      throw new RejectedExecutionException("test");
+    }).when(rejectingExecutor).execute(any());
+    final var scheduler = new ReconciliationScheduler(rejectingExecutor,
+        ConfigurationService.NO_CONCURRENT_RECONCILIATION_LIMIT,
+        ReconciliationPriorityConfiguration.DEFAULT, ReconciliationFairnessConfiguration.DEFAULT,
+        "test", Metrics.NOOP, concurrencyLimiter);
+    final var permitListener = ArgumentCaptor.forClass(Runnable.class);
+    verify(concurrencyLimiter).addPermitListener(permitListener.capture());
+    for (int i = 0; i < 3; i++) {
+      scheduler.execute(() -> {
+      }, new ResourceID("test" + i, "default"), ReconciliationPriority.RESOURCE_CHANGE);
+    }
+    assertThat(scheduler.queued()).isEqualTo(3);
+
+    permitListener.getValue().run();
+
+    assertThat(scheduler.queued()).isZero();
+    assertThat(scheduler.running()).isZero();
+    verify(concurrencyLimiter, times(3)).cancelAcquire();
+  }
+
+  @Test
+  void keepsTheSlotOfAsyncReconciliationsUntilTheyFinish() {
+    final var scheduler = new ReconciliationScheduler(executor, 1,
+        ReconciliationPriorityConfiguration.DEFAULT, ReconciliationFairnessConfiguration.DEFAULT,
+        "test", Metrics.NOOP, ConcurrencyLimiter.UNLIMITED);
+    final var reconciliation = new CompletableFuture<Runnable>();
+    final var finished = new AtomicInteger();
+    final var executed = new AtomicInteger();
+
+    scheduler.executeAsync(() -> reconciliation, RESOURCE_ID,
+        ReconciliationPriority.RESOURCE_CHANGE);
+    scheduler.execute(executed::incrementAndGet, RESOURCE_ID,
+        ReconciliationPriority.RESOURCE_CHANGE);
+
+    await().atMost(2, TimeUnit.SECONDS)
+        .untilAsserted(() -> assertThat(scheduler.queued()).isEqualTo(1));
+    assertThat(scheduler.running()).isEqualTo(1);
+    reconciliation.complete(finished::incrementAndGet);
+    await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
+      assertThat(finished.get()).isEqualTo(1);
+      assertThat(executed.get()).isEqualTo(1);
+      assertThat(scheduler.running()).isZero();
+    });
+  }
+}
@@ -0,0 +1,32 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceStateManagerTest {
+
+  private final ResourceStateManager manager = new ResourceStateManager();
+  private final ResourceID sampleResourceID = new ResourceID("test-name");
+
+  @Test
+  public void returnsSameStateForResource() {
+    var state = manager.getOrCreate(sampleResourceID);
+
+    assertThat(manager.getOrCreate(sampleResourceID)).isSameAs(state);
+    assertThat(manager.get(sampleResourceID)).contains(state);
+  }
+
+  @Test
+  public void removesStateOnlyIfEmpty() {
+    var state = manager.getOrCreate(sampleResourceID);
+    state.markEventReceived();
+
+    manager.removeIfEmpty(state);
+    assertThat(manager.size()).isEqualTo(1);
+
+    state.unMarkEventReceived();
+    manager.removeIfEmpty(state);
+    assertThat(manager.get(sampleResourceID)).isEmpty();
+  }
+}
@@ -0,0 +1,81 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.javaoperatorsdk.operator.processing.retry.GenericRetry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceStateTest {
+
+  private final ResourceState state = new ResourceState(new ResourceID("test-name"));
+
+  @Test
+  public void returnsNoEventPresentIfNotMarkedYet() {
+    assertThat(state.noEventPresent()).isTrue();
+    assertThat(state.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void marksEvent() {
+    state.markEventReceived();
+
+    assertThat(state.eventPresent()).isTrue();
+    assertThat(state.deleteEventPresent()).isFalse();
+  }
+
+  @Test
+  public void marksDeleteEvent() {
+    state.markDeleteEventReceived();
+
+    assertThat(state.deleteEventPresent()).isTrue();
+    assertThat(state.eventPresent()).isFalse();
+  }
+
+  @Test
+  public void afterDeleteEventMarkEventIsNotRelevant() {
+    state.markEventReceived();
+
+    state.markDeleteEventReceived();
+
+    assertThat(state.deleteEventPresent()).isTrue();
+    assertThat(state.eventPresent()).isFalse();
+  }
+
+  @Test
+  public void cannotMarkEventAfterDeleteEventReceived() {
+    Assertions.assertThrows(IllegalStateException.class, () -> {
+      state.markDeleteEventReceived();
+      state.markEventReceived();
+    });
+  }
+
+  @Test
+  public void notEmptyWhileAnyStateIsPresent() {
+    state.markEventReceived();
+    assertThat(state.isEmpty()).isFalse();
+    state.unMarkEventReceived();
+    assertThat(state.isEmpty()).isTrue();
+
+    state.markProcessing();
+    assertThat(state.isEmpty()).isFalse();
+    state.unMarkProcessing();
+    assertThat(state.isEmpty()).isTrue();
+
+    state.setRetry(GenericRetry.defaultLimitedExponentialRetry().initExecution());
+    assertThat(state.isEmpty()).isFalse();
+    state.setRetry(null);
+    assertThat(state.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void pendingPriorityIsResetWhenEventUnmarked() {
+    state.markEventReceived();
+    state.setPendingPriority(ReconciliationPriority.GENERATION_CHANGE);
+
+    state.unMarkEventReceived();
+
+    assertThat(state.getPendingPriority()).isNull();
+  }
+}
@@ -0,0 +1,37 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StripedLockTest {
+
+  @Test
+  public void roundsStripeNumberUpToPowerOfTwo() {
+    assertThat(new StripedLock(1).size()).isEqualTo(1);
+    assertThat(new StripedLock(5).size()).isEqualTo(8);
+    assertThat(new StripedLock(64).size()).isEqualTo(64);
+  }
+
+  @Test
+  public void sameResourceAlwaysMapsToSameLock() {
+    var stripedLock = new StripedLock(16);
+
+    assertThat(stripedLock.lockFor(new ResourceID("test", "ns")))
+        .isSameAs(stripedLock.lockFor(new ResourceID("test", "ns")));
+  }
+
+  @Test
+  public void singleStripeUsesOneLockForAllResources() {
+    var stripedLock = new StripedLock(1);
+
+    assertThat(stripedLock.lockFor(new ResourceID("test1", "ns")))
+        .isSameAs(stripedLock.lockFor(new ResourceID("test2", "other-ns")));
+  }
+
+  @Test
+  public void rejectsNonPositiveStripeNumber() {
+    assertThrows(IllegalArgumentException.class, () -> new StripedLock(0));
+  }
+}
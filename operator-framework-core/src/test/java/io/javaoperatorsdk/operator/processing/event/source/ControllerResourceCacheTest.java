@@ -0,0 +1,239 @@
+package io.javaoperatorsdk.operator.processing.event.source;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntry;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.Store;
+import io.javaoperatorsdk.operator.TestUtils;
+import io.javaoperatorsdk.operator.api.config.Cloner;
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ResourceCacheConfiguration;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+
+import static io.javaoperatorsdk.operator.processing.event.source.ControllerResourceEventSource.ANY_NAMESPACE_MAP_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ControllerResourceCacheTest {
+
+  private static final Cloner NO_CLONE = new Cloner() {
+    @Override
+    public <R extends HasMetadata> R clone(R object) {
+      return object;
+    }
+  };
+
+  private final AtomicLong clock = new AtomicLong();
+  private final Store<TestCustomResource> store = mock(Store.class);
+  private final TestCustomResource cached = TestUtils.testCustomResource();
+  private final ResourceID resourceID = ResourceID.fromResource(cached);
+  private ControllerResourceCache<TestCustomResource> cache;
+
+  @BeforeEach
+  void setup() {
+    final SharedIndexInformer<TestCustomResource> informer = mock(SharedIndexInformer.class);
+    when(informer.getStore()).thenReturn(store);
+    when(store.getByKey(Cache.metaNamespaceKeyFunc(cached))).thenReturn(cached);
+    when(store.list()).thenReturn(List.of(cached));
+    cache = new ControllerResourceCache<>(Map.of(ANY_NAMESPACE_MAP_KEY, informer), NO_CLONE,
+        clock::get);
+  }
+
+  @Test
+  void readsWrittenResourceUntilTheInformerReceivesIt() {
+    final var written = withVersion("2");
+    cache.putWrittenResource("1", written);
+
+    assertThat(cache.get(resourceID)).contains(written);
+    assertThat(cache.list(r -> true)).containsExactly(written);
+
+    final var received = withVersion("2");
+    cache.onInformerEvent(received);
+    assertThat(cache.get(resourceID)).contains(cached);
+  }
+
+  @Test
+  void readsChainedWritesUntilTheInformerReceivesTheLast() {
+    // the resource then the status are updated while the informer is still on the version 1
+    cache.putWrittenResource("1", withVersion("2"));
+    final var written = withVersion("3");
+    cache.putWrittenResource("2", written);
+
+    assertThat(cache.get(resourceID)).contains(written);
+    cache.onInformerEvent(withVersion("2"));
+    cached.getMetadata().setResourceVersion("2");
+    assertThat(cache.get(resourceID)).contains(written);
+
+    cache.onInformerEvent(withVersion("3"));
+    assertThat(cache.get(resourceID)).contains(cached);
+  }
+
+  @Test
+  void listsAllResourcesWithoutPredicate() {
+    assertThat(cache.list((Predicate<TestCustomResource>) null)).containsExactly(cached);
+  }
+
+  @Test
+  void readsInformerResourceOnceNewer() {
+    cache.putWrittenResource("1", withVersion("2"));
+    cached.getMetadata().setResourceVersion("3");
+
+    assertThat(cache.get(resourceID)).contains(cached);
+    // the written resource was dropped
+    cached.getMetadata().setResourceVersion("1");
+    assertThat(cache.get(resourceID)).contains(cached);
+  }
+
+  @Test
+  void comparesOpaqueVersionsWithTheVersionWrittenOn() {
+    cached.getMetadata().setResourceVersion("a");
+    final var written = withVersion("b");
+    cache.putWrittenResource("a", written);
+
+    assertThat(cache.get(resourceID)).contains(written);
+    cached.getMetadata().setResourceVersion("c");
+    assertThat(cache.get(resourceID)).contains(cached);
+  }
+
+  @Test
+  void forgetsWrittenResourceAfterTimeToLive() {
+    cache.putWrittenResource("1", withVersion("2"));
+    clock.addAndGet(
+        TimeUnit.MILLISECONDS.toNanos(ControllerResourceCache.WRITTEN_RESOURCE_TTL_MILLIS));
+
+    assertThat(cache.get(resourceID)).contains(cached);
+  }
+
+  @Test
+  void looksUpResourcesByIndex() {
+    final var informers = new HashMap<String, SharedIndexInformer<TestCustomResource>>();
+    final var indexedCache = new ControllerResourceCache<>(informers, NO_CLONE, clock::get);
+    indexedCache.addIndexer("key", r -> List.of(r.getSpec().getKey()));
+    final var indexer = new Cache<TestCustomResource>();
+    indexer.addIndexers(indexedCache.getIndexers());
+    final var other = TestUtils.testCustomResource();
+    other.getSpec().setKey("other-key");
+    indexer.put(cached);
+    indexer.put(other);
+    final SharedIndexInformer<TestCustomResource> informer = mock(SharedIndexInformer.class);
+    when(informer.getIndexer()).thenReturn(indexer);
+    informers.put(ANY_NAMESPACE_MAP_KEY, informer);
+
+    assertThat(indexedCache.byIndex("key", "test-key")).containsExactly(cached);
+    assertThat(indexedCache.byIndex("key", "unknown")).isEmpty();
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> indexedCache.byIndex("unknown", "test-key"));
+    // the informers already started
+    assertThatExceptionOfType(IllegalStateException.class)
+        .isThrownBy(() -> indexedCache.addIndexer("name", r -> List.of(r.getMetadata().getName())));
+  }
+
+  @Test
+  void listsNamespaceUsingNamespaceIndex() {
+    final var indexer = new Cache<TestCustomResource>();
+    final var otherNamespace =
+        TestUtils.testCustomResource(new ResourceID("other", "other-namespace"));
+    indexer.put(cached);
+    indexer.put(otherNamespace);
+    final SharedIndexInformer<TestCustomResource> informer = mock(SharedIndexInformer.class);
+    when(informer.getIndexer()).thenReturn(indexer);
+    final var namespacedCache = new ControllerResourceCache<>(
+        Map.of(ANY_NAMESPACE_MAP_KEY, informer), NO_CLONE, clock::get);
+
+    assertThat(namespacedCache.list("other-namespace")).containsExactly(otherNamespace);
+    assertThat(namespacedCache.list(cached.getMetadata().getNamespace(), r -> true))
+        .containsExactly(cached);
+    assertThat(namespacedCache.list("unknown")).isEmpty();
+  }
+
+  @Test
+  void keepsStubsOfCompactResourcesInTheInformers() {
+    final var informers = new HashMap<String, SharedIndexInformer<TestCustomResource>>();
+    final var compactCache = new ControllerResourceCache<>(informers, NO_CLONE,
+        new CompactResourceStore<>(ResourceCacheConfiguration.compact(1)), clock::get);
+    compactCache.addIndexer("key", r -> List.of(r.getSpec().getKey()));
+    final var indexer = new Cache<TestCustomResource>();
+    indexer.addIndexers(compactCache.getIndexers());
+    final SharedIndexInformer<TestCustomResource> informer = mock(SharedIndexInformer.class);
+    when(informer.getStore()).thenReturn(indexer);
+    when(informer.getIndexer()).thenReturn(indexer);
+    informers.put(ANY_NAMESPACE_MAP_KEY, informer);
+    indexer.put(cached);
+
+    compactCache.onInformerEvent(cached);
+
+    final var stub = indexer.getByKey(Cache.metaNamespaceKeyFunc(cached));
+    assertThat(stub).isNotSameAs(cached);
+    assertThat(stub.getMetadata()).isSameAs(cached.getMetadata());
+    final var copy = compactCache.get(resourceID).orElseThrow();
+    assertThat(copy).isNotSameAs(cached);
+    assertThat(copy.getSpec().getKey()).isEqualTo(cached.getSpec().getKey());
+    // deserialized resources are kept hot, unlike copies
+    final var hot = compactCache.getReadOnly(resourceID).orElseThrow();
+    assertThat(compactCache.getReadOnly(resourceID)).containsSame(hot);
+    assertThat(compactCache.get(resourceID).orElseThrow()).isNotSameAs(hot);
+    assertThat(compactCache.byIndex("key", "test-key")).containsExactly(hot);
+
+    final var updated = withVersion("2");
+    updated.getSpec().setKey("updated-key");
+    indexer.put(updated);
+    compactCache.onInformerEvent(updated);
+
+    assertThat(compactCache.byIndex("key", "test-key")).isEmpty();
+    assertThat(compactCache.byIndex("key", "updated-key")).hasSize(1);
+    assertThat(compactCache.list(r -> true).map(r -> r.getSpec().getKey()))
+        .containsExactly("updated-key");
+
+    // deleted while the informer still holds the stub
+    compactCache.onInformerDelete(resourceID);
+    assertThat(compactCache.get(resourceID)).isEmpty();
+    assertThat(compactCache.getReadOnly(resourceID)).isEmpty();
+    assertThat(compactCache.list(r -> true)).isEmpty();
+  }
+
+  @Test
+  void replacesReceivedResourceByPrunedCopy() {
+    final var informers = new HashMap<String, SharedIndexInformer<TestCustomResource>>();
+    final var pruningCache = new ControllerResourceCache<>(informers,
+        ConfigurationService.DEFAULT_CLONER, clock::get);
+    final var indexer = new Cache<TestCustomResource>();
+    final SharedIndexInformer<TestCustomResource> informer = mock(SharedIndexInformer.class);
+    when(informer.getStore()).thenReturn(indexer);
+    informers.put(ANY_NAMESPACE_MAP_KEY, informer);
+    cached.getMetadata().setManagedFields(List.of(new ManagedFieldsEntry()));
+    indexer.put(cached);
+
+    final var pruned = pruningCache.prune(cached, ResourcePruners.metadata());
+
+    assertThat(pruned).isNotSameAs(cached);
+    assertThat(pruned.getMetadata().getManagedFields()).isNull();
+    assertThat(cached.getMetadata().getManagedFields()).hasSize(1);
+    assertThat(indexer.getByKey(Cache.metaNamespaceKeyFunc(cached))).isSameAs(pruned);
+
+    // a newer resource received meanwhile is kept
+    final var updated = withVersion("2");
+    indexer.put(updated);
+    pruningCache.prune(pruned, ResourcePruners.metadata());
+    assertThat(indexer.getByKey(Cache.metaNamespaceKeyFunc(cached))).isSameAs(updated);
+  }
+
+  private TestCustomResource withVersion(String resourceVersion) {
+    final var resource = TestUtils.testCustomResource(resourceID);
+    resource.getMetadata().setResourceVersion(resourceVersion);
+    return resource;
+  }
+}
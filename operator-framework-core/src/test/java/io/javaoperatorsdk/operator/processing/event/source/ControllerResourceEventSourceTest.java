@@ -1,23 +1,33 @@
 package io.javaoperatorsdk.operator.processing.event.source;
 
+import java.nio.file.Path;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntry;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.javaoperatorsdk.operator.TestUtils;
 import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ControllerConfigurationOverrider;
 import io.javaoperatorsdk.operator.api.config.DefaultControllerConfiguration;
 import io.javaoperatorsdk.operator.api.monitoring.Metrics;
 import io.javaoperatorsdk.operator.processing.Controller;
+import io.javaoperatorsdk.operator.processing.event.Event;
 import io.javaoperatorsdk.operator.processing.event.EventHandler;
+import io.javaoperatorsdk.operator.processing.event.ReconciliationPriority;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -57,6 +67,59 @@ class ControllerResourceEventSourceTest {
     verify(eventHandler, times(1)).handleEvent(any());
   }
 
+  @Test
+  public void classifiesEventsByPriority() {
+    TestCustomResource oldResource = TestUtils.testCustomResource();
+    oldResource.getMetadata().setFinalizers(List.of(FINALIZER));
+    TestCustomResource newGeneration = TestUtils.testCustomResource();
+    newGeneration.getMetadata().setFinalizers(List.of(FINALIZER));
+    newGeneration.getMetadata().setGeneration(2L);
+    newGeneration.getMetadata().setResourceVersion("2");
+    TestCustomResource markedForDeletion = TestUtils.testCustomResource();
+    markedForDeletion.getMetadata().setDeletionTimestamp(LocalDateTime.now().toString());
+
+    controllerResourceEventSource.eventReceived(ResourceAction.UPDATED, newGeneration,
+        oldResource);
+    controllerResourceEventSource.eventReceived(ResourceAction.UPDATED, markedForDeletion,
+        oldResource);
+    controllerResourceEventSource.eventReceived(ResourceAction.ADDED, oldResource, null);
+
+    ArgumentCaptor<Event> events = ArgumentCaptor.forClass(Event.class);
+    verify(eventHandler, times(3)).handleEvent(events.capture());
+    assertThat(events.getAllValues()).extracting(Event::getPriority).containsExactly(
+        ReconciliationPriority.GENERATION_CHANGE, ReconciliationPriority.DELETION,
+        ReconciliationPriority.GENERATION_CHANGE);
+  }
+
+  @Test
+  public void classifiesResourcesCreatedBeforeStartAsResync() {
+    TestCustomResource resource = TestUtils.testCustomResource();
+    resource.getMetadata().setFinalizers(List.of(FINALIZER));
+    resource.getMetadata().setCreationTimestamp("2021-01-01T00:00:00Z");
+
+    // simulates the start time being after the creation of the resource
+    controllerResourceEventSource.setStartedAt(Instant.parse("2021-01-02T00:00:00Z"));
+    controllerResourceEventSource.eventReceived(ResourceAction.ADDED, resource, null);
+
+    ArgumentCaptor<Event> event = ArgumentCaptor.forClass(Event.class);
+    verify(eventHandler, times(1)).handleEvent(event.capture());
+    assertThat(event.getValue().getPriority()).isEqualTo(ReconciliationPriority.RESYNC);
+  }
+
+  @Test
+  public void classifiesUnchangedUpdatesAsResync() {
+    controllerResourceEventSource = new ControllerResourceEventSource<>(new TestController(false));
+    setup();
+    TestCustomResource resource = TestUtils.testCustomResource();
+    resource.getMetadata().setFinalizers(List.of(FINALIZER));
+
+    controllerResourceEventSource.eventReceived(ResourceAction.UPDATED, resource, resource);
+
+    ArgumentCaptor<Event> event = ArgumentCaptor.forClass(Event.class);
+    verify(eventHandler, times(1)).handleEvent(event.capture());
+    assertThat(event.getValue().getPriority()).isEqualTo(ReconciliationPriority.RESYNC);
+  }
+
   @Test
   public void dontSkipEventHandlingIfMarkedForDeletion() {
     TestCustomResource customResource1 = TestUtils.testCustomResource();
@@ -136,6 +199,48 @@ class ControllerResourceEventSourceTest {
     verify(eventHandler, times(0)).handleEvent(any());
   }
 
+  @Test
+  public void prunesCopiesOfTheReceivedResources() {
+    final var configuration = ControllerConfigurationOverrider.override(new TestConfiguration(true))
+        .withResourcePruner(ResourcePruners.metadata())
+        .build();
+    final var eventSource =
+        new ControllerResourceEventSource<>(new Controller<>(null, configuration, null));
+    eventSource.setEventHandler(eventHandler);
+    TestCustomResource customResource = TestUtils.testCustomResource();
+    final var annotations = Map.of(
+        ResourcePruners.LAST_APPLIED_CONFIGURATION_ANNOTATION, "{}", "kept", "value");
+    customResource.getMetadata().setAnnotations(annotations);
+    customResource.getMetadata().setManagedFields(List.of(new ManagedFieldsEntry()));
+
+    eventSource.eventReceived(ResourceAction.ADDED, customResource, null);
+
+    // the resource possibly read concurrently from the informer is left untouched
+    assertThat(customResource.getMetadata().getManagedFields()).hasSize(1);
+    assertThat(customResource.getMetadata().getAnnotations()).isSameAs(annotations);
+    verify(eventHandler, times(1)).handleEvent(any());
+  }
+
+  @Test
+  public void skipsAddEventsOfResourcesReconciledBeforeRestart(@TempDir Path directory) {
+    final var configuration = new TestConfiguration(true);
+    when(configuration.getConfigurationService().getReconciliationSnapshotDirectory())
+        .thenReturn(directory);
+    final var eventSource =
+        new ControllerResourceEventSource<>(new Controller<>(null, configuration, null));
+    eventSource.setEventHandler(eventHandler);
+    TestCustomResource customResource = TestUtils.testCustomResource();
+    customResource.getMetadata().setFinalizers(List.of(FINALIZER));
+    eventSource.getReconciledFingerprints().reconciled(customResource);
+
+    eventSource.eventReceived(ResourceAction.ADDED, customResource, null);
+    verify(eventHandler, times(0)).handleEvent(any());
+
+    customResource.getMetadata().setGeneration(2L);
+    eventSource.eventReceived(ResourceAction.ADDED, customResource, null);
+    verify(eventHandler, times(1)).handleEvent(any());
+  }
+
   private static class TestController extends Controller<TestCustomResource> {
 
     public TestController(boolean generationAware) {
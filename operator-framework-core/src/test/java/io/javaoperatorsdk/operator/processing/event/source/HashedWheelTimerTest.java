@@ -0,0 +1,70 @@
+package io.javaoperatorsdk.operator.processing.event.source;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+
+class HashedWheelTimerTest {
+
+  private final HashedWheelTimer timer = new HashedWheelTimer("test", 1, 4);
+  private final List<Long> runNanos = new CopyOnWriteArrayList<>();
+
+  @AfterEach
+  void stop() {
+    timer.stop();
+  }
+
+  @Test
+  void runsTasksNotBeforeTheirDelay() {
+    final var start = System.nanoTime();
+
+    // several revolutions of the wheel
+    timer.schedule(() -> runNanos.add(System.nanoTime() - start), 50);
+    timer.schedule(() -> runNanos.add(System.nanoTime() - start), 0);
+
+    await().atMost(1, TimeUnit.SECONDS).until(() -> runNanos.size() == 2);
+    assertThat(runNanos.get(1)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    assertThat(timer.pending()).isZero();
+  }
+
+  @Test
+  void removesCancelledTasksRightAway() throws InterruptedException {
+    final var timeout = timer.schedule(() -> runNanos.add(System.nanoTime()), 20);
+    timer.schedule(() -> runNanos.add(System.nanoTime()), 1000);
+
+    assertThat(timeout.cancel()).isTrue();
+    assertThat(timeout.cancel()).isFalse();
+    assertThat(timer.pending()).isEqualTo(1);
+    Thread.sleep(50);
+    assertThat(runNanos).isEmpty();
+  }
+
+  @Test
+  void resumesAfterBeingIdle() throws InterruptedException {
+    timer.schedule(() -> runNanos.add(System.nanoTime()), 1);
+    await().atMost(1, TimeUnit.SECONDS).until(() -> runNanos.size() == 1);
+    Thread.sleep(30);
+
+    final var start = System.nanoTime();
+    timer.schedule(() -> runNanos.add(System.nanoTime() - start), 20);
+
+    await().atMost(1, TimeUnit.SECONDS).until(() -> runNanos.size() == 2);
+    assertThat(runNanos.get(1)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+  }
+
+  @Test
+  void rejectsTasksOnceStopped() {
+    timer.stop();
+
+    assertThatExceptionOfType(IllegalStateException.class)
+        .isThrownBy(() -> timer.schedule(() -> {
+        }, 1));
+  }
+}
@@ -0,0 +1,127 @@
+package io.javaoperatorsdk.operator.processing.event.source;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.SharedInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.javaoperatorsdk.operator.processing.event.EventHandler;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InformerEventSourceTest {
+
+  private final Cache<ConfigMap> store = new Cache<>();
+  @SuppressWarnings("unchecked")
+  private final SharedInformer<ConfigMap> informer = mock(SharedInformer.class);
+  private final EventHandler eventHandler = mock(EventHandler.class);
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void keepsOnlyTheMetadataOfResourcesInMetadataOnlyMode() {
+    when(informer.getStore()).thenReturn(store);
+    final var resource = new ConfigMapBuilder().withNewMetadata()
+        .withName("config").withNamespace("default").withResourceVersion("1")
+        .endMetadata().withData(Map.of("key", "value")).build();
+    final var fetched = new ConfigMapBuilder(resource).build();
+    final var fetches = new AtomicInteger();
+    final var eventSource = InformerEventSource.builder(informer,
+        configMap -> Set.of(new ResourceID("primary", "default")))
+        .withMetadataOnly(resourceID -> {
+          fetches.incrementAndGet();
+          return ResourceID.fromResource(resource).equals(resourceID) ? fetched : null;
+        })
+        .build();
+    eventSource.setEventHandler(eventHandler);
+    final ArgumentCaptor<ResourceEventHandler<ConfigMap>> handler =
+        ArgumentCaptor.forClass(ResourceEventHandler.class);
+    verify(informer).addEventHandler(handler.capture());
+
+    store.put(resource);
+    handler.getValue().onAdd(resource);
+
+    verify(eventHandler, times(1)).handleEvent(any());
+    final var cached = eventSource.getStore().getByKey("default/config");
+    assertThat(cached.getMetadata()).isSameAs(resource.getMetadata());
+    assertThat(cached.getData()).isNull();
+    final var primary = new ConfigMapBuilder().withNewMetadata()
+        .withName("config").withNamespace("default").endMetadata().build();
+    assertThat(eventSource.getAssociated(primary)).isSameAs(fetched);
+    // fetched once per version received by the informer
+    assertThat(eventSource.getAssociated(primary)).isSameAs(fetched);
+    assertThat(fetches.get()).isEqualTo(1);
+    final var updated = new ConfigMapBuilder(resource).editMetadata().withResourceVersion("2")
+        .endMetadata().build();
+    store.put(updated);
+    handler.getValue().onUpdate(resource, updated);
+    eventSource.getAssociated(primary);
+    assertThat(fetches.get()).isEqualTo(2);
+    primary.getMetadata().setName("missing");
+    assertThat(eventSource.getAssociated(primary)).isNull();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void keepsFetchedResourceNewerThanTheInformerUntilItReceivesIt() {
+    when(informer.getStore()).thenReturn(store);
+    final var resource = new ConfigMapBuilder().withNewMetadata()
+        .withName("config").withNamespace("default").withResourceVersion("1")
+        .endMetadata().build();
+    final var written = new ConfigMapBuilder(resource).editMetadata().withResourceVersion("2")
+        .endMetadata().build();
+    final var fetches = new AtomicInteger();
+    final var eventSource = InformerEventSource.builder(informer,
+        configMap -> Set.of(new ResourceID("primary", "default")))
+        .withMetadataOnly(resourceID -> {
+          fetches.incrementAndGet();
+          return written;
+        })
+        .build();
+    final ArgumentCaptor<ResourceEventHandler<ConfigMap>> handler =
+        ArgumentCaptor.forClass(ResourceEventHandler.class);
+    verify(informer).addEventHandler(handler.capture());
+    store.put(resource);
+    handler.getValue().onAdd(resource);
+    final var primary = new ConfigMapBuilder().withNewMetadata()
+        .withName("config").withNamespace("default").endMetadata().build();
+
+    assertThat(eventSource.getAssociated(primary)).isSameAs(written);
+    assertThat(eventSource.getAssociated(primary)).isSameAs(written);
+    assertThat(fetches.get()).isEqualTo(1);
+    final var received = new ConfigMapBuilder(written).build();
+    store.put(received);
+    handler.getValue().onUpdate(resource, received);
+    assertThat(eventSource.getAssociated(primary)).isSameAs(written);
+    assertThat(fetches.get()).isEqualTo(1);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void rejectsCustomIndexersInMetadataOnlyMode() {
+    final SharedIndexInformer<ConfigMap> indexInformer = mock(SharedIndexInformer.class);
+    final var indexer = new Cache<ConfigMap>();
+    when(indexInformer.getIndexer()).thenReturn(indexer);
+    final var builder = InformerEventSource.builder(indexInformer,
+        configMap -> Set.<ResourceID>of()).withMetadataOnly(resourceID -> null);
+
+    assertThat(builder.build()).isNotNull();
+    indexer.addIndexers(Map.of("data", configMap -> List.copyOf(configMap.getData().keySet())));
+    assertThatIllegalArgumentException().isThrownBy(builder::build);
+  }
+}
@@ -0,0 +1,56 @@
+package io.javaoperatorsdk.operator.processing.event.source;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class OffHeapSerializedResourceStoreTest {
+
+  private final OffHeapSerializedResourceStore store = new OffHeapSerializedResourceStore(1024);
+
+  @Test
+  void storesResourcesAcrossSlabs() {
+    for (int i = 0; i < 100; i++) {
+      store.put(new ResourceID("resource-" + i, "namespace"), bytes(i, 10 + i * 3));
+    }
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(store.get(new ResourceID("resource-" + i, "namespace")))
+          .isEqualTo(bytes(i, 10 + i * 3));
+    }
+    assertThat(store.get(new ResourceID("unknown", "namespace"))).isNull();
+  }
+
+  @Test
+  void reusesChunksOfReplacedAndRemovedResources() {
+    final var first = new ResourceID("first", "namespace");
+    final var second = new ResourceID("second", "namespace");
+    store.put(first, bytes(1, 100));
+    store.put(first, bytes(2, 100));
+    store.put(second, bytes(3, 100));
+    store.remove(first);
+    store.put(first, bytes(4, 1020));
+
+    assertThat(store.get(first)).isEqualTo(bytes(4, 1020));
+    assertThat(store.get(second)).isEqualTo(bytes(3, 100));
+    store.remove(second);
+    assertThat(store.get(second)).isNull();
+  }
+
+  @Test
+  void rejectsResourcesLargerThanSlabs() {
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> store.put(new ResourceID("large", "namespace"), new byte[1021]));
+  }
+
+  private static byte[] bytes(int value, int length) {
+    final var bytes = new byte[length];
+    Arrays.fill(bytes, (byte) value);
+    return bytes;
+  }
+}
@@ -0,0 +1,87 @@
+package io.javaoperatorsdk.operator.processing.event.source;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.javaoperatorsdk.operator.TestUtils;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReconciledFingerprintsTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void restoresTheFingerprintsSavedOnStop() {
+    final var file = directory.resolve("test.fingerprints");
+    final var fingerprints = new ReconciledFingerprints<TestCustomResource>(file, true);
+    fingerprints.start();
+    final var reconciled = TestUtils.testCustomResource(new ResourceID("reconciled", "default"));
+    final var forgotten = TestUtils.testCustomResource(new ResourceID("forgotten", "default"));
+    fingerprints.reconciled(reconciled);
+    fingerprints.reconciled(forgotten);
+    fingerprints.forget(ResourceID.fromResource(forgotten));
+    fingerprints.stop();
+
+    final var restored = new ReconciledFingerprints<TestCustomResource>(file, true);
+    restored.start();
+    try {
+      assertThat(restored.isReconciled(reconciled)).isTrue();
+      assertThat(restored.isReconciled(forgotten)).isFalse();
+      reconciled.getMetadata().setGeneration(2L);
+      assertThat(restored.isReconciled(reconciled)).isFalse();
+    } finally {
+      restored.stop();
+    }
+  }
+
+  @Test
+  void comparesResourceVersionsIfNotGenerationAware() {
+    final var fingerprints =
+        new ReconciledFingerprints<TestCustomResource>(directory.resolve("test.fingerprints"),
+            false);
+    final var resource = TestUtils.testCustomResource();
+    fingerprints.reconciled(resource);
+    assertThat(fingerprints.isReconciled(resource)).isTrue();
+
+    resource.getMetadata().setResourceVersion("2");
+    assertThat(fingerprints.isReconciled(resource)).isFalse();
+  }
+
+  @Test
+  void dropsTheFingerprintsOfResourcesNotListed() {
+    final var file = directory.resolve("test.fingerprints");
+    final var fingerprints = new ReconciledFingerprints<TestCustomResource>(file, true);
+    final var listed = TestUtils.testCustomResource(new ResourceID("listed", "default"));
+    final var deleted = TestUtils.testCustomResource(new ResourceID("deleted", "default"));
+    fingerprints.reconciled(listed);
+    fingerprints.reconciled(deleted);
+
+    fingerprints.retainOnly(Set.of(ResourceID.fromResource(listed)));
+    fingerprints.save();
+
+    final var restored = new ReconciledFingerprints<TestCustomResource>(file, true);
+    restored.load();
+    assertThat(restored.isReconciled(listed)).isTrue();
+    assertThat(restored.isReconciled(deleted)).isFalse();
+  }
+
+  @Test
+  void ignoresUnreadableSnapshots() throws IOException {
+    final var file = directory.resolve("test.fingerprints");
+    Files.writeString(file, "not a snapshot");
+    final var fingerprints = new ReconciledFingerprints<TestCustomResource>(file, true);
+
+    fingerprints.load();
+
+    assertThat(fingerprints.isReconciled(TestUtils.testCustomResource())).isFalse();
+  }
+}
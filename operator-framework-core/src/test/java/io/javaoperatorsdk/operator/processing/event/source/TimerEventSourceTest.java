@@ -3,11 +3,14 @@ package io.javaoperatorsdk.operator.processing.event.source;
 import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import org.awaitility.Awaitility;
 import org.awaitility.core.ConditionFactory;
 import org.awaitility.core.ThrowingRunnable;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -27,16 +30,23 @@ class TimerEventSourceTest {
 
   private TimerEventSource<TestCustomResource> timerEventSource;
   private CapturingEventHandler eventHandlerMock;
+  private ExecutorService executor;
 
   @BeforeEach
   public void setup() {
     eventHandlerMock = new CapturingEventHandler();
+    executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "controller"));
 
-    timerEventSource = new TimerEventSource<>();
+    timerEventSource = new TimerEventSource<>(executor);
     timerEventSource.setEventHandler(eventHandlerMock);
     timerEventSource.start();
   }
 
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
   @Test
   public void schedulesOnce() {
     TestCustomResource customResource = TestUtils.testCustomResource();
@@ -47,6 +57,13 @@ class TimerEventSourceTest {
     untilAsserted(PERIOD * 2, 0, () -> assertThat(eventHandlerMock.events).hasSize(1));
   }
 
+  @Test
+  public void producesEventsOnTheExecutor() {
+    timerEventSource.scheduleOnce(TestUtils.testCustomResource(), PERIOD);
+
+    untilAsserted(() -> assertThat(eventHandlerMock.threads).containsExactly("controller"));
+  }
+
   @Test
   public void canCancelOnce() {
     TestCustomResource customResource = TestUtils.testCustomResource();
@@ -120,10 +137,12 @@ class TimerEventSourceTest {
 
   private static class CapturingEventHandler implements EventHandler {
     private final List<Event> events = new CopyOnWriteArrayList<>();
+    private final List<String> threads = new CopyOnWriteArrayList<>();
 
     @Override
     public void handleEvent(Event event) {
       events.add(event);
+      threads.add(Thread.currentThread().getName());
     }
   }
 }
@@ -0,0 +1,125 @@
+package io.javaoperatorsdk.operator.processing.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.javaoperatorsdk.operator.OperatorException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private final AtomicLong clock = new AtomicLong();
+
+  @Test
+  void limitsConcurrency() {
+    final var limiter = new AdaptiveConcurrencyLimiter(1, 2, clock::get);
+
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isFalse();
+    limiter.release();
+    assertThat(limiter.tryAcquire()).isTrue();
+  }
+
+  @Test
+  void decreasesMultiplicativelyOnThrottlingAndIncreasesAdditivelyOnSuccess() {
+    final var limiter = new AdaptiveConcurrencyLimiter(2, 16, clock::get);
+
+    limiter.onResult(throttled(null));
+    assertThat(limiter.getLimit()).isEqualTo(8);
+    // throttled reconciliations finishing in the same interval share the same cause
+    limiter.onResult(throttled(null));
+    assertThat(limiter.getLimit()).isEqualTo(8);
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(limiter.getDecreaseIntervalMillis()));
+    limiter.onResult(throttled(null));
+    assertThat(limiter.getLimit()).isEqualTo(4);
+
+    // grows by one per round of reconciliations
+    for (int i = 0; i < 5; i++) {
+      limiter.onResult(null);
+    }
+    assertThat(limiter.getLimit()).isEqualTo(5);
+  }
+
+  @Test
+  void neverGoesUnderMinimumNorOverMaximum() {
+    final var limiter = new AdaptiveConcurrencyLimiter(3, 4, clock::get);
+
+    for (int i = 0; i < 5; i++) {
+      limiter.onResult(throttled(null));
+      clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    }
+    assertThat(limiter.getLimit()).isEqualTo(3);
+    for (int i = 0; i < 100; i++) {
+      limiter.onResult(null);
+    }
+    assertThat(limiter.getLimit()).isEqualTo(4);
+  }
+
+  @Test
+  void ignoresOtherFailures() {
+    final var limiter = new AdaptiveConcurrencyLimiter(1, 4, clock::get);
+
+    limiter.onResult(new KubernetesClientException("conflict", 409, null));
+    limiter.onResult(new IllegalStateException("test"));
+
+    assertThat(limiter.getLimit()).isEqualTo(4);
+  }
+
+  @Test
+  void pausesForRetryAfterAndNotifiesListeners() {
+    final var limiter = new AdaptiveConcurrencyLimiter(1, 4);
+    final var notified = new AtomicInteger();
+    limiter.addPermitListener(notified::incrementAndGet);
+
+    limiter.onResult(throttled(1));
+
+    assertThat(limiter.tryAcquire()).isFalse();
+    await().atMost(3, TimeUnit.SECONDS).until(() -> notified.get() == 1);
+    assertThat(limiter.tryAcquire()).isTrue();
+  }
+
+  @Test
+  void notifiesListenersOnReleaseOnlyIfPermitWasDenied() {
+    final var limiter = new AdaptiveConcurrencyLimiter(1, 1, clock::get);
+    final var notified = new AtomicInteger();
+    limiter.addPermitListener(notified::incrementAndGet);
+
+    limiter.tryAcquire();
+    limiter.release();
+    assertThat(notified.get()).isZero();
+
+    limiter.tryAcquire();
+    assertThat(limiter.tryAcquire()).isFalse();
+    limiter.release();
+    assertThat(notified.get()).isEqualTo(1);
+    assertThat(limiter.getInFlight()).isZero();
+  }
+
+  @Test
+  void findsThrottlingInCauses() {
+    final var wrapped = new OperatorException("reconcile failed", throttled(5));
+
+    assertThat(ThrottlingUtils.isThrottling(wrapped)).isTrue();
+    assertThat(ThrottlingUtils.retryAfterMillis(wrapped)).contains(5000L);
+    assertThat(ThrottlingUtils.isThrottling(new KubernetesClientException("unavailable", 503,
+        null))).isTrue();
+    assertThat(ThrottlingUtils.retryAfterMillis(throttled(null))).isEmpty();
+  }
+
+  private static KubernetesClientException throttled(Integer retryAfterSeconds) {
+    final var status = new StatusBuilder()
+        .withCode(ThrottlingUtils.TOO_MANY_REQUESTS)
+        .withNewDetails().withRetryAfterSeconds(retryAfterSeconds).endDetails()
+        .build();
+    return new KubernetesClientException("too many requests", ThrottlingUtils.TOO_MANY_REQUESTS,
+        status);
+  }
+}
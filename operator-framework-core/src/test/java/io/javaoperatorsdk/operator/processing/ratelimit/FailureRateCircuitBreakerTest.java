@@ -0,0 +1,162 @@
+package io.javaoperatorsdk.operator.processing.ratelimit;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.javaoperatorsdk.operator.OperatorException;
+import io.javaoperatorsdk.operator.processing.ratelimit.CircuitBreaker.State;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class FailureRateCircuitBreakerTest {
+
+  private final AtomicLong clock = new AtomicLong();
+  private final List<String> transitions = new CopyOnWriteArrayList<>();
+  private final FailureRateCircuitBreaker circuitBreaker =
+      new FailureRateCircuitBreaker(clock::get)
+          .setFailureRateThreshold(0.5)
+          .setWindow(10, 4)
+          .setOpenDurationMillis(1000)
+          .setHalfOpenProbes(2)
+          .setRamp(1000, 2);
+
+  {
+    circuitBreaker.addTransitionListener((from, to) -> transitions.add(from + "->" + to));
+  }
+
+  @Test
+  void opensOnceTheFailureRateReachesTheThreshold() {
+    circuitBreaker.onResult(null);
+    circuitBreaker.onResult(serverError());
+    // not enough calls yet
+    circuitBreaker.onResult(serverError());
+    assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+
+    circuitBreaker.onResult(null);
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+    assertThatExceptionOfType(CircuitBreakerOpenException.class)
+        .isThrownBy(circuitBreaker::checkWritesAllowed);
+    assertThat(transitions).containsExactly("CLOSED->OPEN");
+  }
+
+  @Test
+  void stopsNotifyingRemovedTransitionListeners() {
+    final var removed = new AtomicInteger();
+    final CircuitBreaker.TransitionListener listener = (from, to) -> removed.incrementAndGet();
+    circuitBreaker.addTransitionListener(listener);
+    circuitBreaker.removeTransitionListener(listener);
+
+    for (int i = 0; i < 4; i++) {
+      circuitBreaker.onResult(serverError());
+    }
+
+    assertThat(transitions).containsExactly("CLOSED->OPEN");
+    assertThat(removed.get()).isZero();
+  }
+
+  @Test
+  void ignoresFailuresNotCausedByTheApiServer() {
+    for (int i = 0; i < 10; i++) {
+      circuitBreaker.onResult(new OperatorException("reconciler bug"));
+      circuitBreaker.onResult(new KubernetesClientException("conflict", 409, null));
+    }
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  void probesOnceTheOpenDurationElapsedAndOpensAgainOnFailure() {
+    open();
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+    assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+    circuitBreaker.onResult(serverError());
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN");
+  }
+
+  @Test
+  void onlyCountsTheResultsOfTheProbes() {
+    final var notified = new AtomicInteger();
+    circuitBreaker.addPermitListener(notified::incrementAndGet);
+    // started before opening
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+    open();
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    circuitBreaker.onResult(null);
+    circuitBreaker.release();
+    assertThat(notified).hasValue(1);
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+    assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+    circuitBreaker.onResult(null);
+
+    // the success of the reconciliation started before opening wasn't counted as a probe
+    assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+  }
+
+  @Test
+  void closesOnceTheProbesSucceedAndRampsUp() {
+    final var notified = new AtomicInteger();
+    circuitBreaker.addPermitListener(notified::incrementAndGet);
+    open();
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    circuitBreaker.tryAcquire();
+    circuitBreaker.tryAcquire();
+    circuitBreaker.onResult(null);
+    circuitBreaker.release();
+    circuitBreaker.onResult(null);
+    circuitBreaker.release();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(notified).hasPositiveValue();
+    // as many reconciliations as probes first, then twice as many each step
+    assertThat(acquireAll()).isEqualTo(2);
+    releaseAll(2);
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    assertThat(acquireAll()).isEqualTo(4);
+    releaseAll(4);
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    assertThat(acquireAll()).isEqualTo(100);
+  }
+
+  private void open() {
+    for (int i = 0; i < 4; i++) {
+      circuitBreaker.onResult(serverError());
+    }
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+  }
+
+  private int acquireAll() {
+    int acquired = 0;
+    while (acquired < 100 && circuitBreaker.tryAcquire()) {
+      acquired++;
+    }
+    return acquired;
+  }
+
+  private void releaseAll(int count) {
+    for (int i = 0; i < count; i++) {
+      circuitBreaker.release();
+    }
+  }
+
+  private static KubernetesClientException serverError() {
+    return new KubernetesClientException("unavailable", 503, null);
+  }
+}
@@ -0,0 +1,129 @@
+package io.javaoperatorsdk.operator.processing.ratelimit;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class TokenBucketRateLimiterTest {
+
+  @Test
+  void doesNotWaitIfNoLimitConfigured() throws InterruptedException {
+    final var rateLimiter = new TokenBucketRateLimiter();
+
+    final var start = System.nanoTime();
+    for (int i = 0; i < 1000; i++) {
+      rateLimiter.acquire("replace", "controller", "ns", false);
+    }
+
+    assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Test
+  void allowsBurstThenWaitsForRefill() throws InterruptedException {
+    final var rateLimiter = new TokenBucketRateLimiter().setPerVerbLimit(10, 2);
+
+    final var start = System.nanoTime();
+    rateLimiter.acquire("replace", "controller", "ns", false);
+    rateLimiter.acquire("replace", "controller", "ns", false);
+    assertThat(System.nanoTime() - start).isLessThan(TimeUnit.MILLISECONDS.toNanos(50));
+
+    rateLimiter.acquire("replace", "controller", "ns", false);
+    assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(90));
+  }
+
+  @Test
+  void bucketsAreIndependentPerKey() throws InterruptedException {
+    final var rateLimiter = new TokenBucketRateLimiter().setPerNamespaceLimit(0.1, 1);
+
+    final var start = System.nanoTime();
+    rateLimiter.acquire("replace", "controller", "ns1", false);
+    rateLimiter.acquire("replace", "controller", "ns2", false);
+    // cluster scoped resources are not limited per namespace
+    rateLimiter.acquire("replace", "controller", null, false);
+    rateLimiter.acquire("replace", "controller", null, false);
+
+    assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Test
+  void urgentRequestsGoFirst() throws InterruptedException {
+    final var rateLimiter = new TokenBucketRateLimiter().setPerControllerLimit(5, 1);
+    final List<String> acquired = new CopyOnWriteArrayList<>();
+    rateLimiter.acquire("replace", "controller", "ns", false);
+
+    final var normal = new Thread(() -> acquire(rateLimiter, false, acquired, "normal"));
+    normal.start();
+    await().atMost(1, TimeUnit.SECONDS).until(() -> rateLimiter.waiting() == 1);
+    final var urgent = new Thread(() -> acquire(rateLimiter, true, acquired, "urgent"));
+    urgent.start();
+    normal.join(2000);
+    urgent.join(2000);
+
+    assertThat(acquired).containsExactly("urgent", "normal");
+    assertThat(rateLimiter.waiting()).isZero();
+  }
+
+  @Test
+  void busyNamespaceDoesNotDelayTheOthersSharingTheVerbLimit() throws InterruptedException {
+    final var rateLimiter =
+        new TokenBucketRateLimiter().setPerVerbLimit(1000, 100).setPerNamespaceLimit(1, 1);
+    final List<String> acquired = new CopyOnWriteArrayList<>();
+    rateLimiter.acquire("updateStatus", "controller", "hot", false);
+
+    final var hot = new Thread(() -> acquire(rateLimiter, "hot", acquired));
+    hot.start();
+    await().atMost(1, TimeUnit.SECONDS).until(() -> rateLimiter.waiting() == 1);
+    final var start = System.nanoTime();
+    rateLimiter.acquire("updateStatus", "controller", "cold", false);
+    acquired.add("cold");
+
+    assertThat(System.nanoTime() - start).isLessThan(TimeUnit.MILLISECONDS.toNanos(500));
+    hot.join(2000);
+    assertThat(acquired).containsExactly("cold", "hot");
+  }
+
+  @Test
+  void evictsFullBucketsNobodyWaitsFor() throws InterruptedException {
+    final var rateLimiter = new TokenBucketRateLimiter(0).setPerNamespaceLimit(1000, 1);
+    rateLimiter.acquire("replace", "controller", "ns1", false);
+    rateLimiter.acquire("replace", "controller", "ns2", false);
+
+    await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> {
+      rateLimiter.acquire("replace", "controller", "ns3", false);
+      assertThat(rateLimiter.buckets()).isEqualTo(1);
+    });
+  }
+
+  @Test
+  void rejectsInvalidLimits() {
+    assertThatThrownBy(() -> new TokenBucketRateLimiter().setPerVerbLimit(0, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new TokenBucketRateLimiter().setPerVerbLimit(1, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static void acquire(RateLimiter rateLimiter, boolean urgent, List<String> acquired,
+      String name) {
+    try {
+      rateLimiter.acquire("updateStatus", "controller", "ns", urgent);
+      acquired.add(name);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void acquire(RateLimiter rateLimiter, String namespace, List<String> acquired) {
+    try {
+      rateLimiter.acquire("updateStatus", "controller", namespace, false);
+      acquired.add(namespace);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
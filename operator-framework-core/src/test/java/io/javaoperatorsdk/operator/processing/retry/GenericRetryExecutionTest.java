@@ -1,9 +1,15 @@
 package io.javaoperatorsdk.operator.processing.retry;
 
+import java.util.HashSet;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.javaoperatorsdk.operator.api.config.RetryConfiguration.Jitter;
+import io.javaoperatorsdk.operator.processing.ratelimit.ThrottlingUtils;
+
 import static io.javaoperatorsdk.operator.processing.retry.GenericRetry.DEFAULT_INITIAL_INTERVAL;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -83,6 +89,75 @@ public class GenericRetryExecutionTest {
     assertThat(retryExecution.getAttemptCount()).isEqualTo(1);
   }
 
+  @Test
+  public void fullJitterPicksDelayUpToExponentialInterval() {
+    for (int i = 0; i < 100; i++) {
+      RetryExecution retryExecution = GenericRetry.defaultLimitedExponentialRetry()
+          .setJitter(Jitter.FULL).initExecution();
+
+      assertThat(callNextDelayNTimes(retryExecution, 2).get()).isBetween(0L,
+          (long) (DEFAULT_INITIAL_INTERVAL * GenericRetry.DEFAULT_MULTIPLIER));
+    }
+  }
+
+  @Test
+  public void decorrelatedJitterStaysBetweenInitialAndMaxInterval() {
+    RetryExecution retryExecution = GenericRetry.defaultLimitedExponentialRetry()
+        .setJitter(Jitter.DECORRELATED).setMaxInterval(10000).withoutMaxAttempts().initExecution();
+    var delays = new HashSet<Long>();
+
+    for (int i = 0; i < 100; i++) {
+      var delay = retryExecution.nextDelay().get();
+      assertThat(delay).isBetween(DEFAULT_INITIAL_INTERVAL, 10000L);
+      delays.add(delay);
+    }
+    assertThat(delays).hasSizeGreaterThan(1);
+  }
+
+  @Test
+  public void retriesAccordingToClassification() {
+    RetryExecution retryExecution = GenericRetry.defaultLimitedExponentialRetry()
+        .setRetryClassifier(RetryClassifier.KUBERNETES_STATUS).initExecution();
+
+    assertThat(retryExecution.nextDelay(new KubernetesClientException("conflict", 409, null)))
+        .contains(RetryClassifier.CONFLICT_RETRY_DELAY_MILLIS);
+    assertThat(retryExecution.nextDelay(throttled(3))).contains(3000L);
+    // the classified retries count as attempts, so the backoff kept growing
+    assertThat(retryExecution.nextDelay(new IllegalStateException("test")))
+        .contains((long) (DEFAULT_INITIAL_INTERVAL * GenericRetry.DEFAULT_MULTIPLIER));
+    assertThat(retryExecution.getAttemptCount()).isEqualTo(3);
+    assertThat(retryExecution.nextDelay(new KubernetesClientException("invalid", 422, null)))
+        .isEmpty();
+    assertThat(retryExecution.isLastAttempt()).isTrue();
+    assertThat(retryExecution.isAbandoned()).isTrue();
+  }
+
+  @Test
+  public void classifiesWrappedClientExceptions() {
+    RetryExecution retryExecution = GenericRetry.defaultLimitedExponentialRetry()
+        .setRetryClassifier(RetryClassifier.KUBERNETES_STATUS).initExecution();
+
+    assertThat(retryExecution.nextDelay(new IllegalStateException(
+        new KubernetesClientException("invalid", 422, null)))).isEmpty();
+  }
+
+  @Test
+  public void doesNotRetryBeforeServerHintByDefault() {
+    RetryExecution retryExecution = getDefaultRetryExecution();
+
+    assertThat(retryExecution.nextDelay(throttled(5))).contains(5000L);
+    assertThat(retryExecution.nextDelay(throttled(1))).contains(DEFAULT_INITIAL_INTERVAL);
+  }
+
+  private static KubernetesClientException throttled(int retryAfterSeconds) {
+    final var status = new StatusBuilder()
+        .withCode(ThrottlingUtils.TOO_MANY_REQUESTS)
+        .withNewDetails().withRetryAfterSeconds(retryAfterSeconds).endDetails()
+        .build();
+    return new KubernetesClientException("too many requests", ThrottlingUtils.TOO_MANY_REQUESTS,
+        status);
+  }
+
   private RetryExecution getDefaultRetryExecution() {
     return GenericRetry.defaultLimitedExponentialRetry().initExecution();
   }
@@ -6,10 +6,14 @@ import java.util.function.Function;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.ControllerUtils;
 import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ReschedulingConfiguration;
+import io.javaoperatorsdk.operator.api.config.ResourceCacheConfiguration;
 import io.javaoperatorsdk.operator.api.reconciler.ControllerConfiguration;
 import io.javaoperatorsdk.operator.api.reconciler.Reconciler;
 import io.javaoperatorsdk.operator.processing.event.source.ResourceEventFilter;
 import io.javaoperatorsdk.operator.processing.event.source.ResourceEventFilters;
+import io.javaoperatorsdk.operator.processing.event.source.ResourcePruner;
+import io.javaoperatorsdk.operator.processing.event.source.ResourcePruners;
 
 public class AnnotationConfiguration<R extends HasMetadata>
     implements io.javaoperatorsdk.operator.api.config.ControllerConfiguration<R> {
@@ -58,6 +62,58 @@ public class AnnotationConfiguration<R extends HasMetadata>
     return valueOrDefault(annotation, ControllerConfiguration::labelSelector, "");
   }
 
+  @Override
+  public int getMaxConcurrentReconciliations() {
+    return valueOrDefault(annotation, ControllerConfiguration::maxConcurrentReconciliations,
+        ConfigurationService.NO_CONCURRENT_RECONCILIATION_LIMIT);
+  }
+
+  @Override
+  public long getDebounceWindowMillis() {
+    return valueOrDefault(annotation, ControllerConfiguration::debounceWindowMillis,
+        ControllerConfiguration.NO_DEBOUNCE);
+  }
+
+  @Override
+  public long getDebounceMaxWaitMillis() {
+    return valueOrDefault(annotation, ControllerConfiguration::debounceMaxWaitMillis,
+        ControllerConfiguration.NO_DEBOUNCE);
+  }
+
+  @Override
+  public ReschedulingConfiguration getReschedulingConfiguration() {
+    final var jitterPercentage = valueOrDefault(annotation,
+        ControllerConfiguration::rescheduleJitterPercentage, ReschedulingConfiguration.NO_JITTER);
+    final var phaseSpread =
+        valueOrDefault(annotation, ControllerConfiguration::reschedulePhaseSpread, false);
+    if (jitterPercentage == ReschedulingConfiguration.NO_JITTER && !phaseSpread) {
+      return ReschedulingConfiguration.DEFAULT;
+    }
+    return ReschedulingConfiguration.of(jitterPercentage, phaseSpread);
+  }
+
+  @Override
+  public boolean isReadOnlyResources() {
+    return valueOrDefault(annotation, ControllerConfiguration::readOnlyResources, false);
+  }
+
+  @Override
+  public ResourcePruner<R> getResourcePruner() {
+    return ResourcePruners.prune(
+        valueOrDefault(annotation, ControllerConfiguration::pruneManagedFields, false),
+        valueOrDefault(annotation, ControllerConfiguration::prunedAnnotations, new String[] {}));
+  }
+
+  @Override
+  public ResourceCacheConfiguration getResourceCacheConfiguration() {
+    if (!valueOrDefault(annotation, ControllerConfiguration::compactResourceCache, false)) {
+      return ResourceCacheConfiguration.DEFAULT;
+    }
+    return annotation.compactResourceCacheOffHeap()
+        ? ResourceCacheConfiguration.offHeap(annotation.compactResourceCacheHotResources())
+        : ResourceCacheConfiguration.compact(annotation.compactResourceCacheHotResources());
+  }
+
   @Override
   public ConfigurationService getConfigurationService() {
     return service;
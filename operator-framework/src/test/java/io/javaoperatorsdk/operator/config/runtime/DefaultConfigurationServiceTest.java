@@ -12,6 +12,7 @@ import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
 import io.javaoperatorsdk.operator.ControllerUtils;
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.api.reconciler.ControllerConfiguration;
 import io.javaoperatorsdk.operator.api.reconciler.Reconciler;
@@ -86,6 +87,17 @@ public class DefaultConfigurationServiceTest {
     assertFalse(configuration.isGenerationAware());
   }
 
+  @Test
+  public void returnsMaxConcurrentReconciliationsFromControllerAnnotation() {
+    assertEquals(ConfigurationService.NO_CONCURRENT_RECONCILIATION_LIMIT,
+        DefaultConfigurationService.instance().getConfigurationFor(new TestCustomReconciler())
+            .getMaxConcurrentReconciliations());
+    assertEquals(2,
+        DefaultConfigurationService.instance()
+            .getConfigurationFor(new TestCustomFinalizerReconciler())
+            .getMaxConcurrentReconciliations());
+  }
+
   @Test
   public void returnCustomerFinalizerNameIfSet() {
     final var reconciler = new TestCustomFinalizerReconciler();
@@ -105,7 +117,7 @@ public class DefaultConfigurationServiceTest {
         });
   }
 
-  @ControllerConfiguration(finalizerName = CUSTOM_FINALIZER_NAME)
+  @ControllerConfiguration(finalizerName = CUSTOM_FINALIZER_NAME, maxConcurrentReconciliations = 2)
   static class TestCustomFinalizerReconciler
       implements Reconciler<TestCustomFinalizerReconciler.InnerCustomResource> {
 
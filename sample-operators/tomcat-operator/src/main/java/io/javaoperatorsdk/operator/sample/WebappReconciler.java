@@ -17,6 +17,7 @@ import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.ExecListener;
 import io.fabric8.kubernetes.client.dsl.ExecWatch;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.api.reconciler.ControllerConfiguration;
 import io.javaoperatorsdk.operator.api.reconciler.DeleteControl;
@@ -29,9 +30,12 @@ import io.javaoperatorsdk.operator.processing.event.source.InformerEventSource;
 
 import okhttp3.Response;
 
-@ControllerConfiguration
+// exec calls can block for a long time, keep threads available for the Tomcat controller
+@ControllerConfiguration(maxConcurrentReconciliations = 3)
 public class WebappReconciler implements Reconciler<Webapp>, EventSourceInitializer<Webapp> {
 
+  private static final String TOMCAT_INDEX = "tomcat";
+
   private KubernetesClient kubernetesClient;
 
   private final Logger log = LoggerFactory.getLogger(getClass());
@@ -42,14 +46,16 @@ public class WebappReconciler implements Reconciler<Webapp>, EventSourceInitiali
 
   @Override
   public void prepareEventSources(EventSourceRegistry<Webapp> eventSourceRegistry) {
+    final var webappCache =
+        eventSourceRegistry.getControllerResourceEventSource().getResourceCache();
+    // Webapps are indexed by the Tomcat they're deployed on, which is in the same namespace
+    webappCache.addIndexer(TOMCAT_INDEX, webapp -> List.of(Cache.namespaceKeyFunc(
+        webapp.getMetadata().getNamespace(), webapp.getSpec().getTomcat())));
     InformerEventSource<Tomcat> tomcatEventSource =
         new InformerEventSource<>(kubernetesClient, Tomcat.class, t -> {
           // To create an event to a related WebApp resource and trigger the reconciliation
           // we need to find which WebApp this Tomcat custom resource is related to.
-          // To find the related customResourceId of the WebApp resource we traverse the cache to
-          // and identify it based on naming convention.
-          return eventSourceRegistry.getControllerResourceEventSource().getResourceCache()
-              .list(webApp -> webApp.getSpec().getTomcat().equals(t.getMetadata().getName()))
+          return webappCache.byIndex(TOMCAT_INDEX, Cache.metaNamespaceKeyFunc(t))
               .map(ResourceID::fromResource)
               .collect(Collectors.toSet());
         });